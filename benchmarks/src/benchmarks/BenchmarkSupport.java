@@ -0,0 +1,40 @@
+package benchmarks;
+
+import core.Game;
+import core.level.elements.ILevel;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+import core.systems.LevelSystem;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Shared setup for the benchmarks, none of it needs a window or an OpenGL context. */
+final class BenchmarkSupport {
+
+  private BenchmarkSupport() {}
+
+  /** Turn off the logging, the systems and the level generator log each step. */
+  static void silenceLogging() {
+    Logger.getLogger("").setLevel(Level.OFF);
+  }
+
+  /**
+   * Generate a level with the {@link RandomWalkGenerator} and make it the current level.
+   *
+   * @param size size of the level
+   * @return the generated level
+   */
+  static ILevel installLevel(final LevelSize size) {
+    ILevel level = new RandomWalkGenerator().level(DesignLabel.DEFAULT, size);
+    Game.add(new LevelSystem(null, null, () -> {}));
+    Game.currentLevel(level);
+    return level;
+  }
+
+  /** Remove all entities and systems that a benchmark added. */
+  static void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+}
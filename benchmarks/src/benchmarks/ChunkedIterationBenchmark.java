@@ -0,0 +1,116 @@
+package benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.utils.Point;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link System#parallelForEach}.
+ *
+ * <p>Compares a velocity step that iterates the entity stream with the same step split into
+ * parallel chunks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkedIterationBenchmark {
+
+  /** Number of moving entities. */
+  @Param({"1000", "10000", "50000"})
+  public int entityCount;
+
+  private MoveSystem serial;
+  private MoveSystem chunked;
+
+  /** Create the moving entities. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(i % 100, i % 100));
+      VelocityComponent vc = new VelocityComponent(5, 5);
+      vc.currentXVelocity(3);
+      vc.currentYVelocity(4);
+      entity.add(vc);
+      Game.add(entity);
+    }
+    serial = new MoveSystem(false);
+    chunked = new MoveSystem(true);
+    Game.add(serial);
+  }
+
+  /** Remove the entities and the systems. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /** Move the entities on the calling thread. */
+  @Benchmark
+  public void serial() {
+    serial.execute();
+  }
+
+  /** Move the entities in parallel chunks. */
+  @Benchmark
+  public void chunked() {
+    chunked.execute();
+  }
+
+  private static final class MoveSystem extends System {
+    private final boolean chunked;
+
+    private MoveSystem(boolean chunked) {
+      super(VelocityComponent.class, PositionComponent.class);
+      this.chunked = chunked;
+    }
+
+    @Override
+    public void execute() {
+      if (chunked) parallelForEach(this::move);
+      else entityStream().forEach(this::move);
+    }
+
+    // the arithmetic of the VelocitySystem, without the level lookups
+    private void move(final Entity entity) {
+      VelocityComponent vc = entity.fetch(VelocityComponent.class).orElseThrow();
+      PositionComponent pc = entity.fetch(PositionComponent.class).orElseThrow();
+      Vector2 velocity = new Vector2(vc.currentXVelocity(), vc.currentYVelocity());
+      float maxSpeed = Math.max(Math.abs(vc.xVelocity()), Math.abs(vc.yVelocity()));
+      if (velocity.len() > maxSpeed) {
+        velocity.nor();
+        velocity.scl(maxSpeed);
+      }
+      velocity.scl(1 / 30f);
+      Point position = pc.position();
+      float x = position.x + velocity.x;
+      float y = position.y + velocity.y;
+      // wrap around, float remainder is a runtime call and distorts the measurement
+      if (x > 100) x -= 100;
+      if (y > 100) y -= 100;
+      pc.position(new Point(x, y));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package benchmarks;
+
+import contrib.components.CollideComponent;
+import contrib.systems.CollisionSystem;
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link CollisionSystem#execute()} with a growing number of colliders. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+  private static final int AREA = 40;
+
+  /** Number of entities with a {@link CollideComponent}. */
+  @Param({"10", "100", "500"})
+  public int colliders;
+
+  private CollisionSystem system;
+
+  /** Spread the colliders over a square area, some of them overlap. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    system = new CollisionSystem();
+    Game.add(system);
+    Random random = new Random(42);
+    for (int i = 0; i < colliders; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(random.nextFloat() * AREA, random.nextFloat() * AREA));
+      entity.add(new CollideComponent());
+      Game.add(entity);
+    }
+  }
+
+  /** Remove the colliders and the system. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /** Check all pairs of colliders. */
+  @Benchmark
+  public void execute() {
+    system.execute();
+  }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import contrib.crafting.Crafting;
+import contrib.crafting.CraftingIngredient;
+import contrib.crafting.CraftingResult;
+import contrib.crafting.Recipe;
+import contrib.item.concreteItem.ItemPotionWater;
+import contrib.item.concreteItem.ItemResourceBerry;
+import contrib.item.concreteItem.ItemResourceEgg;
+import contrib.item.concreteItem.ItemResourceMushroomRed;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link Crafting#recipeByIngredients(CraftingIngredient[])}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CraftingBenchmark {
+  private static final List<Supplier<CraftingIngredient>> RESOURCES =
+      List.of(
+          ItemResourceBerry::new,
+          ItemResourceEgg::new,
+          ItemResourceMushroomRed::new,
+          ItemPotionWater::new);
+
+  /** Number of known recipes. */
+  @Param({"10", "80"})
+  public int recipeCount;
+
+  private CraftingIngredient[] match;
+  private CraftingIngredient[] miss;
+
+  /**
+   * Register one recipe for each combination of up to two of each resource.
+   *
+   * <p>The inputs of the matching lookup are the ingredients of the last recipe in reverse order.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    Crafting.clearRecipes();
+    List<CraftingIngredient> last = List.of();
+    for (int i = 1; i <= recipeCount; i++) {
+      List<CraftingIngredient> ingredients = new ArrayList<>();
+      int combination = i;
+      for (Supplier<CraftingIngredient> resource : RESOURCES) {
+        for (int count = 0; count < combination % 3; count++) ingredients.add(resource.get());
+        combination /= 3;
+      }
+      Crafting.addRecipe(
+          new Recipe(
+              i % 2 == 0,
+              ingredients.toArray(new CraftingIngredient[0]),
+              new CraftingResult[] {new ItemPotionWater()}));
+      last = ingredients;
+    }
+    List<CraftingIngredient> reversed = new ArrayList<>(last);
+    Collections.reverse(reversed);
+    match = reversed.toArray(new CraftingIngredient[0]);
+    // no recipe uses more than two of a resource
+    miss =
+        new CraftingIngredient[] {
+          new ItemResourceBerry(), new ItemResourceBerry(), new ItemResourceBerry()
+        };
+  }
+
+  /** Remove the recipes. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    Crafting.clearRecipes();
+  }
+
+  /**
+   * Look up a recipe that can be crafted.
+   *
+   * @return the found recipe
+   */
+  @Benchmark
+  public Optional<Recipe> matchingIngredients() {
+    return Crafting.recipeByIngredients(match);
+  }
+
+  /**
+   * Look up ingredients that no recipe uses.
+   *
+   * @return an empty Optional
+   */
+  @Benchmark
+  public Optional<Recipe> unknownIngredients() {
+    return Crafting.recipeByIngredients(miss);
+  }
+}
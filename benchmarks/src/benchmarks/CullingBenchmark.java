@@ -0,0 +1,105 @@
+package benchmarks;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+import core.level.utils.LevelSize;
+import core.systems.CameraSystem;
+import core.utils.Point;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the culling of the tiles in {@link CameraSystem}.
+ *
+ * <p>Compares the check of each tile with a new {@link BoundingBox} against the frustum with the
+ * iteration over the visible tile range of the camera.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CullingBenchmark {
+
+  /** Size of the generated level. */
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public LevelSize size;
+
+  private Tile[][] layout;
+
+  /** Generate a level and focus the camera on its start tile. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    GdxNativesLoader.load(); // the camera uses the native matrix functions
+    ILevel level = BenchmarkSupport.installLevel(size);
+    layout = level.layout();
+    Point start = level.startTile().position();
+    CameraSystem.camera().position.set(start.x, start.y, 0);
+    CameraSystem.camera().update();
+    CameraSystem.updateVisibleArea();
+  }
+
+  /** Remove the systems. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /**
+   * Check each tile of the level against the frustum, with a new bounding box for each tile.
+   *
+   * @return the number of visible tiles
+   */
+  @Benchmark
+  public int boundingBox() {
+    int visible = 0;
+    for (Tile[] tiles : layout)
+      for (Tile tile : tiles) {
+        Coordinate coordinate = tile.coordinate();
+        BoundingBox bounds =
+            new BoundingBox(
+                new Vector3(coordinate.x - 1, coordinate.y - 1, 0),
+                new Vector3(coordinate.x + 1, coordinate.y + 1, 0));
+        if (CameraSystem.camera().frustum.boundsInFrustum(bounds)) visible++;
+      }
+    return visible;
+  }
+
+  /**
+   * Check only the tiles in the visible tile range of the camera.
+   *
+   * @return the number of visible tiles
+   */
+  @Benchmark
+  public int tileRange() {
+    int visible = 0;
+    int firstX = Math.max(0, CameraSystem.firstVisibleTileX());
+    int lastX = Math.min(layout[0].length - 1, CameraSystem.lastVisibleTileX());
+    int firstY = Math.max(0, CameraSystem.firstVisibleTileY());
+    int lastY = Math.min(layout.length - 1, CameraSystem.lastVisibleTileY());
+    for (int y = firstY; y <= lastY; y++)
+      for (int x = firstX; x <= lastX; x++) {
+        Coordinate coordinate = layout[y][x].coordinate();
+        if (CameraSystem.isPointInFrustum(coordinate.x, coordinate.y)) visible++;
+      }
+    return visible;
+  }
+}
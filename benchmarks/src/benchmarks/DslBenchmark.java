@@ -0,0 +1,94 @@
+package benchmarks;
+
+import dsl.interpreter.DSLEntryPointFinder;
+import dsl.interpreter.DSLInterpreter;
+import dsl.parser.DungeonASTConverter;
+import dsl.parser.ast.Node;
+import entrypoint.DSLEntryPoint;
+import entrypoint.DungeonConfig;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for parsing and interpreting the bundled DSL scripts. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DslBenchmark {
+
+  /** Name of the script in the scripts folder of the dungeon assets. */
+  @Param({"example.dng", "internal_scenario_builder_usage.dng"})
+  public String script;
+
+  private String program;
+  private DSLEntryPoint entryPoint;
+  private Path file;
+
+  /**
+   * Read the script and find its first entry point.
+   *
+   * @throws IOException if the script cannot be read
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    BenchmarkSupport.silenceLogging();
+    try (InputStream stream =
+        Objects.requireNonNull(getClass().getResourceAsStream("/scripts/" + script))) {
+      program = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    // the entry point finder works on files, the script may be packed in a jar
+    file = Files.createTempFile("benchmark", ".dng");
+    Files.writeString(file, program);
+    entryPoint = new DSLEntryPointFinder().getEntryPoints(file).orElseThrow().get(0);
+  }
+
+  /**
+   * Delete the copy of the script.
+   *
+   * @throws IOException if the file cannot be deleted
+   */
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Parse the script and convert the parse tree into the AST.
+   *
+   * @return the AST
+   */
+  @Benchmark
+  public Node parse() {
+    return DungeonASTConverter.getProgramAST(program);
+  }
+
+  /**
+   * Run the semantic analysis and the interpreter on the entry point of the script.
+   *
+   * @return the interpreted dungeon config
+   */
+  @Benchmark
+  public DungeonConfig interpret() {
+    return new DSLInterpreter().interpretEntryPoint(entryPoint);
+  }
+}
@@ -0,0 +1,99 @@
+package benchmarks;
+
+import core.Component;
+import core.Entity;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.game.ECSManagment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for adding, removing, and streaming entities in the {@link ECSManagment}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EcsBenchmark {
+  private static final Set<Class<? extends Component>> MOVING =
+      Set.of(PositionComponent.class, VelocityComponent.class);
+
+  /** Number of entities in the game. */
+  @Param({"100", "1000", "10000"})
+  public int entityCount;
+
+  private final List<Entity> entities = new ArrayList<>();
+
+  /** Create the entities, every second entity can move. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(i, i));
+      if (i % 2 == 0) entity.add(new VelocityComponent());
+      entities.add(entity);
+    }
+  }
+
+  /** Add the entities to the game for the stream benchmarks. */
+  @Setup(Level.Iteration)
+  public void addEntities() {
+    entities.forEach(ECSManagment::add);
+  }
+
+  /** Remove the entities after each iteration. */
+  @TearDown(Level.Iteration)
+  public void removeEntities() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /**
+   * Remove all entities and add them again.
+   *
+   * @return number of entities afterwards
+   */
+  @Benchmark
+  public long removeAndAdd() {
+    for (Entity entity : entities) ECSManagment.remove(entity);
+    for (Entity entity : entities) ECSManagment.add(entity);
+    return ECSManagment.entityStream().count();
+  }
+
+  /**
+   * Stream all entities.
+   *
+   * @param blackhole consumes the entities
+   */
+  @Benchmark
+  public void entityStream(final Blackhole blackhole) {
+    ECSManagment.entityStream().forEach(blackhole::consume);
+  }
+
+  /**
+   * Stream the entities with a filter, like a system does.
+   *
+   * @param blackhole consumes the entities
+   */
+  @Benchmark
+  public void filteredEntityStream(final Blackhole blackhole) {
+    ECSManagment.entityStream(MOVING).forEach(blackhole::consume);
+  }
+}
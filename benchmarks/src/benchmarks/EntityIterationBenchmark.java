@@ -0,0 +1,102 @@
+package benchmarks;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the per-frame iteration cost of the systems.
+ *
+ * <p>Fills the game with entities in different component combinations and lets three systems with
+ * overlapping filters iterate over their entities. Run it with {@code -prof gc} to see the
+ * allocated bytes per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityIterationBenchmark {
+
+  /** Number of entities in the game. */
+  @Param({"1000", "10000"})
+  public int entityCount;
+
+  private List<IterationSystem> systems;
+
+  /** Create the systems and the entities. */
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    systems =
+        List.of(
+            // anonymous subclasses, the game stores only one system per class
+            new IterationSystem(PositionComponent.class) {},
+            new IterationSystem(PositionComponent.class, VelocityComponent.class) {},
+            new IterationSystem(VelocityComponent.class, MarkerComponent.class) {});
+    systems.forEach(Game::add);
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(i, i));
+      if (i % 2 == 0) entity.add(new VelocityComponent());
+      if (i % 4 == 0) entity.add(new MarkerComponent());
+      Game.add(entity);
+    }
+  }
+
+  /** Remove the entities and the systems. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /**
+   * Execute each system once, like a frame does.
+   *
+   * @param blackhole consumes the entities
+   */
+  @Benchmark
+  public void frame(final Blackhole blackhole) {
+    for (IterationSystem system : systems) {
+      system.blackhole = blackhole;
+      system.execute();
+    }
+  }
+
+  private static final class MarkerComponent implements Component {}
+
+  private abstract static class IterationSystem extends System {
+    private Blackhole blackhole;
+
+    @SafeVarargs
+    private IterationSystem(Class<? extends Component>... filter) {
+      super(filter);
+    }
+
+    @Override
+    public void execute() {
+      entityStream().forEach(blackhole::consume);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package benchmarks;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for spawning entities into a populated level.
+ *
+ * <p>Registers a wave of new entities and adds eight components to each of them, like a monster
+ * factory does. The cost per spawned entity should not depend on the number of entities that
+ * already exist.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntitySpawnBenchmark {
+  private static final int WAVE_SIZE = 500;
+
+  /** Number of entities that already exist. */
+  @Param({"1000", "10000"})
+  public int entityCount;
+
+  private final List<Entity> spawned = new ArrayList<>(WAVE_SIZE);
+
+  /** Create the systems and the existing entities. */
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    Game.add(new SpawnSystem(PositionComponent.class, VelocityComponent.class) {});
+    Game.add(new SpawnSystem(Marker1.class, Marker2.class) {});
+    Game.add(new SpawnSystem(PositionComponent.class, Marker3.class) {});
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(i, i));
+      Game.add(entity);
+    }
+  }
+
+  /** Remove the entities and the systems. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /** Remove the spawned wave, so each invocation spawns into the same level. */
+  @TearDown(Level.Invocation)
+  public void removeWave() {
+    spawned.forEach(Game::remove);
+    spawned.clear();
+  }
+
+  /**
+   * Spawn one wave of entities.
+   *
+   * @return the spawned entities
+   */
+  @Benchmark
+  public List<Entity> wave() {
+    for (int i = 0; i < WAVE_SIZE; i++) {
+      Entity monster = new Entity();
+      Game.add(monster);
+      monster.add(new PositionComponent(i, i));
+      monster.add(new VelocityComponent());
+      monster.add(new Marker1());
+      monster.add(new Marker2());
+      monster.add(new Marker3());
+      monster.add(new Marker4());
+      monster.add(new Marker5());
+      monster.add(new Marker6());
+      spawned.add(monster);
+    }
+    return spawned;
+  }
+
+  private static final class Marker1 implements Component {}
+
+  private static final class Marker2 implements Component {}
+
+  private static final class Marker3 implements Component {}
+
+  private static final class Marker4 implements Component {}
+
+  private static final class Marker5 implements Component {}
+
+  private static final class Marker6 implements Component {}
+
+  private abstract static class SpawnSystem extends System {
+    @SafeVarargs
+    private SpawnSystem(Class<? extends Component>... filter) {
+      super(filter);
+    }
+
+    @Override
+    public void execute() {}
+  }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import core.Entity;
+import core.Game;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.level.utils.LevelSize;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import systems.FogOfWarSystem;
+
+/** Benchmarks for the {@link FogOfWarSystem} of the devDungeon. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FogOfWarBenchmark {
+
+  /** Size of the generated level. */
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public LevelSize size;
+
+  private FogOfWarSystem system;
+
+  /** Generate a level and place a hero on its start tile. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    Entity hero = new Entity("hero");
+    hero.add(new PositionComponent(BenchmarkSupport.installLevel(size).startTile().position()));
+    hero.add(new PlayerComponent());
+    Game.add(hero);
+    system = new FogOfWarSystem();
+    Game.add(system);
+  }
+
+  /** Remove the hero and the systems. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /** Cast the light around the hero and darken the other tiles. */
+  @Benchmark
+  public void execute() {
+    system.execute();
+  }
+}
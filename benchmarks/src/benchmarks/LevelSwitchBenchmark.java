@@ -0,0 +1,130 @@
+package benchmarks;
+
+import contrib.components.CollideComponent;
+import contrib.components.HealthComponent;
+import contrib.systems.CollisionSystem;
+import contrib.systems.HealthSystem;
+import contrib.systems.HudSystem;
+import contrib.systems.ProjectileSystem;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.game.HeadlessGameLoop;
+import core.game.PreRunConfiguration;
+import core.level.elements.ILevel;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for a level switch: two populated levels are loaded in turn, as if the hero walked
+ * back and forth through a door.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelSwitchBenchmark {
+
+  /** Number of entities on each level. */
+  @Param({"100", "1000"})
+  public int entities;
+
+  private ILevel first;
+  private ILevel second;
+  private boolean toFirst = true;
+
+  /** Create the systems of the game loop and two populated levels. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    PreRunConfiguration.userOnSetup(
+        () -> {
+          Game.add(new CollisionSystem());
+          Game.add(new HealthSystem());
+          Game.add(new HudSystem());
+          Game.add(new ProjectileSystem());
+          Game.add(new StateSystem());
+        });
+    // the first step creates the level system that switches the levels
+    new HeadlessGameLoop().step();
+    Random random = new Random(42);
+    first = populate(random);
+    second = populate(random);
+  }
+
+  /** Remove the entities and the systems. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    PreRunConfiguration.userOnSetup(() -> {});
+    BenchmarkSupport.cleanup();
+  }
+
+  /**
+   * Load the other level.
+   *
+   * @return the loaded level
+   */
+  @Benchmark
+  public ILevel switchLevel() {
+    ILevel next = toFirst ? first : second;
+    toFirst = !toFirst;
+    Game.currentLevel(next);
+    return next;
+  }
+
+  private ILevel populate(final Random random) {
+    ILevel level = new RandomWalkGenerator().level(DesignLabel.DEFAULT, LevelSize.MEDIUM);
+    Game.currentLevel(level);
+    for (int i = 0; i < entities; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(level.randomTilePoint(LevelElement.FLOOR)));
+      entity.add(new VelocityComponent(random.nextFloat(), random.nextFloat()));
+      entity.add(new CollideComponent());
+      entity.add(new HealthComponent());
+      Game.add(entity);
+    }
+    return level;
+  }
+
+  // keeps a state for each entity, like the progress bars of the HealthBarSystem
+  private static final class StateSystem extends System {
+    private final Map<Entity, float[]> states = new HashMap<>();
+
+    private StateSystem() {
+      super(HealthComponent.class);
+      onEntityAdd = entity -> states.put(entity, new float[32]);
+      onEntityRemove = states::remove;
+      // keeps the states of an inactive level, as the HealthBarSystem keeps its bars
+      onLevelDeactivate = entities -> {};
+      onLevelActivate =
+          entities ->
+              entities.forEach(entity -> states.computeIfAbsent(entity, e -> new float[32]));
+    }
+
+    @Override
+    public void execute() {}
+  }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import core.level.Tile;
+import core.level.utils.LevelSize;
+import core.level.utils.LevelUtils;
+import core.utils.Point;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link LevelUtils#tilesInRange(Point, float)}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelUtilsBenchmark {
+
+  /** Radius of the range in tiles. */
+  @Param({"3", "7", "15"})
+  public float radius;
+
+  private Point center;
+
+  /** Generate a level and use its start tile as center. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    center = BenchmarkSupport.installLevel(LevelSize.MEDIUM).startTile().position();
+  }
+
+  /** Remove the level system. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /**
+   * Collect the tiles in range.
+   *
+   * @return the tiles in range
+   */
+  @Benchmark
+  public List<Tile> tilesInRange() {
+    return LevelUtils.tilesInRange(center, radius);
+  }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link ILevel#findPath(Tile, Tile)} on generated levels. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+
+  /** Size of the generated level. */
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public LevelSize size;
+
+  private ILevel level;
+  private Tile start;
+  private Tile end;
+
+  /**
+   * Generate the level and pick the two floor tiles that are farthest apart along the axes.
+   *
+   * <p>The generator is random, the path between the extreme tiles keeps the runs comparable.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    level = new RandomWalkGenerator().level(DesignLabel.DEFAULT, size);
+    for (Tile tile : level.floorTiles()) {
+      if (start == null || sum(tile) < sum(start)) start = tile;
+      if (end == null || sum(tile) > sum(end)) end = tile;
+    }
+  }
+
+  /**
+   * Find the path through the level.
+   *
+   * @return the path
+   */
+  @Benchmark
+  public GraphPath<Tile> findPath() {
+    return level.findPath(start, end);
+  }
+
+  private static int sum(final Tile tile) {
+    return tile.coordinate().x + tile.coordinate().y;
+  }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import contrib.components.CollideComponent;
+import contrib.components.HealthComponent;
+import contrib.utils.components.ContribSerializers;
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.level.elements.ILevel;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+import core.utils.snapshot.Snapshot;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link Snapshot}: generating and populating a level compared to restoring it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+  private static final int ENTITIES = 200;
+
+  /** Size of the generated level. */
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public LevelSize size;
+
+  private byte[] snapshot;
+
+  /** Generate a level with entities and save it. */
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkSupport.silenceLogging();
+    ContribSerializers.register();
+    ILevel level = BenchmarkSupport.installLevel(size);
+    populate(level).forEach(Game::add);
+    snapshot = Snapshot.capture();
+  }
+
+  /** Remove the entities and the systems. */
+  @TearDown(Level.Trial)
+  public void cleanup() {
+    BenchmarkSupport.cleanup();
+  }
+
+  /**
+   * Generate the level and its entities again.
+   *
+   * @return the generated entities
+   */
+  @Benchmark
+  public List<Entity> regenerate() {
+    return populate(new RandomWalkGenerator().level(DesignLabel.DEFAULT, size));
+  }
+
+  /**
+   * Read the level and its entities from the snapshot.
+   *
+   * @return the restored world
+   * @throws IOException never, the snapshot is in memory
+   */
+  @Benchmark
+  public Snapshot.World restore() throws IOException {
+    return Snapshot.read(new ByteArrayInputStream(snapshot));
+  }
+
+  /**
+   * Save the current level and its entities.
+   *
+   * @return the snapshot
+   */
+  @Benchmark
+  public byte[] capture() {
+    return Snapshot.capture();
+  }
+
+  private static List<Entity> populate(final ILevel level) {
+    List<Entity> entities = new ArrayList<>(ENTITIES);
+    for (int i = 0; i < ENTITIES; i++) {
+      Entity entity = new Entity("monster");
+      entity.add(new PositionComponent(level.randomTile(LevelElement.FLOOR).position()));
+      entity.add(new VelocityComponent(2, 2));
+      entity.add(new HealthComponent(10, e -> {}));
+      entity.add(new CollideComponent());
+      entities.add(entity);
+    }
+    return entities;
+  }
+}
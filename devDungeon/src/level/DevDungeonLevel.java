@@ -5,6 +5,7 @@ import core.level.TileLevel;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.path.IPath;
 import java.io.*;
@@ -23,7 +24,7 @@ import starter.DevDungeon;
  */
 public class DevDungeonLevel extends TileLevel {
 
-  protected static final Random RANDOM = new Random();
+  protected static final Random RANDOM = GameRandom.shared();
   private final List<Coordinate> customPoints = new ArrayList<>();
   private final List<Coordinate> tpTargets = new ArrayList<>();
 
@@ -152,6 +152,7 @@ public class BossLevel extends DevDungeonLevel implements ITickable, IHealthObse
    * @see #getBossAttackChangeDelay()
    */
   private void handleBossAttacks() {
+    if (this.boss == null) return;
     AIComponent aiComp =
         this.boss
             .fetch(AIComponent.class)
@@ -193,6 +194,9 @@ public class BossLevel extends DevDungeonLevel implements ITickable, IHealthObse
     invComp.add(new ItemReward());
 
     // TODO: Drop item on death.
+
+    // the boss is returned to the monster pool and may come back as another monster
+    this.boss = null;
   }
 
   /**
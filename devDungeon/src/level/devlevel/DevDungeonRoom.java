@@ -6,6 +6,7 @@ import core.Entity;
 import core.Game;
 import core.level.Tile;
 import core.level.utils.Coordinate;
+import core.utils.GameRandom;
 import java.util.List;
 import utils.EntityUtils;
 
@@ -106,7 +107,7 @@ public class DevDungeonRoom {
       mobs[i] =
           EntityUtils.spawnMonster(
               IllusionRiddleLevel.MONSTER_TYPES[
-                  (int) (Math.random() * IllusionRiddleLevel.MONSTER_TYPES.length)],
+                  GameRandom.shared().nextInt(IllusionRiddleLevel.MONSTER_TYPES.length)],
               mobSpawns[i]);
       if (mobs[i] != null)
         mobs[i]
@@ -23,6 +23,7 @@ import core.level.elements.tile.PitTile;
 import core.level.elements.tile.WallTile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
+import core.utils.GameRandom;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
 import entities.levercommands.BridgeControlCommand;
@@ -160,7 +161,7 @@ public class BridgeGuardRiddleHandler implements ITickable, IHealthObserver {
     lastRiddle.taskName("Riddle: Bridge Guard");
 
     for (int i = 0; i < 6; i++) {
-      lastRiddle.addAnswer(new Quiz.Content("" + (int) (Math.random() * Integer.MAX_VALUE)));
+      lastRiddle.addAnswer(new Quiz.Content("" + GameRandom.shared().nextInt(Integer.MAX_VALUE)));
     }
     lastRiddle.addCorrectAnswerIndex(0);
 
@@ -201,6 +202,8 @@ public class BridgeGuardRiddleHandler implements ITickable, IHealthObserver {
       LevelUtils.changeVisibilityForArea(this.riddleRoomBounds[0], this.riddleRoomBounds[1], true);
       ((DoorTile) this.level.tileAt(this.riddleRoomEntrance)).open();
       ((DoorTile) this.level.tileAt(this.riddleRoomExit)).open();
+      // the guard is returned to the monster pool and may come back as another monster
+      this.bridgeGuard = null;
     }
   }
 
@@ -2,6 +2,7 @@ package level.utils;
 
 import core.Game;
 import core.level.elements.ILevel;
+import core.utils.GameRandom;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
@@ -16,7 +17,7 @@ import level.DevDungeonLevel;
 public class DungeonLoader {
 
   private static final Logger LOGGER = Logger.getLogger(DungeonLoader.class.getSimpleName());
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private static final String LEVEL_PATH_PREFIX = "/levels";
   private static final Map<String, List<String>> LEVELS = new HashMap<>();
 
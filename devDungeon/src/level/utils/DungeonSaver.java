@@ -1,5 +1,6 @@
 package level.utils;
 
+import contrib.utils.components.ContribSerializers;
 import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
@@ -7,6 +8,14 @@ import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
+import core.utils.snapshot.Snapshot;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import level.DevDungeonLevel;
@@ -17,6 +26,9 @@ import level.DevDungeonLevel;
  * layout of the current level to the console. This String can then be copied and pasted into a
  * .level file to be loaded later by the {@link DungeonLoader}.
  *
+ * <p>{@link #saveSnapshot(Path)} saves the level together with its entities as binary {@link
+ * Snapshot}, which {@link #loadSnapshot(Path)} restores without generating the level again.
+ *
  * @see DungeonLoader
  */
 public class DungeonSaver {
@@ -73,6 +85,37 @@ public class DungeonSaver {
     System.out.println(result);
   }
 
+  /**
+   * Save the current level and its entities as binary snapshot.
+   *
+   * @param file the file to write the snapshot to
+   * @throws IOException if the file can not be written
+   * @see Snapshot#write(OutputStream)
+   */
+  public static void saveSnapshot(final Path file) throws IOException {
+    ContribSerializers.register();
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+      Snapshot.write(out);
+    }
+  }
+
+  /**
+   * Load a snapshot that was saved with {@link #saveSnapshot(Path)} into the game.
+   *
+   * <p>The level of the snapshot becomes the current level and its entities are added to the game.
+   * The entities of the previous level stay with the previous level.
+   *
+   * @param file the file to read the snapshot from
+   * @throws IOException if the file can not be read
+   * @see Snapshot#restore(InputStream)
+   */
+  public static void loadSnapshot(final Path file) throws IOException {
+    ContribSerializers.register();
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+      Snapshot.restore(in);
+    }
+  }
+
   /**
    * The compressDungeonLayout method takes a multi-line string as input and returns a string where
    * all lines containing only 'S' are removed. It does this by using the replaceAll method with a
@@ -2,7 +2,6 @@ package systems;
 
 import components.MagicShieldComponent;
 import components.ReviveComponent;
-import contrib.entities.IHealthObserver;
 import contrib.systems.HealthSystem;
 import contrib.utils.components.health.DamageType;
 import java.util.stream.Stream;
@@ -48,8 +47,6 @@ public class DevHealthSystem extends HealthSystem {
     msc.hit(damage);
     this.doDamageAndAnimation(hsd, heal);
     hsd.hc().clearDamage();
-    this.observers.forEach(
-        observer -> observer.onHeathEvent(hsd.e(), hsd.hc(), IHealthObserver.HealthEvent.DAMAGE));
     return hsd;
   }
 
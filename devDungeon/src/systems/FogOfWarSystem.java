@@ -126,14 +126,13 @@ public class FogOfWarSystem extends System {
           break;
         } else {
           // Our light beam is touching this square; light it
-          if (dx * dx + dy * dy < radius * radius) {
-            Tile tile = Game.tileAT(new Point(X, Y));
-            visibleTiles.add(tile);
-          }
           Tile tile = Game.tileAT(new Point(X, Y));
-          if (tile == null) {
+          if (tile == null) { // outside the level
             continue;
           }
+          if (dx * dx + dy * dy < radius * radius) {
+            visibleTiles.add(tile);
+          }
           if (blocked) { // previous step was a blocking square
 
             if (!tile.canSeeThrough()) { // this step is a blocking square
@@ -28,6 +28,11 @@ public class LevelEditorSystem extends System {
   private static final int maxFillRange = 100;
   private static boolean active = true;
 
+  /** Create a new LevelEditorSystem, it polls the input in each frame. */
+  public LevelEditorSystem() {
+    markAsRenderSystem();
+  }
+
   public static boolean active() {
     return active;
   }
@@ -6,12 +6,12 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.game.Query;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelUtils;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +28,7 @@ import java.util.Map;
  */
 public class MobSpawnerSystem extends System {
 
+  private static final Query MOBS = Query.of(AIComponent.class);
   private final Map<MobSpawnerComponent, Long> lastSpawnTimes = new HashMap<>();
 
   /**
@@ -164,7 +165,7 @@ public class MobSpawnerSystem extends System {
    * @return A list of entities around the given position within the given radius.
    */
   private List<Entity> getEntitiesAround(Point position, int radius) {
-    return Game.entityStream(Collections.singleton(AIComponent.class)) // mobs
+    return MOBS.stream()
         .filter(
             entity -> {
               PositionComponent entityPosition =
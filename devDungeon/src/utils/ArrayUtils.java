@@ -1,5 +1,6 @@
 package utils;
 
+import core.utils.GameRandom;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -17,7 +18,7 @@ public class ArrayUtils {
    */
   public static <T> List<T> getRandomElements(T[] array, int n) {
     List<T> list = Arrays.asList(array);
-    Collections.shuffle(list);
+    Collections.shuffle(list, GameRandom.shared());
     return list.subList(0, n);
   }
 }
@@ -1,5 +1,6 @@
 package utils;
 
+import core.utils.GameRandom;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,7 +18,7 @@ public class DevRiddle {
 
   public void shuffleAnswers() {
     String correctAnswer = this.answers.get(this.correctAnswerIndex);
-    Collections.shuffle(this.answers);
+    Collections.shuffle(this.answers, GameRandom.shared());
     this.correctAnswerIndex = this.answers.indexOf(correctAnswer);
   }
 
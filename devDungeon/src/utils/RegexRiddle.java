@@ -1,5 +1,6 @@
 package utils;
 
+import core.utils.GameRandom;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -84,8 +85,8 @@ public enum RegexRiddle {
         restRiddles.add(riddle);
       }
     }
-    Collections.shuffle(startRiddles);
-    Collections.shuffle(restRiddles);
+    Collections.shuffle(startRiddles, GameRandom.shared());
+    Collections.shuffle(restRiddles, GameRandom.shared());
 
     List<RegexRiddle> selectedRiddles = new ArrayList<>();
     selectedRiddles.add(startRiddles.getFirst());
@@ -3,6 +3,7 @@ package contrib.components;
 import core.Component;
 import core.Entity;
 import core.components.PositionComponent;
+import core.game.ComponentType;
 import core.level.Tile;
 import core.utils.Point;
 import core.utils.TriConsumer;
@@ -51,6 +52,8 @@ public final class CollideComponent implements Component {
   public static final TriConsumer<Entity, Entity, Tile.Direction> DEFAULT_COLLIDER =
       (a, b, c) -> {};
 
+  private static final ComponentType<PositionComponent> POSITION =
+      ComponentType.of(PositionComponent.class);
   private final Point offset;
   private final Point size;
   private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
@@ -141,10 +144,7 @@ public final class CollideComponent implements Component {
    * @return Bottom-left point of the entity's hitbox
    */
   public Point bottomLeft(final Entity entity) {
-    PositionComponent pc =
-        entity
-            .fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    PositionComponent pc = position(entity);
     return new Point(pc.position().x + offset.x, pc.position().y + offset.y);
   }
 
@@ -155,10 +155,7 @@ public final class CollideComponent implements Component {
    * @return Top-right point of the entity's hitbox
    */
   public Point topRight(final Entity entity) {
-    PositionComponent pc =
-        entity
-            .fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    PositionComponent pc = position(entity);
     return new Point(pc.position().x + offset.x + size.x, pc.position().y + offset.y + size.y);
   }
 
@@ -169,14 +166,17 @@ public final class CollideComponent implements Component {
    * @return Center point of the entity's hitbox
    */
   public Point center(final Entity entity) {
-    PositionComponent pc =
-        entity
-            .fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    PositionComponent pc = position(entity);
     return new Point(
         pc.position().x + offset.x + size.x / 2, pc.position().y + offset.y + size.y / 2);
   }
 
+  private static PositionComponent position(final Entity entity) {
+    PositionComponent pc = entity.get(POSITION);
+    if (pc == null) throw MissingComponentException.build(entity, PositionComponent.class);
+    return pc;
+  }
+
   /**
    * Set function to execute at start of a collision.
    *
@@ -195,6 +195,33 @@ public final class CollideComponent implements Component {
     this.collideLeave = collideLeave;
   }
 
+  /**
+   * Get the function to execute at start of a collision.
+   *
+   * @return the collideMethod of the associated entity
+   */
+  public TriConsumer<Entity, Entity, Tile.Direction> collideEnter() {
+    return collideEnter;
+  }
+
+  /**
+   * Get the function to execute at end of a collision.
+   *
+   * @return the collideMethod of the associated entity
+   */
+  public TriConsumer<Entity, Entity, Tile.Direction> collideLeave() {
+    return collideLeave;
+  }
+
+  /**
+   * Get the offset of the hitbox to the position.
+   *
+   * @return the offset of the component
+   */
+  public Point offset() {
+    return new Point(offset);
+  }
+
   /**
    * Get the size of the hitbox.
    *
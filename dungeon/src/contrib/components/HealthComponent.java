@@ -35,9 +35,15 @@ import java.util.logging.Logger;
  */
 @DSLType(name = "health_component")
 public final class HealthComponent implements Component {
+  /** The default death behaviour, does nothing. */
+  public static final Consumer<Entity> DEFAULT_ON_DEATH = entity -> {};
+
+  /** The default hit behaviour, does nothing. */
+  public static final BiConsumer<Entity, Damage> DEFAULT_ON_HIT = (entity, damage) -> {};
+
   private final List<Damage> damageToGet;
   private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
-  private BiConsumer<Entity, Damage> onHit = (entity, damage) -> {};
+  private BiConsumer<Entity, Damage> onHit = DEFAULT_ON_HIT;
   private @DSLCallback(name = "on_death") Consumer<Entity> onDeath;
   private @DSLTypeMember(name = "max_health") int maximalHealthpoints;
   private @DSLTypeMember(name = "start_health") int currentHealthpoints;
@@ -65,7 +71,7 @@ public final class HealthComponent implements Component {
    * <p>The maximum health points are set to 1, and the onDeath function is empty.
    */
   public HealthComponent() {
-    this(1, onDeath -> {});
+    this(1, DEFAULT_ON_DEATH);
   }
 
   /**
@@ -101,6 +107,15 @@ public final class HealthComponent implements Component {
     this.onDeath = onDeath;
   }
 
+  /**
+   * Get the onDeath function.
+   *
+   * @return the function that gets called when the associated entity dies
+   */
+  public Consumer<Entity> onDeath() {
+    return onDeath;
+  }
+
   /**
    * Set the onHit function.
    *
@@ -113,6 +128,15 @@ public final class HealthComponent implements Component {
     this.onHit = onHit;
   }
 
+  /**
+   * Get the onHit function.
+   *
+   * @return the function that gets called when the associated entity receives damage
+   */
+  public BiConsumer<Entity, Damage> onHit() {
+    return onHit;
+  }
+
   /**
    * Calculate the amount of damage to a certain type.
    *
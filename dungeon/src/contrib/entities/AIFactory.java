@@ -17,6 +17,7 @@ import contrib.utils.components.skill.Skill;
 import contrib.utils.components.skill.SkillTools;
 import core.Entity;
 import core.Game;
+import core.utils.GameRandom;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -35,7 +36,7 @@ import java.util.stream.Stream;
  */
 public final class AIFactory {
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
 
   // FightAI Parameters:
   // CollideAI
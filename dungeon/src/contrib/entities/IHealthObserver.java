@@ -9,6 +9,9 @@ import core.Entity;
  * <p>This interface is specifically designed to observe health events in the game. It defines a
  * single method, onHealthEvent, which is called to notify the observer of health-related changes in
  * the entity it is observing.
+ *
+ * <p>The observer is called when the {@link core.game.EventBus} dispatches the events of the {@link
+ * contrib.systems.HealthSystem}, after the systems of the frame were executed.
  */
 public interface IHealthObserver {
   /**
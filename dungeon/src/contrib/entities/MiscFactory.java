@@ -13,6 +13,7 @@ import contrib.utils.components.item.ItemGenerator;
 import core.Entity;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.draw.CoreAnimations;
 import core.utils.components.path.SimpleIPath;
@@ -25,7 +26,7 @@ import java.util.stream.IntStream;
 /** A utility class for building different miscellaneous entities in the game world. */
 public final class MiscFactory {
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private static final int DEFAULT_CHEST_SIZE = 12;
   private static final int MAX_AMOUNT_OF_ITEMS_ON_RANDOM = 5;
   private static final int MIN_AMOUNT_OF_ITEMS_ON_RANDOM = 1;
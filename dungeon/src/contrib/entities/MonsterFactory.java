@@ -12,17 +12,22 @@ import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.Prefab;
+import core.utils.GameRandom;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 /** A utility class for building monster entities in the game world. */
 public final class MonsterFactory {
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
 
   private static final IPath[] MONSTER_FILE_PATHS = {
     new SimpleIPath("character/monster/chort"),
@@ -47,6 +52,8 @@ public final class MonsterFactory {
   private static final int MONSTER_COLLIDE_DAMAGE = 2;
   private static final int MONSTER_COLLIDE_COOL_DOWN = 2 * Game.frameRate();
   private static final int MAX_DISTANCE_FOR_DEATH_SOUND = 15;
+  // one pool per texture, the components that depend on the parameters are added on each build
+  private static final Map<String, Prefab> PREFABS = new ConcurrentHashMap<>();
 
   /**
    * Get an Entity that can be used as a monster.
@@ -143,6 +150,13 @@ public final class MonsterFactory {
   /**
    * Builds a monster entity with the given parameters.
    *
+   * <p>The entity is taken from a {@link Prefab} per texture: the {@link DrawComponent}, {@link
+   * VelocityComponent} and {@link CollideComponent} of a dead monster are reused. A monster that
+   * was removed from the game is returned to the pool after the events of its removal were
+   * dispatched, so the observers of its {@link contrib.systems.HealthSystem.DeathEvent} can still
+   * use it. Do not keep a reference to the monster after that: drop it in the death callback, or
+   * keep the {@link core.EntityHandle} of the monster instead.
+   *
    * @param name The name of the monster.
    * @param texture The path to the texture to use for the monster.
    * @param health The health of the monster.
@@ -155,7 +169,7 @@ public final class MonsterFactory {
    * @param collideCooldown The cooldown time between monster's collision damage.
    * @param idleSoundPath The sound component for the monster's idle sound. If empty, no sound will
    *     be played.
-   * @return A new Entity representing the monster.
+   * @return An Entity representing the monster.
    * @throws IOException if the animation could not be loaded.
    */
   public static Entity buildMonster(
@@ -170,7 +184,13 @@ public final class MonsterFactory {
       int collideCooldown,
       IPath idleSoundPath)
       throws IOException {
-    Entity monster = new Entity(name);
+    Entity monster;
+    try {
+      monster = prefab(texture).acquire();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    monster.name(name);
     // rolls a dice for item chance (itemChance == 0 means no item, 1.0 means always item)
     BiConsumer<Entity, Entity> onDeath;
     if (RANDOM.nextFloat() < itemChance) {
@@ -195,9 +215,9 @@ public final class MonsterFactory {
       ai = AIFactory.randomAI(monster);
     }
     monster.add(ai);
-    monster.add(new DrawComponent(texture));
-    monster.add(new VelocityComponent(speed, speed));
-    monster.add(new CollideComponent());
+    VelocityComponent vc = monster.fetch(VelocityComponent.class).orElseThrow();
+    vc.xVelocity(speed);
+    vc.yVelocity(speed);
     if (collideDamage > 0) {
       monster.add(new SpikyComponent(collideDamage, MONSTER_COLLIDE_DAMAGE_TYPE, collideCooldown));
     }
@@ -205,6 +225,38 @@ public final class MonsterFactory {
     return monster;
   }
 
+  private static Prefab prefab(final IPath texture) {
+    return PREFABS.computeIfAbsent(
+        texture.pathString(),
+        path ->
+            new Prefab("monster " + path)
+                .with(DrawComponent.class, () -> newDrawComponent(texture), DrawComponent::reset)
+                .with(
+                    VelocityComponent.class,
+                    VelocityComponent::new,
+                    vc -> {
+                      vc.currentXVelocity(0);
+                      vc.currentYVelocity(0);
+                      vc.previousXVelocity(0);
+                      vc.previousYVelocity(0);
+                    })
+                .with(
+                    CollideComponent.class,
+                    CollideComponent::new,
+                    cc -> {
+                      cc.collideEnter(CollideComponent.DEFAULT_COLLIDER);
+                      cc.collideLeave(CollideComponent.DEFAULT_COLLIDER);
+                    }));
+  }
+
+  private static DrawComponent newDrawComponent(final IPath texture) {
+    try {
+      return new DrawComponent(texture);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private static void playDeathSoundIfNearby(Sound deathSound, Entity e) {
     if (Game.hero().isEmpty()) return;
     Entity hero = Game.hero().get();
@@ -9,6 +9,7 @@ import contrib.item.concreteItem.*;
 import core.Entity;
 import core.Game;
 import core.level.elements.tile.FloorTile;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.draw.Animation;
 import core.utils.logging.CustomLogLevel;
@@ -34,7 +35,7 @@ import java.util.logging.Logger;
  */
 public class Item implements CraftingIngredient, CraftingResult {
   private static final Logger LOGGER = Logger.getLogger(Item.class.getSimpleName());
-  public static final Random RANDOM = new Random();
+  public static final Random RANDOM = GameRandom.shared();
 
   /**
    * Maps identifiers in crafting recipes (e.g. {@link ItemResourceBerry}) to their corresponding
@@ -1,5 +1,6 @@
 package contrib.level.generator.graphBased.levelGraph;
 
+import core.utils.GameRandom;
 import java.util.Random;
 
 /** The different directions in which nodes can be connected to each other. */
@@ -13,7 +14,7 @@ public enum Direction {
   /** WTF? . */
   WEST(3);
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private final int value;
 
   Direction(int value) {
@@ -1,6 +1,7 @@
 package contrib.level.generator.graphBased.levelGraph;
 
 import core.Entity;
+import core.utils.GameRandom;
 import core.utils.Tuple;
 import java.util.*;
 
@@ -27,7 +28,7 @@ import java.util.*;
  * <p>Use {@link #add(Set)} to add a new entity collection and thus a new node to the graph.
  */
 public final class LevelGraph {
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private final Set<LevelNode> nodes = new HashSet<>();
   private LevelNode root;
 
@@ -135,7 +136,7 @@ public final class LevelGraph {
       origin.add(adapter);
     } else {
       // connect the adapter
-      Collections.shuffle(nodes);
+      Collections.shuffle(nodes, RANDOM);
       LevelNode on = nodes.get(0);
       Optional<LevelNode> old = on.forceNeighbor(adapter, direction);
       adapter.forceNeighbor(on, Direction.opposite(direction));
@@ -186,8 +187,8 @@ public final class LevelGraph {
       List<LevelNode> listA = new ArrayList<>(nodes().stream().toList());
       listA.removeIf(n -> n.neighboursCount() == LevelNode.MAX_NEIGHBOURS);
       List<LevelNode> listB = new ArrayList<>(listA);
-      Collections.shuffle(listA);
-      Collections.shuffle(listB);
+      Collections.shuffle(listA, RANDOM);
+      Collections.shuffle(listB, RANDOM);
 
       int connected = 0;
       for (LevelNode a : listA)
@@ -235,7 +236,7 @@ public final class LevelGraph {
     if (node.neighboursCount() == LevelNode.MAX_NEIGHBOURS) return false;
     List<LevelNode> shuffledNodes = new ArrayList<>(nodes().stream().toList());
     shuffledNodes.remove(node);
-    Collections.shuffle(shuffledNodes);
+    Collections.shuffle(shuffledNodes, RANDOM);
     for (LevelNode n : shuffledNodes) {
       if (n.connect(node)) return true;
     }
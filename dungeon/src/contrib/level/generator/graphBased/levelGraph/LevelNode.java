@@ -2,6 +2,7 @@ package contrib.level.generator.graphBased.levelGraph;
 
 import core.Entity;
 import core.level.elements.ILevel;
+import core.utils.GameRandom;
 import java.util.*;
 
 /**
@@ -77,7 +78,7 @@ public class LevelNode {
   public boolean connect(final LevelNode other) {
     List<Direction> freeDirections = possibleConnectDirections(other);
     if (!freeDirections.isEmpty()) {
-      Collections.shuffle(freeDirections);
+      Collections.shuffle(freeDirections, GameRandom.shared());
       if (other.connect(this, Direction.opposite(freeDirections.getFirst())))
         return connect(other, freeDirections.getFirst());
     }
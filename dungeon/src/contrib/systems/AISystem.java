@@ -14,6 +14,8 @@ public final class AISystem extends System {
 
   /** Create a new AISystem. */
   public AISystem() {
+    // no declared component access: the behaviors and skills of the AI can touch any component,
+    // acquire pooled entities and play sounds, so this system never runs alongside another system
     super(AIComponent.class);
   }
 
@@ -3,7 +3,9 @@ package contrib.systems;
 import contrib.components.CollideComponent;
 import core.Entity;
 import core.System;
+import core.game.ComponentType;
 import core.level.Tile;
+import core.utils.EntityTable;
 import core.utils.components.MissingComponentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,19 +19,32 @@ import java.util.stream.Stream;
  *
  * <p>The system does imply the hit boxes are axis aligned.
  *
- * <p>Each CollideComponent should only be informed when a collision begins or ends. For this, a map
- * with all currently active collisions is stored and allows informing the entities when a collision
- * ended.
+ * <p>Each CollideComponent should only be informed when a collision begins or ends. For this, the
+ * currently active collisions of each entity are stored and allow informing the entities when a
+ * collision ended. The collisions of the entities of an inactive level are kept until the level is
+ * activated again.
  *
  * <p>Entities with the {@link CollideComponent} will be processed by this system.
  */
 public final class CollisionSystem extends System {
+  private static final ComponentType<CollideComponent> COLLIDE =
+      ComponentType.of(CollideComponent.class);
 
-  private final Map<CollisionKey, CollisionData> collisions = new HashMap<>();
+  // the active collisions of each entity, stored for both partners
+  private final EntityTable<Map<Entity, CollisionData>> collisions = new EntityTable<>();
 
   /** Create a new CollisionSystem. */
   public CollisionSystem() {
     super(CollideComponent.class);
+    onEntityRemove =
+        entity -> {
+          Map<Entity, CollisionData> partners = collisions.remove(entity);
+          if (partners == null) return;
+          for (Entity partner : partners.keySet()) forget(partner, entity);
+        };
+    // the entities keep their handles while their level is inactive, so do the collisions
+    onLevelDeactivate = entities -> {};
+    onLevelActivate = entities -> {};
   }
 
   /**
@@ -80,12 +95,10 @@ public final class CollisionSystem extends System {
    * @return The pair of CollideComponents.
    */
   private CollisionData newDataPair(final Entity a, final Entity b) {
-    CollideComponent cca =
-        a.fetch(CollideComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(a, CollideComponent.class));
-    CollideComponent ccb =
-        b.fetch(CollideComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(b, CollideComponent.class));
+    CollideComponent cca = a.get(COLLIDE);
+    if (cca == null) throw MissingComponentException.build(a, CollideComponent.class);
+    CollideComponent ccb = b.get(COLLIDE);
+    if (ccb == null) throw MissingComponentException.build(b, CollideComponent.class);
 
     return new CollisionData(a, cca, b, ccb);
   }
@@ -100,16 +113,16 @@ public final class CollisionSystem extends System {
    * @param cdata The CollisionData where a collision change may happen.
    */
   private void onEnterLeaveCheck(final CollisionData cdata) {
-    CollisionKey key = new CollisionKey(cdata.ea.id(), cdata.eb.id());
-
     if (checkForCollision(cdata.ea, cdata.a, cdata.eb, cdata.b)) {
       // a new collision should call the onEnter on both entities
-      collisions.put(key, cdata);
+      remember(cdata.ea, cdata.eb, cdata);
+      remember(cdata.eb, cdata.ea, cdata);
       Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
       cdata.a.onEnter(cdata.ea, cdata.eb, d);
       cdata.b.onEnter(cdata.eb, cdata.ea, inverse(d));
 
-    } else if (collisions.remove(key) != null) {
+    } else if (forget(cdata.ea, cdata.eb)) {
+      forget(cdata.eb, cdata.ea);
       // a collision was happening and the two entities are no longer colliding, on Leave
       // called once
       Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
@@ -118,6 +131,21 @@ public final class CollisionSystem extends System {
     }
   }
 
+  private void remember(final Entity entity, final Entity partner, final CollisionData cdata) {
+    Map<Entity, CollisionData> partners = collisions.get(entity);
+    if (partners == null) {
+      partners = new HashMap<>();
+      collisions.put(entity, partners);
+    }
+    partners.put(partner, cdata);
+  }
+
+  // returns true if the entities were colliding
+  private boolean forget(final Entity entity, final Entity partner) {
+    Map<Entity, CollisionData> partners = collisions.get(entity);
+    return partners != null && partners.remove(partner) != null;
+  }
+
   /**
    * Simple Direction inversion.
    *
@@ -184,7 +212,5 @@ public final class CollisionSystem extends System {
     }
   }
 
-  private record CollisionKey(int a, int b) {}
-
   protected record CollisionData(Entity ea, CollideComponent a, Entity eb, CollideComponent b) {}
 }
@@ -14,10 +14,9 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.systems.CameraSystem;
+import core.utils.EntityTable;
 import core.utils.Point;
 import core.utils.logging.CustomLogLevel;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -43,11 +42,15 @@ public final class HealthBarSystem extends System {
   private static final int HEALTH_BAR_WIDTH = 50;
 
   /** Mapping from actual entity and health bar of this entity. */
-  private final Map<Integer, ProgressBar> healthBarMapping = new HashMap<>();
+  private final EntityTable<ProgressBar> healthBarMapping = new EntityTable<>();
 
   /** Create a new HealthBarSystem. */
   public HealthBarSystem() {
     super(HealthComponent.class, PositionComponent.class);
+    declareReads(DrawComponent.class);
+    // the health bars use scene2d and the camera of the render thread
+    pinToRenderThread();
+    markAsRenderSystem();
     this.onEntityAdd =
         (x) -> {
           LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem got send a new Entity");
@@ -62,12 +65,20 @@ public final class HealthBarSystem extends System {
           e.add(new UIComponent(group, false, false));
           Game.add(e);
           LOGGER.log(CustomLogLevel.TRACE, "created a new UIComponent for the health bar");
-          healthBarMapping.put(x.id(), newHealthBar);
+          healthBarMapping.put(x, newHealthBar);
           LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem added to temporary mapping");
         };
     LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem onEntityAdd was changed");
-    this.onEntityRemove = (x) -> healthBarMapping.remove(x.id()).remove();
+    this.onEntityRemove = (x) -> healthBarMapping.remove(x).remove();
     LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem onEntityRemove was changed");
+    // the bars stay with the entities of an inactive level, the HudSystem hides them
+    this.onLevelDeactivate = (entities) -> {};
+    this.onLevelActivate =
+        (entities) ->
+            entities.forEach(
+                x -> {
+                  if (healthBarMapping.get(x) == null) onEntityAdd.accept(x);
+                });
     LOGGER.info("HealthBarSystem created");
   }
 
@@ -91,7 +102,7 @@ public final class HealthBarSystem extends System {
         entity.fetch(HealthComponent.class).orElseThrow(),
         entity.fetch(PositionComponent.class).orElseThrow(),
         entity.fetch(DrawComponent.class).orElseThrow(),
-        healthBarMapping.get(entity.id()));
+        healthBarMapping.get(entity));
   }
 
   private ProgressBar createNewHealthBar(PositionComponent pc) {
@@ -111,6 +122,17 @@ public final class HealthBarSystem extends System {
    * @param pc WTF? .
    */
   private void updatePosition(ProgressBar pb, PositionComponent pc) {
+    Vector3 screenPosition = stagePosition(pc);
+    pb.setPosition(screenPosition.x, screenPosition.y);
+  }
+
+  /**
+   * Map the position of the Entity to stage coordinates.
+   *
+   * @param pc WTF? .
+   * @return the position on the stage
+   */
+  private Vector3 stagePosition(PositionComponent pc) {
     Point position = pc.position();
     Vector3 conveered = new Vector3(position.x, position.y, 0);
     // map Entity coordinates to window coordinates
@@ -120,7 +142,7 @@ public final class HealthBarSystem extends System {
     // remap window coordinates against stage coordinates
     screenPosition.x = screenPosition.x / stage.getViewport().getScreenWidth() * stage.getWidth();
     screenPosition.y = screenPosition.y / stage.getViewport().getScreenHeight() * stage.getHeight();
-    pb.setPosition(screenPosition.x, screenPosition.y);
+    return screenPosition;
   }
 
   private record EnemyData(
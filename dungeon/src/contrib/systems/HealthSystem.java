@@ -8,10 +8,13 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.DrawComponent;
+import core.game.ComponentType;
+import core.game.EventBus;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Animation;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -22,9 +25,26 @@ import java.util.stream.Stream;
  *
  * <p>Entities with the {@link HealthComponent} and {@link DrawComponent} will be processed by this
  * system.
+ *
+ * <p>Changes of the health points and deaths are published as {@link DamageEvent} and {@link
+ * DeathEvent} on the {@link EventBus}. The damage events of an entity are coalesced into one per
+ * dispatch. The events are published in the order of the entities, even if the damage is applied in
+ * parallel.
+ *
+ * <p>A dead entity is removed from the game after the {@link DeathEvent} was dispatched, so the
+ * consumers of the event can still use the entity and its components.
  */
 public class HealthSystem extends System {
-  protected final List<IHealthObserver> observers = new ArrayList<>();
+  private static final ComponentType<HealthComponent> HEALTH =
+      ComponentType.of(HealthComponent.class);
+  private static final ComponentType<DrawComponent> DRAW = ComponentType.of(DrawComponent.class);
+  private final Map<IHealthObserver, List<EventBus.Subscription>> observers = new HashMap<>();
+
+  static {
+    EventBus.coalesce(
+        DamageEvent.class,
+        (a, b) -> new DamageEvent(a.entity(), a.healthComponent(), a.amount() + b.amount()));
+  }
 
   /** Create a new HealthSystem. */
   public HealthSystem() {
@@ -33,12 +53,12 @@ public class HealthSystem extends System {
 
   @Override
   public void execute() {
+    // Apply damage, each entity on its own
+    parallelForEach(entity -> applyDamage(buildDataObject(entity)));
     entityStream()
         // Consider only entities that have a HealthComponent
         // Form triples (e, hc, dc)
         .map(this::buildDataObject)
-        // Apply damage
-        .map(this::applyDamage)
         // Filter all dead entities
         .filter(hsd -> hsd.hc.isDead())
         // Set DeathAnimation if possible and not yet set
@@ -85,14 +105,10 @@ public class HealthSystem extends System {
 
   protected HSData buildDataObject(final Entity entity) {
 
-    HealthComponent hc =
-        entity
-            .fetch(HealthComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, HealthComponent.class));
-    DrawComponent ac =
-        entity
-            .fetch(DrawComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, DrawComponent.class));
+    HealthComponent hc = entity.get(HEALTH);
+    if (hc == null) throw MissingComponentException.build(entity, HealthComponent.class);
+    DrawComponent ac = entity.get(DRAW);
+    if (ac == null) throw MissingComponentException.build(entity, DrawComponent.class);
     return new HSData(entity, hc, ac);
   }
 
@@ -112,16 +128,19 @@ public class HealthSystem extends System {
     // reset all damage objects in health component and apply damage
     hsd.hc.clearDamage();
     hsd.hc.currentHealthpoints(hsd.hc.currentHealthpoints() - dmgAmount);
-    this.observers.forEach(
-        observer -> observer.onHeathEvent(hsd.e, hsd.hc, IHealthObserver.HealthEvent.DAMAGE));
+    if (dmgAmount != 0) {
+      DamageEvent event = new DamageEvent(hsd.e, hsd.hc, dmgAmount);
+      // the damage may be applied in parallel, publish in the order of the chunks
+      defer(() -> EventBus.publish(event));
+    }
   }
 
   protected void removeDeadEntities(final HSData hsd) {
     // Entity appears to be dead, so let's clean up the mess
     hsd.hc.triggerOnDeath(hsd.e);
-    this.observers.forEach(
-        observer -> observer.onHeathEvent(hsd.e, hsd.hc, IHealthObserver.HealthEvent.DEATH));
-    Game.remove(hsd.e);
+    EventBus.publish(new DeathEvent(hsd.e, hsd.hc));
+    // the consumers of the event may still use the entity
+    EventBus.afterDispatch(() -> Game.remove(hsd.e));
   }
 
   /**
@@ -130,11 +149,31 @@ public class HealthSystem extends System {
    * <p>This method adds an observer to the list of observers that are notified of health events.
    * The observer must implement the IHealthObserver interface.
    *
+   * <p>The observer subscribes to the {@link DamageEvent}s and {@link DeathEvent}s of the {@link
+   * EventBus}, so it is called when the events are dispatched, not while this system is executed.
+   *
    * @param observer The observer to be registered.
    * @see IHealthObserver
    */
   public void registerObserver(IHealthObserver observer) {
-    this.observers.add(observer);
+    this.observers.computeIfAbsent(
+        observer,
+        o ->
+            List.of(
+                EventBus.subscribe(
+                    DamageEvent.class,
+                    event ->
+                        o.onHeathEvent(
+                            event.entity(),
+                            event.healthComponent(),
+                            IHealthObserver.HealthEvent.DAMAGE)),
+                EventBus.subscribe(
+                    DeathEvent.class,
+                    event ->
+                        o.onHeathEvent(
+                            event.entity(),
+                            event.healthComponent(),
+                            IHealthObserver.HealthEvent.DEATH))));
   }
 
   /**
@@ -147,9 +186,32 @@ public class HealthSystem extends System {
    * @see IHealthObserver
    */
   public void removeObserver(IHealthObserver observer) {
-    this.observers.remove(observer);
+    List<EventBus.Subscription> subscriptions = this.observers.remove(observer);
+    if (subscriptions != null) subscriptions.forEach(EventBus.Subscription::cancel);
   }
 
   // private record to hold all data during streaming
   protected record HSData(Entity e, HealthComponent hc, DrawComponent dc) {}
+
+  /**
+   * Published on the {@link EventBus} if the health points of an entity changed.
+   *
+   * @param entity the entity that was damaged
+   * @param healthComponent the health component of the entity
+   * @param amount the lost health points, negative if the entity was healed
+   */
+  public record DamageEvent(Entity entity, HealthComponent healthComponent, int amount)
+      implements EventBus.EntityEvent {}
+
+  /**
+   * Published on the {@link EventBus} if an entity died.
+   *
+   * <p>The entity is still part of the game and has all of its components while the event is
+   * dispatched. It is removed from the game right after the dispatch.
+   *
+   * @param entity the entity that died
+   * @param healthComponent the health component of the entity
+   */
+  public record DeathEvent(Entity entity, HealthComponent healthComponent)
+      implements EventBus.EntityEvent {}
 }
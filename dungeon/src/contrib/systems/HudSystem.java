@@ -30,8 +30,35 @@ public final class HudSystem extends System {
   /** Create a new HudSystem. */
   public HudSystem() {
     super(UIComponent.class);
+    markAsRenderSystem();
     onEntityAdd = this::addListener;
     onEntityRemove = this::removeListener;
+    // the dialogs of an inactive level are hidden, not closed
+    onLevelDeactivate = entities -> entities.forEach(this::hide);
+    onLevelActivate = entities -> entities.forEach(this::show);
+  }
+
+  /**
+   * Remove the dialog of the entity from the Stage, but keep it for {@link #show(Entity)}.
+   *
+   * @param entity Entity whose level was deactivated.
+   */
+  private void hide(final Entity entity) {
+    Group group = entityGroupMap.get(entity);
+    if (group != null) group.remove();
+  }
+
+  /**
+   * Add the dialog of the entity to the Stage again, or for the first time.
+   *
+   * @param entity Entity whose level was activated.
+   */
+  private void show(final Entity entity) {
+    Group group = entityGroupMap.get(entity);
+    UIComponent component = entity.fetch(UIComponent.class).orElse(null);
+    if (group != null && component == entityUIComponentMap.get(entity))
+      Game.stage().ifPresent(stage -> addDialogToStage(group, stage));
+    else addListener(entity);
   }
 
   /**
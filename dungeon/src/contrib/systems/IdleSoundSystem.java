@@ -7,6 +7,7 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.Random;
@@ -21,11 +22,13 @@ import java.util.Random;
  */
 public final class IdleSoundSystem extends System {
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private static final float DISTANCE_THRESHOLD = 10.0f;
 
   /** Create a new {@link IdleSoundSystem}. */
   public IdleSoundSystem() {
+    // no declared component access: the audio backend is not thread-safe, so this system never
+    // runs alongside another system
     super(IdleSoundComponent.class);
   }
 
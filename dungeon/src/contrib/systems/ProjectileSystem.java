@@ -28,19 +28,20 @@ public final class ProjectileSystem extends System {
   /** Create a new ProjectileSystem. */
   public ProjectileSystem() {
     super(ProjectileComponent.class, PositionComponent.class, VelocityComponent.class);
+    // the removals are queued in the command buffer, so only the velocity is changed directly
+    declareWrites(VelocityComponent.class);
   }
 
   /** Sets the velocity and removes entities that have reached their endpoints. */
   @Override
   public void execute() {
-    entityStream()
-        // Consider only entities that have a ProjectileComponent
-        .map(this::buildDataObject)
-        .map(this::setVelocity)
-        // Filter all entities that have reached their endpoint
-        .filter(this::hasReachedEndpoint)
-        // Remove all entities who reached their endpoint
-        .forEach(this::removeEntitiesOnEndpoint);
+    // each projectile is independent, the removals are collected per chunk
+    parallelForEach(
+        entity -> {
+          PSData data = setVelocity(buildDataObject(entity));
+          // Remove all entities who reached their endpoint
+          if (hasReachedEndpoint(data)) removeEntitiesOnEndpoint(data);
+        });
   }
 
   private PSData buildDataObject(final Entity entity) {
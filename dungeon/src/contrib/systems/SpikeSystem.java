@@ -15,6 +15,7 @@ public final class SpikeSystem extends System {
   /** Create new SpikeSystem. */
   public SpikeSystem() {
     super(SpikyComponent.class);
+    declareWrites(SpikyComponent.class);
   }
 
   @Override
@@ -0,0 +1,106 @@
+package contrib.utils.components;
+
+import contrib.components.CollideComponent;
+import contrib.components.HealthComponent;
+import contrib.components.IdleSoundComponent;
+import contrib.components.ProjectileComponent;
+import core.utils.snapshot.ComponentSerializer;
+import core.utils.snapshot.Snapshot;
+import core.utils.snapshot.SnapshotInput;
+import core.utils.snapshot.SnapshotOutput;
+import java.io.IOException;
+
+/**
+ * Registers the {@link ComponentSerializer}s of the contrib components at the {@link Snapshot}.
+ *
+ * <p>Callbacks (e.g., the death function of the {@link HealthComponent} or the collide functions of
+ * the {@link CollideComponent}) can not be saved. Components with other than the default callbacks
+ * are not supported (see {@link ComponentSerializer#supports}), so their entities are not saved
+ * (e.g., they are not hibernated); restored components use the default callbacks.
+ */
+public final class ContribSerializers {
+
+  private ContribSerializers() {}
+
+  /** Register the serializers. Calling this more than once has no further effect. */
+  public static void register() {
+    Snapshot.register(
+        HealthComponent.class,
+        new ComponentSerializer<>() {
+          @Override
+          public boolean supports(final HealthComponent component) {
+            return component.onDeath() == HealthComponent.DEFAULT_ON_DEATH
+                && component.onHit() == HealthComponent.DEFAULT_ON_HIT;
+          }
+
+          @Override
+          public void write(final HealthComponent component, final SnapshotOutput out)
+              throws IOException {
+            out.writeVarInt(component.maximalHealthpoints());
+            out.writeInt(component.currentHealthpoints());
+          }
+
+          @Override
+          public HealthComponent read(final SnapshotInput in) throws IOException {
+            HealthComponent component =
+                new HealthComponent(in.readVarInt(), HealthComponent.DEFAULT_ON_DEATH);
+            component.currentHealthpoints(in.readInt());
+            return component;
+          }
+        });
+    Snapshot.register(
+        CollideComponent.class,
+        new ComponentSerializer<>() {
+          @Override
+          public boolean supports(final CollideComponent component) {
+            return component.collideEnter() == CollideComponent.DEFAULT_COLLIDER
+                && component.collideLeave() == CollideComponent.DEFAULT_COLLIDER;
+          }
+
+          @Override
+          public void write(final CollideComponent component, final SnapshotOutput out)
+              throws IOException {
+            out.writePoint(component.offset());
+            out.writePoint(component.size());
+          }
+
+          @Override
+          public CollideComponent read(final SnapshotInput in) throws IOException {
+            return new CollideComponent(
+                in.readPoint(),
+                in.readPoint(),
+                CollideComponent.DEFAULT_COLLIDER,
+                CollideComponent.DEFAULT_COLLIDER);
+          }
+        });
+    Snapshot.register(
+        ProjectileComponent.class,
+        new ComponentSerializer<>() {
+          @Override
+          public void write(final ProjectileComponent component, final SnapshotOutput out)
+              throws IOException {
+            out.writePoint(component.startPosition());
+            out.writePoint(component.goalLocation());
+          }
+
+          @Override
+          public ProjectileComponent read(final SnapshotInput in) throws IOException {
+            return new ProjectileComponent(in.readPoint(), in.readPoint());
+          }
+        });
+    Snapshot.register(
+        IdleSoundComponent.class,
+        new ComponentSerializer<>() {
+          @Override
+          public void write(final IdleSoundComponent component, final SnapshotOutput out)
+              throws IOException {
+            out.writePath(component.soundEffect());
+          }
+
+          @Override
+          public IdleSoundComponent read(final SnapshotInput in) throws IOException {
+            return new IdleSoundComponent(in.readPath());
+          }
+        });
+  }
+}
@@ -7,6 +7,7 @@ import core.Game;
 import core.components.PositionComponent;
 import core.level.Tile;
 import core.level.utils.LevelUtils;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.ArrayList;
@@ -22,7 +23,7 @@ import java.util.function.Consumer;
  */
 public final class PatrolWalk implements Consumer<Entity> {
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private final List<Tile> checkpoints = new ArrayList<>();
   private final int numberCheckpoints;
   private final int pauseFrames;
@@ -122,8 +123,7 @@ public final class PatrolWalk implements Consumer<Entity> {
 
     switch (mode) {
       case RANDOM -> {
-        Random rnd = new Random();
-        currentCheckpoint = rnd.nextInt(checkpoints.size());
+        currentCheckpoint = RANDOM.nextInt(checkpoints.size());
         currentPath =
             LevelUtils.calculatePath(
                 position.position(), this.checkpoints.get(currentCheckpoint).position());
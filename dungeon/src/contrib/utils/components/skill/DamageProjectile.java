@@ -11,14 +11,18 @@ import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.Prefab;
 import core.level.Tile;
 import core.utils.Point;
 import core.utils.TriConsumer;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.IPath;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -29,12 +33,16 @@ import java.util.logging.Logger;
  *
  * <p>The DamageProjectile class implements the Consumer interface, allowing it to accept an entity
  * as a parameter.
+ *
+ * <p>The projectile entities are taken from a {@link Prefab} per texture and hit box size, so the
+ * entities and their components are reused after the projectile was removed from the game.
  */
 public abstract class DamageProjectile implements Consumer<Entity> {
 
   public static final Consumer<Entity> DEFAULT_ON_WALL_HIT = Game::remove;
   public static final BiConsumer<Entity, Entity> DEFAULT_ON_ENTITY_HIT = (a, b) -> {};
   private static final Logger LOGGER = Logger.getLogger(DamageProjectile.class.getSimpleName());
+  private static final Map<PrefabKey, Prefab> PREFABS = new ConcurrentHashMap<>();
   private final IPath pathToTexturesOfProjectile;
   private final float projectileSpeed;
   private final float projectileRange;
@@ -149,24 +157,27 @@ public abstract class DamageProjectile implements Consumer<Entity> {
    */
   @Override
   public void accept(final Entity entity) {
-    Entity projectile = new Entity(this.name);
     // Get the PositionComponent of the entity
     PositionComponent epc =
         entity
             .fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    projectile.add(new PositionComponent(epc.position()));
 
+    Entity projectile;
     try {
-      DrawComponent dc = new DrawComponent(pathToTexturesOfProjectile);
-      dc.tintColor(this.tintColor());
-      projectile.add(dc);
-    } catch (IOException e) {
+      projectile = prefab(pathToTexturesOfProjectile, projectileHitBoxSize).acquire();
+    } catch (UncheckedIOException e) {
       LOGGER.warning(
           String.format("The DrawComponent for the projectile %s cant be created. ", entity)
               + e.getMessage());
       throw new RuntimeException();
     }
+    projectile.name(this.name);
+    PositionComponent ppc = projectile.fetch(PositionComponent.class).orElseThrow();
+    ppc.position(epc.position());
+    // do not interpolate from the position of the previous use of the pooled entity
+    ppc.rememberPosition();
+    projectile.fetch(DrawComponent.class).orElseThrow().tintColor(this.tintColor());
 
     Point startPoint = new Point(0, 0);
     entity
@@ -186,9 +197,12 @@ public abstract class DamageProjectile implements Consumer<Entity> {
     // Calculate the velocity of the projectile
     Point velocity = SkillTools.calculateVelocity(startPoint, targetPoint, projectileSpeed);
 
-    // Add the VelocityComponent to the projectile
-    VelocityComponent vc = new VelocityComponent(velocity.x, velocity.y, onWallHit, true);
-    projectile.add(vc);
+    // Configure the VelocityComponent of the projectile
+    VelocityComponent vc = projectile.fetch(VelocityComponent.class).orElseThrow();
+    vc.xVelocity(velocity.x);
+    vc.yVelocity(velocity.y);
+    vc.onWallHit(onWallHit);
+    vc.canEnterEmptyTiles(true);
 
     // Add the ProjectileComponent with the initial and target positions to the projectile
     projectile.add(new ProjectileComponent(startPoint, targetPoint));
@@ -210,14 +224,48 @@ public abstract class DamageProjectile implements Consumer<Entity> {
           }
         };
 
-    // Add the CollideComponent with the appropriate hit box size and collision handler to the
-    // projectile
-    projectile.add(
-        new CollideComponent(CollideComponent.DEFAULT_OFFSET, projectileHitBoxSize, collide, null));
+    // Set the collision handler of the CollideComponent, the hit box size is part of the prefab
+    projectile.fetch(CollideComponent.class).orElseThrow().collideEnter(collide);
     Game.add(projectile);
     this.currentSound = this.playSound();
   }
 
+  // one pool per texture and hit box size, shared by all projectiles that look the same
+  private static Prefab prefab(final IPath texture, final Point hitBoxSize) {
+    PrefabKey key = new PrefabKey(texture.pathString(), hitBoxSize.x, hitBoxSize.y);
+    return PREFABS.computeIfAbsent(
+        key,
+        k ->
+            new Prefab("projectile " + k.texture())
+                .with(PositionComponent.class, PositionComponent::new)
+                .with(DrawComponent.class, () -> newDrawComponent(texture), DrawComponent::reset)
+                .with(
+                    VelocityComponent.class,
+                    VelocityComponent::new,
+                    vc -> {
+                      vc.currentXVelocity(0);
+                      vc.currentYVelocity(0);
+                      vc.previousXVelocity(0);
+                      vc.previousYVelocity(0);
+                    })
+                .with(
+                    CollideComponent.class,
+                    () ->
+                        new CollideComponent(
+                            CollideComponent.DEFAULT_OFFSET,
+                            new Point(k.width(), k.height()),
+                            CollideComponent.DEFAULT_COLLIDER,
+                            null)));
+  }
+
+  private static DrawComponent newDrawComponent(final IPath texture) {
+    try {
+      return new DrawComponent(texture);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Adds an entity to the list of entities to be ignored by the projectile. Entities in this list
    * will not be affected by the projectile's collision handler.
@@ -273,4 +321,6 @@ public abstract class DamageProjectile implements Consumer<Entity> {
       this.currentSound.dispose();
     }
   }
+
+  private record PrefabKey(String texture, float width, float height) {}
 }
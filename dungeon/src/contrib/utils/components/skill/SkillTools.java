@@ -1,11 +1,9 @@
 package contrib.utils.components.skill;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.Vector3;
 import core.Game;
 import core.components.PositionComponent;
-import core.systems.CameraSystem;
+import core.game.GameInput;
 import core.utils.MissingHeroException;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
@@ -68,11 +66,10 @@ public final class SkillTools {
    * Gets the current cursor position as Point. The cursor is used to aim.
    *
    * @return The mouse cursor position as Point.
+   * @see GameInput#cursorPosition()
    */
   public static Point cursorPositionAsPoint() {
-    Vector3 mousePosition =
-        CameraSystem.camera().unproject(new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0));
-    return new Point(mousePosition.x, mousePosition.y);
+    return GameInput.cursorPosition();
   }
 
   /**
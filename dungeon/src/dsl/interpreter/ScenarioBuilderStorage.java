@@ -1,5 +1,6 @@
 package dsl.interpreter;
 
+import core.utils.GameRandom;
 import dsl.runtime.callable.ICallable;
 import dsl.runtime.value.Value;
 import dsl.semanticanalysis.environment.IEnvironment;
@@ -165,8 +166,7 @@ public class ScenarioBuilderStorage {
     }
 
     // select random idx from within the lowest counts
-    Random random = new Random();
-    int randomInt = random.nextInt(idxsWithLowestCount.size());
+    int randomInt = GameRandom.shared().nextInt(idxsWithLowestCount.size());
     int idx = idxsWithLowestCount.get(randomInt);
 
     // retrieve the function symbol by idx
@@ -10,6 +10,7 @@ import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
 import core.level.Tile;
+import core.utils.GameRandom;
 import dsl.annotation.DSLExtensionMethod;
 import dsl.interpreter.DSLInterpreter;
 import dsl.parser.ast.Node;
@@ -875,8 +876,7 @@ public class GameEnvironment implements IEnvironment {
     public Object call(DSLInterpreter interpreter, List<Node> parameters) {
       assert parameters != null && parameters.size() > 0;
 
-      Random rand = new Random();
-      int randVal = rand.nextInt();
+      int randVal = GameRandom.shared().nextInt();
       Entity randomContent = null;
       try {
         if (randVal % 2 == 0) {
@@ -6,6 +6,7 @@ import core.Entity;
 import core.Game;
 import core.utils.MissingHeroException;
 import core.utils.components.MissingComponentException;
+import core.utils.logging.AsyncLogHandler;
 import dsl.annotation.DSLType;
 import graph.petrinet.Place;
 import java.io.IOException;
@@ -68,7 +69,7 @@ public abstract class Task {
       FileHandler fileHandler = new FileHandler(filepath);
       fileHandler.setFormatter(new SimpleFormatter());
 
-      SOL_LOGGER.addHandler(fileHandler);
+      SOL_LOGGER.addHandler(new AsyncLogHandler(fileHandler));
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -9,6 +9,7 @@ import core.components.PositionComponent;
 import core.level.Tile;
 import core.utils.Point;
 import core.utils.TriConsumer;
+import java.util.List;
 import org.junit.After;
 import org.junit.Test;
 import testingUtils.SimpleCounter;
@@ -885,4 +886,59 @@ public class CollisionSystemTest {
       assertEquals("One interaction ends for e3", 1, sc3OnLeave.getCount());
       cleanUpEnvironment();
   }*/
+
+  /** Checks that the collisions of a removed entity are not passed to the next entity. */
+  @Test
+  public void removedEntityForgetsCollisions() {
+    CollisionSystem cs = new CollisionSystem();
+    Game.add(cs);
+    SimpleCounter onEnter = new SimpleCounter();
+    SimpleCounter onLeave = new SimpleCounter();
+    Entity e1 = prepareEntityWithPosition(new Point(0, 0));
+    e1.add(
+        new CollideComponent(
+            new Point(0, 0),
+            new Point(1, 1),
+            (a, b, c) -> onEnter.inc(),
+            (a, b, c) -> onLeave.inc()));
+    Entity e2 = prepareEntityWithPosition(new Point(.5f, 0));
+    e2.add(new CollideComponent());
+    Game.add(e1);
+    Game.add(e2);
+    cs.execute();
+    assertEquals(1, onEnter.getCount());
+
+    int index = e2.index();
+    Game.remove(e2);
+    Entity e3 = prepareEntityWithPosition(new Point(5, 5));
+    e3.add(new CollideComponent());
+    Game.add(e3);
+    assertEquals("The index of e2 is reused", index, e3.index());
+    cs.execute();
+    assertEquals("e3 never collided with e1", 0, onLeave.getCount());
+  }
+
+  /** Checks that the collisions of an inactive level end after the level is activated again. */
+  @Test
+  public void levelSwitchKeepsCollisions() {
+    CollisionSystem cs = new CollisionSystem();
+    Game.add(cs);
+    SimpleCounter onLeave = new SimpleCounter();
+    Entity e1 = prepareEntityWithPosition(new Point(0, 0));
+    e1.add(
+        new CollideComponent(
+            new Point(0, 0), new Point(1, 1), (a, b, c) -> {}, (a, b, c) -> onLeave.inc()));
+    Entity e2 = prepareEntityWithPosition(new Point(.5f, 0));
+    e2.add(new CollideComponent());
+    Game.add(e1);
+    Game.add(e2);
+    cs.execute();
+
+    cs.triggerOnLevelDeactivate(List.of(e1, e2));
+    assertEquals(0, onLeave.getCount());
+    e2.fetch(PositionComponent.class).orElseThrow().position(new Point(5, 5));
+    cs.triggerOnLevelActivate(List.of(e1, e2));
+    cs.execute();
+    assertEquals(1, onLeave.getCount());
+  }
 }
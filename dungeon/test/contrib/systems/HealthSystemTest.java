@@ -3,15 +3,19 @@ package contrib.systems;
 import static org.junit.Assert.*;
 
 import contrib.components.HealthComponent;
+import contrib.entities.IHealthObserver;
 import contrib.utils.components.draw.AdditionalAnimations;
 import contrib.utils.components.health.Damage;
 import contrib.utils.components.health.DamageType;
 import core.Entity;
 import core.Game;
 import core.components.DrawComponent;
+import core.game.EventBus;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.After;
 import org.junit.Test;
@@ -24,6 +28,7 @@ public class HealthSystemTest {
   /** WTF? . */
   @After
   public void cleanup() {
+    EventBus.clear();
     Game.removeAllEntities();
     Game.currentLevel(null);
     Game.removeAllSystems();
@@ -46,9 +51,65 @@ public class HealthSystemTest {
 
     system.execute();
     assertTrue(ac.isAnimationQueued(AdditionalAnimations.DIE));
+    // removed after the death event was dispatched
+    assertTrue(Game.entityStream().anyMatch(e -> e == entity));
+    EventBus.dispatch();
     assertFalse(Game.entityStream().anyMatch(e -> e == entity));
   }
 
+  /** WTF? . */
+  @Test
+  public void observerSeesDeadEntity() throws IOException {
+    Entity entity = new Entity();
+    HealthComponent component = new HealthComponent(1, e -> {});
+    entity.add(new DrawComponent(ANIMATION_PATH));
+    entity.add(component);
+    Game.add(entity);
+    HealthSystem system = new HealthSystem();
+    Game.add(system);
+    List<Boolean> observed = new ArrayList<>();
+    IHealthObserver observer =
+        (e, hc, event) -> {
+          if (event != IHealthObserver.HealthEvent.DEATH) return;
+          observed.add(e.fetch(HealthComponent.class).orElse(null) == hc);
+          observed.add(e.isPresent(DrawComponent.class));
+          observed.add(Game.entityStream().anyMatch(other -> other == e));
+        };
+    system.registerObserver(observer);
+    component.currentHealthpoints(0);
+
+    system.execute();
+    EventBus.dispatch();
+    system.removeObserver(observer);
+    assertEquals(List.of(true, true, true), observed);
+    assertFalse(Game.entityStream().anyMatch(e -> e == entity));
+  }
+
+  /** WTF? . */
+  @Test
+  public void damageEventsInEntityOrder() throws IOException {
+    HealthSystem system = new HealthSystem();
+    Game.add(system);
+    // more than one chunk
+    for (int i = 0; i < 600; i++) {
+      Entity entity = new Entity();
+      HealthComponent component = new HealthComponent(1000, e -> {});
+      component.receiveHit(new Damage(1 + i % 7, DamageType.PHYSICAL, null));
+      entity.add(new DrawComponent(ANIMATION_PATH));
+      entity.add(component);
+      Game.add(entity);
+    }
+    List<Entity> expected = system.entityStream().toList();
+    List<Entity> published = new ArrayList<>();
+    EventBus.Subscription subscription =
+        EventBus.subscribe(HealthSystem.DamageEvent.class, event -> published.add(event.entity()));
+
+    system.execute();
+    EventBus.dispatch();
+    subscription.cancel();
+    assertEquals(expected, published);
+  }
+
   /** WTF? . */
   @Test
   public void updateEntityDiesGodMode() throws IOException {
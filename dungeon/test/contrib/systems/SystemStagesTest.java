@@ -0,0 +1,50 @@
+package contrib.systems;
+
+import static org.junit.Assert.assertEquals;
+
+import core.System;
+import core.game.SystemScheduler;
+import java.util.List;
+import org.junit.Test;
+
+/** Tests how the {@link SystemScheduler} groups the systems of the contrib package. */
+public class SystemStagesTest {
+
+  /** WTF? . */
+  @Test
+  public void declaredSystemsShareStage() {
+    System projectile = new ProjectileSystem();
+    System healthBar = new HealthBarSystem();
+    System spike = new SpikeSystem();
+    assertEquals(
+        List.of(List.of(projectile, healthBar, spike)),
+        SystemScheduler.stages(List.of(projectile, healthBar, spike)));
+  }
+
+  /** WTF? . */
+  @Test
+  public void starterOrder() {
+    // the order of the systems in the starters
+    System collision = new CollisionSystem();
+    System ai = new AISystem();
+    System health = new HealthSystem();
+    System projectile = new ProjectileSystem();
+    System healthBar = new HealthBarSystem();
+    System hud = new HudSystem();
+    System spike = new SpikeSystem();
+    System idleSound = new IdleSoundSystem();
+    List<List<System>> stages =
+        SystemScheduler.stages(
+            List.of(collision, ai, health, projectile, healthBar, hud, spike, idleSound));
+    assertEquals(
+        List.of(
+            List.of(collision),
+            List.of(ai),
+            List.of(health),
+            List.of(projectile, healthBar),
+            List.of(hud),
+            List.of(spike),
+            List.of(idleSound)),
+        stages);
+  }
+}
@@ -0,0 +1,82 @@
+package contrib.utils.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import contrib.components.CollideComponent;
+import contrib.components.HealthComponent;
+import contrib.entities.MonsterFactory;
+import core.Entity;
+import core.components.PositionComponent;
+import core.utils.snapshot.Snapshot;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/** Tests for the {@link ContribSerializers} class. */
+public class ContribSerializersTest {
+
+  /** WTF? . */
+  @BeforeClass
+  public static void register() {
+    ContribSerializers.register();
+  }
+
+  /** WTF? . */
+  @Test
+  public void defaultCallbacksAreSerializable() {
+    Entity entity = new Entity();
+    entity.add(new HealthComponent());
+    entity.add(new CollideComponent());
+    assertTrue(Snapshot.isSerializable(entity));
+  }
+
+  /** WTF? . */
+  @Test
+  public void onDeathIsNotSerializable() {
+    Entity entity = new Entity();
+    entity.add(new HealthComponent(5, e -> {}));
+    assertFalse(Snapshot.isSerializable(entity));
+  }
+
+  /** WTF? . */
+  @Test
+  public void onHitIsNotSerializable() {
+    Entity entity = new Entity();
+    HealthComponent health = new HealthComponent();
+    health.onHit((cause, damage) -> {});
+    entity.add(health);
+    assertFalse(Snapshot.isSerializable(entity));
+  }
+
+  /** WTF? . */
+  @Test
+  public void colliderIsNotSerializable() {
+    Entity entity = new Entity();
+    entity.add(new CollideComponent((a, b, direction) -> {}, CollideComponent.DEFAULT_COLLIDER));
+    assertFalse(Snapshot.isSerializable(entity));
+  }
+
+  /** WTF? . */
+  @Test
+  public void monsterIsNotSavedPartially() throws IOException {
+    Entity monster = MonsterFactory.randomMonster();
+    Entity savable = new Entity("savable");
+    savable.add(new PositionComponent(1, 2));
+    savable.add(new HealthComponent());
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Snapshot.write(null, List.of(monster, savable), bytes);
+
+    List<Entity> restored = Snapshot.read(new ByteArrayInputStream(bytes.toByteArray()), null);
+    // the AI and the death callback of the monster can not be saved, so it is skipped as a whole
+    assertEquals(1, restored.size());
+    Entity copy = restored.get(0);
+    assertEquals("savable", copy.name());
+    assertTrue(copy.isPresent(PositionComponent.class));
+    assertTrue(copy.isPresent(HealthComponent.class));
+  }
+}
@@ -1,10 +1,15 @@
 package core;
 
+import core.game.ComponentRegistry;
+import core.game.ComponentType;
 import core.game.ECSManagment;
 import dsl.annotation.DSLContextPush;
 import dsl.annotation.DSLType;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -23,11 +28,17 @@ import java.util.stream.Stream;
  * <p>If you want to remove a component from an entity, use {@link #remove} and provide the Class of
  * the component you want to remove as a parameter.
  *
- * <p>Use {@link #fetch(Class)} to retrieve the component of the given class in this entity.
+ * <p>Use {@link #fetch(Class)} to retrieve the component of the given class in this entity. In code
+ * that runs for each entity in each frame, use {@link #get(ComponentType)} instead; it does not
+ * hash and does not allocate.
  *
  * <p>With {@link #isPresent(Class)}, you can check if the entity has a component of the given
  * class.
  *
+ * <p>While the entity is in the game, it has an {@link EntityHandle}. Use {@link #index()} for
+ * per-entity side tables, and keep the {@link #handle()} instead of the entity if you have to
+ * detect that the entity was removed.
+ *
  * @see Component
  * @see System
  */
@@ -35,10 +46,15 @@ import java.util.stream.Stream;
 @DSLContextPush(name = "entity")
 public final class Entity implements Comparable<Entity> {
   private static final Logger LOGGER = Logger.getLogger(Entity.class.getSimpleName());
-  private static int nextId = 0;
+  // systems may create entities in parallel, see core.game.SystemScheduler
+  private static final AtomicInteger NEXT_ID = new AtomicInteger(0);
   private final int id;
-  private final HashMap<Class<? extends Component>, Component> components;
+  // indexed by ComponentRegistry#id
+  private Component[] components;
+  private final BitSet componentMask;
   private String name;
+  // set by EntityHandle while the entity is in the game
+  EntityHandle handle = null;
 
   /**
    * Create a new Entity.
@@ -48,10 +64,11 @@ public final class Entity implements Comparable<Entity> {
    * @param name the name of the entity, used for better logging and debugging
    */
   public Entity(final String name) {
-    id = nextId++;
-    components = new HashMap<>();
+    id = NEXT_ID.getAndIncrement();
+    components = new Component[ComponentRegistry.size()];
+    componentMask = new BitSet();
     this.name = name;
-    LOGGER.info("The entity '" + name + "' was created.");
+    LOGGER.info(() -> "The entity '" + name + "' was created.");
   }
 
   /**
@@ -62,37 +79,47 @@ public final class Entity implements Comparable<Entity> {
    * <p>The name of the entity will be its id
    */
   public Entity() {
-    this("_" + nextId);
+    this("_" + NEXT_ID.get());
   }
 
   /**
    * Add a new component to this entity.
    *
    * <p>Changes in the component map of the entity will trigger a call to {@link
-   * ECSManagment#informAboutChanges}.
+   * ECSManagment#informAboutChanges(Entity, Class)}.
    *
    * <p>Remember that an entity can only store one component of each component class.
    *
    * @param component The component to add
    */
   public void add(final Component component) {
-    components.put(component.getClass(), component);
-    ECSManagment.informAboutChanges(this);
-    LOGGER.info(component.getClass().getName() + " Components from " + this + " was added.");
+    int id = ComponentRegistry.id(component.getClass());
+    if (id >= components.length) components = Arrays.copyOf(components, id + 1);
+    components[id] = component;
+    componentMask.set(id);
+    ECSManagment.informAboutChanges(this, component.getClass());
+    LOGGER.info(() -> component.getClass().getName() + " Components from " + this + " was added.");
   }
 
   /**
    * Remove a component from this entity.
    *
    * <p>Changes in the component map of the entity will trigger a call to {@link
-   * ECSManagment#informAboutChanges}.
+   * ECSManagment#informAboutChanges(Entity, Class)}.
+   *
+   * <p>The component is removed from the entity immediately. If the {@link
+   * ECSManagment#commandBuffer()} is recording, the systems will see the change at the playback of
+   * the buffer, like for {@link #add(Component)}.
    *
    * @param klass the Class of the component
    */
   public void remove(final Class<? extends Component> klass) {
-    if (components.remove(klass) != null) {
-      ECSManagment.informAboutChanges(this);
-      LOGGER.info(klass.getName() + " from " + name + " was removed.");
+    int id = ComponentRegistry.id(klass);
+    if (id < components.length && components[id] != null) {
+      components[id] = null;
+      componentMask.clear(id);
+      ECSManagment.informAboutChanges(this, klass);
+      LOGGER.info(() -> klass.getName() + " from " + name + " was removed.");
     }
   }
 
@@ -106,7 +133,23 @@ public final class Entity implements Comparable<Entity> {
    * @see Optional
    */
   public <T extends Component> Optional<T> fetch(final Class<T> klass) {
-    return Optional.ofNullable(klass.cast(components.get(klass)));
+    return Optional.ofNullable(get(ComponentRegistry.type(klass)));
+  }
+
+  /**
+   * Get the component of the given type.
+   *
+   * <p>Unlike {@link #fetch(Class)}, this method does not wrap the result in an {@link Optional}.
+   *
+   * @param type Type of the component.
+   * @param <T> The type of the (given and returned) component.
+   * @return The requested component, or null if this entity does not store a component of the given
+   *     type.
+   */
+  public <T extends Component> T get(final ComponentType<T> type) {
+    int id = type.id();
+    if (id >= components.length) return null;
+    return type.klass().cast(components[id]);
   }
 
   /**
@@ -116,16 +159,55 @@ public final class Entity implements Comparable<Entity> {
    * @return true if the component is present in the entity, false if not
    */
   public boolean isPresent(final Class<? extends Component> klass) {
-    return components.containsKey(klass);
+    return componentMask.get(ComponentRegistry.id(klass));
+  }
+
+  /**
+   * Get the component mask of this entity.
+   *
+   * <p>For each component stored in this entity, the bit with the {@link ComponentRegistry#id} of
+   * the component class is set.
+   *
+   * @return a copy of the component mask of this entity
+   */
+  public BitSet componentMask() {
+    return (BitSet) componentMask.clone();
   }
 
   /**
+   * Get the id of this entity.
+   *
+   * <p>The id is unique for the lifetime of the program and never reused, use it for logging. Use
+   * {@link #index()} for side tables.
+   *
    * @return The id of this entity
    */
   public int id() {
     return id;
   }
 
+  /**
+   * Get the handle of this entity.
+   *
+   * @return the handle, or an empty Optional if the entity is not in the game
+   */
+  public Optional<EntityHandle> handle() {
+    return Optional.ofNullable(handle);
+  }
+
+  /**
+   * Get the index of the slot of this entity.
+   *
+   * <p>The index is unique among the entities in the game and is reused after the entity was
+   * removed, see {@link EntityHandle}.
+   *
+   * @return the index, or -1 if the entity is not in the game
+   */
+  public int index() {
+    EntityHandle handle = this.handle;
+    return handle == null ? -1 : handle.index();
+  }
+
   /**
    * Set the name of this entity.
    *
@@ -161,6 +243,6 @@ public final class Entity implements Comparable<Entity> {
    * @return Stream of components.
    */
   public Stream<Component> componentStream() {
-    return components.values().stream();
+    return Arrays.stream(components).filter(Objects::nonNull);
   }
 }
@@ -0,0 +1,132 @@
+package core;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A handle of an entity that is registered in the game.
+ *
+ * <p>Each entity that is added to the game gets a slot: an {@link #index()} that is unique among
+ * the entities in the game, and the {@link #generation()} of this slot. If the entity is removed
+ * from the game, its slot is freed and the generation of the slot is increased. The next entity
+ * that is added reuses the index, with the new generation.
+ *
+ * <p>So the indices stay small, and per-entity side tables can be dense arrays indexed by {@link
+ * Entity#index()} (see {@link core.utils.EntityTable}) instead of hash maps keyed by the entity. A
+ * handle of a removed entity is detected by comparing its generation with the generation of the
+ * slot, see {@link #isAlive()}.
+ *
+ * <p>The slots are managed by the {@link core.game.ECSManagment}: an entity gets its slot when it
+ * is added and loses it when it is removed. Only these two operations take a lock; {@link
+ * #isAlive()} and {@link #entity()} read the slots without locking, so they can be used from the
+ * threads of {@link System#parallelForEach}. An entity that is added again (e.g., a pooled entity,
+ * see {@link core.game.Prefab}) gets a new handle. {@link Entity#id()} is not affected, it stays
+ * unique for the lifetime of the program and is still used for logging.
+ *
+ * @param index the index of the slot
+ * @param generation the generation of the slot when the handle was created
+ */
+public record EntityHandle(int index, int generation) {
+  private static final int INITIAL_CAPACITY = 256;
+  // replaced on growth, so readers see either the old or the new slots, never a partial copy
+  private static volatile Slots slots = new Slots(INITIAL_CAPACITY);
+  private static int[] free = new int[INITIAL_CAPACITY];
+  private static int freeCount = 0;
+  private static int size = 0;
+
+  /**
+   * Give the entity a slot.
+   *
+   * <p>This is called by the {@link core.game.ECSManagment} if the entity is added to the game.
+   * Does nothing if the entity already has a slot.
+   *
+   * @param entity the entity that is added to the game
+   * @return the handle of the entity
+   */
+  public static synchronized EntityHandle assign(final Entity entity) {
+    if (entity.handle != null) return entity.handle;
+    int index;
+    if (freeCount > 0) index = free[--freeCount];
+    else {
+      index = size++;
+      if (index == free.length) {
+        slots = slots.grow(index * 2);
+        free = Arrays.copyOf(free, index * 2);
+      }
+    }
+    Slots current = slots;
+    current.entities.set(index, entity);
+    entity.handle = new EntityHandle(index, current.generations.get(index));
+    return entity.handle;
+  }
+
+  /**
+   * Free the slot of the entity.
+   *
+   * <p>This is called by the {@link core.game.ECSManagment} if the entity is removed from the game.
+   * All handles of the entity become stale. Does nothing if the entity has no slot.
+   *
+   * @param entity the entity that is removed from the game
+   */
+  public static synchronized void release(final Entity entity) {
+    EntityHandle handle = entity.handle;
+    if (handle == null) return;
+    entity.handle = null;
+    Slots current = slots;
+    current.entities.set(handle.index, null);
+    current.generations.incrementAndGet(handle.index);
+    free[freeCount++] = handle.index;
+  }
+
+  /**
+   * Get the number of slots.
+   *
+   * <p>Each index of an entity in the game is smaller than this number, use it as size of dense
+   * side tables.
+   *
+   * @return the number of slots that were handed out so far, used or free
+   */
+  public static synchronized int capacity() {
+    return size;
+  }
+
+  /**
+   * Check if the entity of this handle is still in the game.
+   *
+   * @return true if the slot was not freed since this handle was created, false if not
+   */
+  public boolean isAlive() {
+    return slots.generations.get(index) == generation;
+  }
+
+  /**
+   * Get the entity of this handle.
+   *
+   * @return the entity, or an empty Optional if the handle is stale
+   */
+  public Optional<Entity> entity() {
+    Slots current = slots;
+    // the slot is cleared before its generation is increased, so check the generation last
+    Entity entity = current.entities.get(index);
+    if (current.generations.get(index) != generation) return Optional.empty();
+    return Optional.ofNullable(entity);
+  }
+
+  private record Slots(AtomicReferenceArray<Entity> entities, AtomicIntegerArray generations) {
+    private Slots(int capacity) {
+      this(new AtomicReferenceArray<>(capacity), new AtomicIntegerArray(capacity));
+    }
+
+    // only called while holding the lock, so no slot changes during the copy
+    private Slots grow(int capacity) {
+      Slots grown = new Slots(capacity);
+      for (int i = 0; i < entities.length(); i++) {
+        grown.entities.set(i, entities.get(i));
+        grown.generations.set(i, generations.get(i));
+      }
+      return grown;
+    }
+  }
+}
@@ -5,8 +5,14 @@ import com.badlogic.gdx.ai.pfa.GraphPath;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import core.components.PositionComponent;
 import core.game.ECSManagment;
+import core.game.GameInput;
 import core.game.GameLoop;
+import core.game.HeadlessGameLoop;
+import core.game.InputLog;
 import core.game.PreRunConfiguration;
+import core.game.Query;
+import core.game.Replay;
+import core.game.SystemProfiler;
 import core.level.Tile;
 import core.level.elements.ILevel;
 import core.level.utils.Coordinate;
@@ -17,7 +23,14 @@ import core.utils.IVoidFunction;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.IPath;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -52,12 +65,77 @@ import java.util.stream.Stream;
 public final class Game {
 
   private static final Logger LOGGER = Logger.getLogger(Game.class.getSimpleName());
+  private static final Query POSITIONED = Query.of(PositionComponent.class);
 
   /** Starts the dungeon and requires a {@link Game}. */
   public static void run() {
     GameLoop.run();
   }
 
+  /**
+   * Starts the dungeon without window and without OpenGL context.
+   *
+   * <p>The ticks are executed as fast as possible until {@link #exit()} is called.
+   *
+   * @see HeadlessGameLoop
+   */
+  public static void runHeadless() {
+    runHeadless(false);
+  }
+
+  /**
+   * Starts the dungeon without window and without OpenGL context.
+   *
+   * <p>The ticks are executed until {@link #exit()} is called.
+   *
+   * @param fixedRate true to execute {@link PreRunConfiguration#tickRate()} ticks per second, false
+   *     to execute the ticks as fast as possible
+   * @see HeadlessGameLoop
+   */
+  public static void runHeadless(boolean fixedRate) {
+    HeadlessGameLoop.run(fixedRate);
+  }
+
+  /**
+   * Starts the dungeon and records the input of the player.
+   *
+   * <p>When the game is closed, the recorded {@link InputLog} is written to the given file. Use
+   * {@link #replay(Path)} to play it back.
+   *
+   * @param log the file to write the input log to
+   * @throws IOException if the log can not be written
+   * @see GameInput#record(long)
+   */
+  public static void runRecorded(final Path log) throws IOException {
+    GameInput.record(java.lang.System.nanoTime());
+    try {
+      run();
+    } finally {
+      InputLog recorded = GameInput.stopRecording();
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(log))) {
+        recorded.write(out);
+      }
+      LOGGER.info("Input log with " + recorded.frames().size() + " frames written to " + log);
+    }
+  }
+
+  /**
+   * Plays a recorded input log back without window, as fast as possible.
+   *
+   * <p>Configure the game as for the recorded session before the replay.
+   *
+   * @param log the file to read the input log from
+   * @return the statistics of the systems during the replay, see {@link
+   *     SystemProfiler#writeCsv(Path)} to save them
+   * @throws IOException if the log can not be read
+   * @see Replay
+   */
+  public static List<SystemProfiler.Stats> replay(final Path log) throws IOException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(log))) {
+      return Replay.run(InputLog.read(in));
+    }
+  }
+
   /**
    * Retrieves the window width from Gdx.
    *
@@ -95,12 +173,17 @@ public final class Game {
   }
 
   /**
-   * Retrieves the frame rate from the pre-run configuration.
+   * Retrieves the number of logic frames per second.
+   *
+   * <p>This is the frame rate from the pre-run configuration, or the tick rate if the game runs
+   * with a fixed timestep. Use this to convert seconds into a number of system executions.
    *
    * @return The frame rate.
    */
   public static int frameRate() {
-    return PreRunConfiguration.frameRate();
+    return PreRunConfiguration.fixedTimestep()
+        ? PreRunConfiguration.tickRate()
+        : PreRunConfiguration.frameRate();
   }
 
   /**
@@ -148,6 +231,36 @@ public final class Game {
     PreRunConfiguration.disableAudio(disableAudio);
   }
 
+  /**
+   * Sets whether systems that do not conflict are executed at the same time.
+   *
+   * @param parallelSystems True to execute the systems in parallel, false to execute them one after
+   *     the other.
+   */
+  public static void parallelSystems(boolean parallelSystems) {
+    PreRunConfiguration.parallelSystems(parallelSystems);
+  }
+
+  /**
+   * Sets whether the logic systems run with a fixed timestep.
+   *
+   * @param fixedTimestep True to execute the logic systems at the tick rate, false to execute all
+   *     systems once per frame.
+   * @see PreRunConfiguration#fixedTimestep()
+   */
+  public static void fixedTimestep(boolean fixedTimestep) {
+    PreRunConfiguration.fixedTimestep(fixedTimestep);
+  }
+
+  /**
+   * Sets the number of logic ticks per second with a fixed timestep.
+   *
+   * @param tickRate The tick rate of the game.
+   */
+  public static void tickRate(int tickRate) {
+    PreRunConfiguration.tickRate(tickRate);
+  }
+
   /**
    * Sets the user-defined function for frame updates in the pre-run configuration.
    *
@@ -439,7 +552,7 @@ public final class Game {
     Tile tile = Game.tileAT(check.position());
     if (tile == null) return Stream.empty();
 
-    return ECSManagment.entityStream(Set.of(PositionComponent.class))
+    return POSITIONED.stream()
         .filter(
             e ->
                 tile.equals(
@@ -1,7 +1,13 @@
 package core;
 
+import core.game.ChunkExecutor;
+import core.game.EntityChunk;
+import core.game.Query;
 import core.utils.EntitySystemMapper;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
@@ -27,15 +33,39 @@ import java.util.stream.Stream;
  * #triggerOnAdd(Entity)} or {@link #triggerOnRemove(Entity)} will be called by the {@link
  * EntitySystemMapper}. Set the {@link #onEntityAdd} or {@link #onEntityRemove} attributes in the
  * inheriting System to implement the corresponding logic for these events.
+ *
+ * <p>On a level switch, the System is informed once with all entities of the old level and once
+ * with all entities of the new level, see {@link #onLevelDeactivate} and {@link #onLevelActivate}.
+ * By default, this calls {@link #onEntityRemove} and {@link #onEntityAdd} for each entity. A System
+ * that sets neither is not informed at all.
+ *
+ * <p>A System can declare which component classes it reads and writes in {@link #execute()} (see
+ * {@link #declareReads} and {@link #declareWrites}). Systems whose declarations do not conflict may
+ * be executed at the same time on different threads by the {@link core.game.SystemScheduler}. A
+ * System without a declaration is never executed alongside another System. Only declare the access
+ * if {@link #execute()} works on component data alone; a System that plays sounds, uses shared
+ * state, or calls code that can touch any component (e.g., callbacks or skills) should not declare
+ * it. Use {@link #pinToRenderThread()} if the System needs the OpenGL context.
+ *
+ * <p>If the game runs with a fixed timestep (see {@link
+ * core.game.PreRunConfiguration#fixedTimestep()}), the logic systems are executed at the tick rate
+ * and the systems marked with {@link #markAsRenderSystem()} once per rendered frame.
  */
 public abstract class System {
   /** WTF? . */
   public static final int DEFAULT_EVERY_FRAME_EXECUTE = 1;
 
   protected static final Logger LOGGER = Logger.getLogger(System.class.getSimpleName());
+  private static final Consumer<Entity> NOTHING = (e) -> {};
   private final Set<Class<? extends Component>> filterRules;
+  private final Query query;
   private final int executeEveryXFrames;
   protected boolean run;
+  // null as long as the system did not declare its component access
+  private Set<Class<? extends Component>> reads = null;
+  private Set<Class<? extends Component>> writes = null;
+  private boolean renderThread = false;
+  private boolean renderSystem = false;
 
   /**
    * Will be called after an entity was added to the corresponding {@link EntitySystemMapper}.
@@ -45,7 +75,7 @@ public abstract class System {
    *
    * <p>The default implementation is just empty.
    */
-  protected Consumer<Entity> onEntityAdd = (e) -> {};
+  protected Consumer<Entity> onEntityAdd = NOTHING;
 
   /**
    * Will be called after an entity was removed from the corresponding {@link EntitySystemMapper}.
@@ -55,7 +85,28 @@ public abstract class System {
    *
    * <p>The default implementation is just empty.
    */
-  protected Consumer<Entity> onEntityRemove = (e) -> {};
+  protected Consumer<Entity> onEntityRemove = NOTHING;
+
+  /**
+   * Will be called after the level of the entities of this system was deactivated, e.g., because
+   * the hero walked through a door.
+   *
+   * <p>The entities stay in the storage of the old level and come back if the level is loaded
+   * again. The list contains each entity of the old level that was processed by this system.
+   *
+   * <p>If this is null (the default), {@link #onEntityRemove} will be called for each entity. Set
+   * it if the system can keep its per-entity state while the level is inactive.
+   */
+  protected Consumer<List<Entity>> onLevelDeactivate = null;
+
+  /**
+   * Will be called after the level of the entities of this system was activated.
+   *
+   * <p>The list contains each entity of the new level that will be processed by this system.
+   *
+   * <p>If this is null (the default), {@link #onEntityAdd} will be called for each entity.
+   */
+  protected Consumer<List<Entity>> onLevelActivate = null;
 
   private int lastExecuteInFrames = 0;
 
@@ -73,8 +124,9 @@ public abstract class System {
     this.executeEveryXFrames = executeEveryXFrames;
     if (filterRules != null) this.filterRules = Set.of(filterRules);
     else this.filterRules = new HashSet<>();
+    query = Query.of(this.filterRules);
     run = true;
-    LOGGER.info(String.format("A new %s was created", getClass().getName()));
+    LOGGER.info(() -> String.format("A new %s was created", getClass().getName()));
   }
 
   /**
@@ -116,6 +168,46 @@ public abstract class System {
     onEntityRemove.accept(entity);
   }
 
+  /**
+   * Check if this System wants to know about the entities of a deactivated level.
+   *
+   * @return true if {@link #onLevelDeactivate} or {@link #onEntityRemove} is set, false if the
+   *     entities of the old level do not have to be collected for this System
+   */
+  public boolean observesLevelDeactivate() {
+    return onLevelDeactivate != null || onEntityRemove != NOTHING;
+  }
+
+  /**
+   * Check if this System wants to know about the entities of an activated level.
+   *
+   * @return true if {@link #onLevelActivate} or {@link #onEntityAdd} is set, false if the entities
+   *     of the new level do not have to be collected for this System
+   */
+  public boolean observesLevelActivate() {
+    return onLevelActivate != null || onEntityAdd != NOTHING;
+  }
+
+  /**
+   * Triggers the action associated with the deactivation of the level of the given entities.
+   *
+   * @param entities The entities of the old level that were processed by this System.
+   */
+  public void triggerOnLevelDeactivate(final List<Entity> entities) {
+    if (onLevelDeactivate != null) onLevelDeactivate.accept(entities);
+    else entities.forEach(this::triggerOnRemove);
+  }
+
+  /**
+   * Triggers the action associated with the activation of the level of the given entities.
+   *
+   * @param entities The entities of the new level that will be processed by this System.
+   */
+  public void triggerOnLevelActivate(final List<Entity> entities) {
+    if (onLevelActivate != null) onLevelActivate.accept(entities);
+    else entities.forEach(this::triggerOnAdd);
+  }
+
   /**
    * Retrieves the set of Component classes that define the filter rules for this System.
    *
@@ -129,6 +221,127 @@ public abstract class System {
     return new HashSet<>(filterRules);
   }
 
+  /**
+   * Declare the component classes this system reads in {@link #execute()}.
+   *
+   * <p>The component classes of the filter rules are always read and do not need to be declared.
+   * Call this in the constructor of the inheriting System.
+   *
+   * @param klasses the component classes this system reads
+   */
+  @SafeVarargs
+  protected final void declareReads(Class<? extends Component>... klasses) {
+    declareAccess();
+    reads.addAll(Arrays.asList(klasses));
+  }
+
+  /**
+   * Declare the component classes this system writes in {@link #execute()}.
+   *
+   * <p>Adding a component to an entity or removing a component from an entity counts as writing the
+   * component class. Call this in the constructor of the inheriting System.
+   *
+   * @param klasses the component classes this system writes
+   */
+  @SafeVarargs
+  protected final void declareWrites(Class<? extends Component>... klasses) {
+    declareAccess();
+    writes.addAll(Arrays.asList(klasses));
+  }
+
+  private void declareAccess() {
+    if (reads == null) {
+      reads = new HashSet<>(filterRules);
+      writes = new HashSet<>();
+    }
+  }
+
+  /**
+   * Check if this system declared the component classes it reads and writes.
+   *
+   * @return true if the system declared its component access, false if not
+   */
+  public final boolean hasDeclaredAccess() {
+    return reads != null;
+  }
+
+  /**
+   * Get the component classes this system reads.
+   *
+   * @return a copy of the declared read set including the filter rules, empty if the system did not
+   *     declare its component access
+   */
+  public final Set<Class<? extends Component>> reads() {
+    return reads == null ? new HashSet<>() : new HashSet<>(reads);
+  }
+
+  /**
+   * Get the component classes this system writes.
+   *
+   * @return a copy of the declared write set, empty if the system did not declare its component
+   *     access
+   */
+  public final Set<Class<? extends Component>> writes() {
+    return writes == null ? new HashSet<>() : new HashSet<>(writes);
+  }
+
+  /**
+   * Pin this system to the render thread.
+   *
+   * <p>A pinned system is always executed on the thread that owns the OpenGL context, even if it
+   * runs alongside other systems. Call this in the constructor of the inheriting System.
+   */
+  protected final void pinToRenderThread() {
+    renderThread = true;
+  }
+
+  /**
+   * Check if this system is pinned to the render thread.
+   *
+   * @return true if the system must be executed on the render thread, false if not
+   */
+  public final boolean isPinnedToRenderThread() {
+    return renderThread;
+  }
+
+  /**
+   * Mark this system as a render system.
+   *
+   * <p>With a fixed timestep, a render system is executed exactly once per rendered frame, after
+   * the logic ticks of the frame, instead of once per tick. Use this for systems that draw or that
+   * poll the input. Call this in the constructor of the inheriting System.
+   */
+  protected final void markAsRenderSystem() {
+    renderSystem = true;
+  }
+
+  /**
+   * Check if this system is a render system.
+   *
+   * @return true if the system is executed once per rendered frame, false if it is executed once
+   *     per logic tick
+   */
+  public final boolean isRenderSystem() {
+    return renderSystem;
+  }
+
+  /**
+   * Check if this system and the given system may not be executed at the same time.
+   *
+   * <p>Two systems conflict if one of them did not declare its component access, or if one of them
+   * writes a component class the other one reads or writes.
+   *
+   * @param other the other system
+   * @return true if the systems must be executed one after the other, false if they can be executed
+   *     at the same time
+   */
+  public final boolean conflictsWith(final System other) {
+    if (!hasDeclaredAccess() || !other.hasDeclaredAccess()) return true;
+    return !Collections.disjoint(writes, other.reads)
+        || !Collections.disjoint(writes, other.writes)
+        || !Collections.disjoint(reads, other.writes);
+  }
+
   /**
    * Set this system to the running state.
    *
@@ -166,7 +379,68 @@ public abstract class System {
    * @return a stream of active entities that will be processed by the system
    */
   public final Stream<Entity> entityStream() {
-    return Game.entityStream(this);
+    return query.stream();
+  }
+
+  /**
+   * Get the number of active entities for this system.
+   *
+   * @return the number of entities that {@link #entityStream()} would return
+   */
+  public final int entityCount() {
+    return query.mapper().size();
+  }
+
+  /**
+   * Process all active entities for this system in chunks on a work-stealing pool.
+   *
+   * <p>The entities are split into chunks of at most the given size. The chunks are processed at
+   * the same time on different threads, so the action must only touch the entities of its chunk and
+   * their components. Structural changes are collected per chunk and queued after all chunks are
+   * done. Use {@link #defer(Runnable)} for everything else.
+   *
+   * @param chunkSize the maximum number of entities per chunk
+   * @param action the action to execute for each chunk
+   * @see ChunkExecutor
+   */
+  protected final void forEachChunk(int chunkSize, final Consumer<EntityChunk> action) {
+    ChunkExecutor.forEachChunk(query.mapper().archetypes(), chunkSize, action);
+  }
+
+  /**
+   * Execute the given action for each active entity of this system, split into chunks of {@link
+   * ChunkExecutor#DEFAULT_CHUNK_SIZE} entities that are processed on a work-stealing pool.
+   *
+   * @param action the action to execute for each entity
+   * @see #forEachChunk(int, Consumer)
+   */
+  protected final void parallelForEach(final Consumer<Entity> action) {
+    parallelForEach(ChunkExecutor.DEFAULT_CHUNK_SIZE, action);
+  }
+
+  /**
+   * Execute the given action for each active entity of this system, split into chunks of the given
+   * size that are processed on a work-stealing pool.
+   *
+   * @param chunkSize the maximum number of entities per chunk
+   * @param action the action to execute for each entity
+   * @see #forEachChunk(int, Consumer)
+   */
+  protected final void parallelForEach(int chunkSize, final Consumer<Entity> action) {
+    forEachChunk(chunkSize, chunk -> chunk.forEach(action));
+  }
+
+  /**
+   * Execute the given callback after all chunks of the current {@link #forEachChunk} or {@link
+   * #parallelForEach} call are processed.
+   *
+   * <p>The callbacks are executed on the thread that called {@link #forEachChunk}, in chunk order.
+   * Outside a chunk, the callback is executed immediately.
+   *
+   * @param callback the callback to execute
+   */
+  protected final void defer(final Runnable callback) {
+    ChunkExecutor.defer(callback);
   }
 
   /**
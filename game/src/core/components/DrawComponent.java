@@ -3,26 +3,18 @@ package core.components;
 import core.Component;
 import core.systems.VelocitySystem;
 import core.utils.components.draw.Animation;
+import core.utils.components.draw.AnimationRegistry;
 import core.utils.components.draw.CoreAnimations;
 import core.utils.components.path.IPath;
-import core.utils.components.path.SimpleIPath;
-import core.utils.logging.CustomLogLevel;
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
 import java.util.*;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Store all {@link Animation}s for an entity.
  *
- * <p>At creation, the component will read in each subdirectory in the given path and create an
- * animation for each subdirectory.
+ * <p>At creation, the component will create an animation for each subdirectory in the given path.
+ * The subdirectories are looked up in the {@link AnimationRegistry}.
  *
  * <p>Each Animation will be created with default settings. If you want to change these settings,
  * use the methods from {@link Animation}.
@@ -60,6 +52,10 @@ public final class DrawComponent implements Component {
 
   private Map<String, Animation> animationMap = null;
   private Animation currentAnimation;
+  // the animation that was set by the constructor, see reset()
+  private Animation initialAnimation;
+  // the path of the animation assets, null if the animations were given directly
+  private IPath path = null;
   private int tintColor = -1; // -1 means no tinting
   private boolean isVisible = true;
 
@@ -67,7 +63,9 @@ public final class DrawComponent implements Component {
    * Create a new DrawComponent.
    *
    * <p>Will read in all subdirectories of the given path and use each file in the subdirectory to
-   * create an animation. So each subdirectory should contain only the files for one animation.
+   * create an animation. So each subdirectory should contain only the files for one animation. The
+   * subdirectories are read once by the {@link AnimationRegistry}; later components of the same
+   * path share their frames and do not read the assets again.
    *
    * <p>Animations should not be set directly via {@link #currentAnimation()} but rather be queued
    * via {@link #queueAnimation(IPath...)} or {@link #queueAnimation(int, IPath...)}.
@@ -84,26 +82,22 @@ public final class DrawComponent implements Component {
    * @see Animation
    */
   public DrawComponent(final IPath path) throws IOException {
-    // fetch available animations
-    try {
-      loadAnimationAssets(path);
-      currentAnimation(
-          CoreAnimations.IDLE_DOWN,
-          CoreAnimations.IDLE_LEFT,
-          CoreAnimations.IDLE_RIGHT,
-          CoreAnimations.IDLE_UP,
-          CoreAnimations.IDLE);
-
-      // if no idle animation exists, set the missing texture animation as idle
-      if (currentAnimation == null) {
-        animationMap.put(CoreAnimations.IDLE.pathString(), Animation.defaultAnimation());
-        currentAnimation(CoreAnimations.IDLE);
-      }
-    } catch (NullPointerException np) {
-      // We convert the "NullPointerException" to a "FileNotFoundException" because the only
-      // reason for a NullPointerException is if the directory does not exist.
-      throw new FileNotFoundException("Path " + path + " not found.");
+    this.path = path;
+    // fetch available animations, the assets are only read for the first component of a path
+    animationMap = AnimationRegistry.animations(path);
+    currentAnimation(
+        CoreAnimations.IDLE_DOWN,
+        CoreAnimations.IDLE_LEFT,
+        CoreAnimations.IDLE_RIGHT,
+        CoreAnimations.IDLE_UP,
+        CoreAnimations.IDLE);
+
+    // if no idle animation exists, set the missing texture animation as idle
+    if (currentAnimation == null) {
+      animationMap.put(CoreAnimations.IDLE.pathString(), Animation.defaultAnimation());
+      currentAnimation(CoreAnimations.IDLE);
     }
+    initialAnimation = currentAnimation;
   }
 
   /**
@@ -120,22 +114,71 @@ public final class DrawComponent implements Component {
     animationMap.put(CoreAnimations.IDLE_LEFT.pathString(), idle);
     animationMap.put(CoreAnimations.IDLE_RIGHT.pathString(), idle);
     currentAnimation = idle;
+    initialAnimation = idle;
+  }
+
+  private DrawComponent(
+      final Map<String, Animation> animationMap, final Animation initial, final IPath path) {
+    this.animationMap = animationMap;
+    this.currentAnimation = initial;
+    this.initialAnimation = initial;
+    this.path = path;
+  }
+
+  /**
+   * Create a copy of this component in the state after its construction.
+   *
+   * <p>The copy gets its own copies of the animations, so both components play them independently.
+   * Unlike {@link #DrawComponent(IPath)}, the copy does not read the animation assets again.
+   *
+   * @return a new DrawComponent with the animations of this component
+   */
+  public DrawComponent copy() {
+    Map<String, Animation> animations = new HashMap<>();
+    Animation initial = null;
+    for (Map.Entry<String, Animation> entry : animationMap.entrySet()) {
+      Animation animation = entry.getValue().copy();
+      animations.put(entry.getKey(), animation);
+      if (entry.getValue() == initialAnimation) initial = animation;
+    }
+    return new DrawComponent(animations, initial == null ? initialAnimation : initial, path);
+  }
+
+  /**
+   * Get the path of the animation assets.
+   *
+   * @return the path that was given to {@link #DrawComponent(IPath)}, or an empty Optional if the
+   *     animations were given directly
+   */
+  public Optional<IPath> path() {
+    return Optional.ofNullable(path);
   }
 
   /**
-   * @param subDir in which to look for files for the animation
-   * @return a basic configured Animation
+   * Get the name of the current animation.
+   *
+   * @return the key of the current animation in the {@link #animationMap()}, or an empty Optional
+   *     if the current animation is not in the map
+   */
+  public Optional<String> currentAnimationName() {
+    for (Map.Entry<String, Animation> entry : animationMap.entrySet())
+      if (entry.getValue() == currentAnimation) return Optional.of(entry.getKey());
+    return Optional.empty();
+  }
+
+  /**
+   * Reset this component to the state after its construction.
+   *
+   * <p>Clears the animation queue, restarts all animations, sets the idle animation that was chosen
+   * by the constructor as current animation, removes the tint, and makes the component visible
+   * again. Used for entities that are reused, see {@link core.game.Prefab}.
    */
-  private static Animation allFilesFromDirectory(final File subDir) {
-    return Animation.fromCollection(
-        Arrays.stream(Objects.requireNonNull(subDir.listFiles()))
-            // only look for direct Files no recursive search
-            .filter(File::isFile)
-            // File object needs to be converted to IPath
-            .map(file -> new SimpleIPath(file.getPath()))
-            // sort by name streams may lose the ordering by name
-            .sorted(Comparator.comparing(SimpleIPath::pathString))
-            .collect(Collectors.toList()));
+  public void reset() {
+    animationQueue.clear();
+    animationMap.values().forEach(Animation::reset);
+    currentAnimation = initialAnimation;
+    tintColor = -1;
+    isVisible = true;
   }
 
   /**
@@ -364,126 +407,6 @@ public final class DrawComponent implements Component {
     this.animationMap = new HashMap<>(animationMap);
   }
 
-  /**
-   * Loading animation assets.
-   *
-   * <p>Checks if the game is running in a JAR or not and will execute the corresponding loading
-   * logic.
-   *
-   * <p>TODO: This is only a quick fix! We need to implement a proper way of loading assets. (See <a
-   * href="https://github.com/Dungeon-CampusMinden/Dungeon/issues/1361">Issue #1361</a>)
-   *
-   * @param path The path of the animation assets.
-   */
-  private void loadAnimationAssets(final IPath path) throws IOException {
-
-    Thread thread = Thread.currentThread();
-    StackTraceElement[] stack = thread.getStackTrace();
-
-    StackTraceElement currentElement = null;
-    Class<?> clazz = null;
-    for (int i = 1; i < stack.length; i++) {
-      currentElement = stack[i];
-      if (!currentElement.getClassName().equals(DrawComponent.class.getName())) {
-        try {
-          clazz = ClassLoader.getSystemClassLoader().loadClass(currentElement.getClassName());
-        } catch (ClassNotFoundException e) {
-          System.err.println(
-              "Could not load class " + currentElement.getClassName() + " from stacktrace.");
-        }
-        break;
-      }
-    }
-
-    File jarFile =
-        new File(
-            (clazz == null ? getClass() : clazz)
-                .getProtectionDomain()
-                .getCodeSource()
-                .getLocation()
-                .getPath());
-    if (jarFile.isFile()) loadAnimationsFromJar(path, jarFile);
-    else loadAnimationsFromIDE(path);
-  }
-
-  /**
-   * Load the animation assets if the game is running in a JAR.
-   *
-   * <p>This function will create a map of directories ({@link String}) and the files ({@link
-   * LinkedList}) inside these directories. The map will be filled with the directories inside the
-   * given path (e.g., "character/knight"). Ultimately, this function will manually create an
-   * Animation for each entry within this map.
-   *
-   * @param path Path to the assets.
-   * @param jarFile Path to the JAR files.
-   * @throws IOException if the JAR file or the files in the JAR file cannot be read.
-   */
-  private void loadAnimationsFromJar(final IPath path, final File jarFile) throws IOException {
-
-    JarFile jar = new JarFile(jarFile);
-    Enumeration<JarEntry> entries = jar.entries(); // gives ALL entries in jar
-
-    // This will be used to map the directory names (e.g., "idle") and the texture files.
-    // Ultimately, we will create animations out of this by using the
-    // Animation(LinkedList<String>) constructor.
-
-    HashMap<String, List<IPath>> storage = new HashMap<>();
-    animationMap = new HashMap<>();
-
-    // Iterate over each file and directory in the JAR.
-
-    while (entries.hasMoreElements()) {
-      // example: character/knight/idle_down/idle_down_knight_1.png
-      // but also: character/knight/idle/
-      // and: character/knight/
-      String fileName = entries.nextElement().getName();
-
-      // If the entry starts with the path name (character/knight/idle),
-      // this is true for entries like (character/knight/idle_down/idle_down_knight_1.png) and
-      // (character/knight/idle/).
-      if (fileName.startsWith(path.pathString() + "/")) {
-
-        // Get the index of the last FileSeparator; every character after that separator is
-        // part of the filename.
-        int lastSlashIndex = fileName.lastIndexOf("/");
-
-        // Ignore directories, so we only work with strings like
-        // (character/knight/idle_down/idle_down_knight_1.png).
-        if (lastSlashIndex != fileName.length() - 1) {
-          // Get the index of the second-to-last part of the string.
-          // For example, in "character/knight/idle_down/idle_down_knight_1.png", this would be the
-          // index of the slash in "/idle".
-
-          int secondLastSlashIndex = fileName.lastIndexOf("/", lastSlashIndex - 1);
-
-          // Get the name of the directory. The directory name is between the
-          // second-to-last and the last separator index.
-          // The directory name serves as the key of the animation in the animation map
-          // (similar to what the IPATh values are for them).
-          // For example: "idle"
-
-          String lastDir = fileName.substring(secondLastSlashIndex + 1, lastSlashIndex);
-
-          // add animation-files to new or existing storage map
-          if (storage.containsKey(lastDir)) storage.get(lastDir).add(new SimpleIPath(fileName));
-          else {
-            LinkedList<IPath> list = new LinkedList<>();
-            list.add(new SimpleIPath(fileName));
-            storage.put(lastDir, list);
-          }
-        }
-      }
-    }
-
-    // sort the files in lexicographic order (like the most os)
-    // animations will be played in order
-    storage.values().forEach(x -> x.sort(Comparator.comparing(IPath::pathString)));
-    // create animations
-    storage.forEach(
-        (name, textureSet) -> animationMap.put(name, Animation.fromCollection(textureSet)));
-    jar.close();
-  }
-
   public boolean isVisible() {
     return isVisible;
   }
@@ -492,31 +415,6 @@ public final class DrawComponent implements Component {
     isVisible = visible;
   }
 
-  /**
-   * Load animations if the game is running in the IDE (or over the shell).
-   *
-   * @param path Path to the animations.
-   */
-  private void loadAnimationsFromIDE(final IPath path) {
-    URL url = DrawComponent.class.getResource("/" + path.pathString());
-    if (url != null) {
-      try {
-        try {
-          File apps = new File(url.toURI());
-          animationMap =
-              Arrays.stream(Objects.requireNonNull(apps.listFiles()))
-                  .filter(File::isDirectory)
-                  .collect(Collectors.toMap(File::getName, DrawComponent::allFilesFromDirectory));
-        } catch (IllegalArgumentException e) {
-          LOGGER.log(
-              CustomLogLevel.ERROR, "Could not load animations from directory: " + url.toURI(), e);
-        }
-      } catch (URISyntaxException e) {
-        LOGGER.log(CustomLogLevel.ERROR, "Could not load animations from directory", e);
-      }
-    }
-  }
-
   /**
    * Returns the tint color of the DrawComponent.
    *
@@ -3,6 +3,7 @@ package core.components;
 import com.badlogic.gdx.Input;
 import core.Component;
 import core.Entity;
+import core.utils.components.Unique;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -15,9 +16,13 @@ import java.util.function.Consumer;
  * mappings can be added or changed via {@link #registerCallback} and removed via {@link
  * #removeCallback}. The codes for the buttons originate from {@link Input.Keys}.
  *
+ * <p>The component is {@link Unique}, so {@link core.Game#hero()} finds the entity without a
+ * search.
+ *
  * @see Input.Keys
  * @see core.systems.PlayerSystem
  */
+@Unique
 public final class PlayerComponent implements Component {
 
   private final Map<Integer, InputData> callbacks;
@@ -22,6 +22,10 @@ import dsl.annotation.DSLType;
  *
  * <p>Use {@link #position()} to get a copy of the position.
  *
+ * <p>With a fixed timestep (see {@link core.game.PreRunConfiguration#fixedTimestep()}), the game
+ * loop remembers the position before each logic tick (see {@link #rememberPosition()}), so a frame
+ * between two ticks can be drawn at {@link #interpolatedPosition(float)}.
+ *
  * @see core.systems.PositionSystem
  * @see Point
  */
@@ -32,6 +36,7 @@ public final class PositionComponent implements Component {
   public static final Point ILLEGAL_POSITION = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
 
   private Point position;
+  private Point previousPosition = null;
 
   /**
    * Create a new PositionComponent with given position.
@@ -85,6 +90,35 @@ public final class PositionComponent implements Component {
     this.position = new Point(position);
   }
 
+  /**
+   * Remember the current position as the position before the next logic tick.
+   *
+   * <p>The game loop calls this before each tick with a fixed timestep.
+   */
+  public void rememberPosition() {
+    // the setter replaces the point, so sharing the reference is safe
+    previousPosition = position;
+  }
+
+  /**
+   * Get the position between the remembered position and the current position.
+   *
+   * @param alpha Fraction of the way from the remembered position to the current position, between
+   *     0 and 1.
+   * @return A new point between the two positions, or a copy of the current position if there is no
+   *     remembered position.
+   * @see #rememberPosition()
+   */
+  public Point interpolatedPosition(float alpha) {
+    if (alpha >= 1
+        || previousPosition == null
+        || previousPosition == ILLEGAL_POSITION
+        || position == ILLEGAL_POSITION) return position();
+    return new Point(
+        previousPosition.x + (position.x - previousPosition.x) * alpha,
+        previousPosition.y + (position.y - previousPosition.y) * alpha);
+  }
+
   /**
    * Set the position.
    *
@@ -31,7 +31,9 @@ import java.util.function.Consumer;
 @DSLType(name = "velocity_component")
 public final class VelocityComponent implements Component {
 
-  private static final Consumer<Entity> DEFAULT_ON_WALL_HIT = e -> {};
+  /** The default behavior when a wall is hit, does nothing. */
+  public static final Consumer<Entity> DEFAULT_ON_WALL_HIT = e -> {};
+
   private float currentXVelocity;
   private float currentYVelocity;
   private @DSLTypeMember(name = "x_velocity") float xVelocity;
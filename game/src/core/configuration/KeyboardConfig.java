@@ -45,6 +45,10 @@ public class KeyboardConfig {
       new ConfigKey<>(
           new String[] {"movement", "mouse_move"}, new ConfigIntValue(Input.Buttons.RIGHT));
 
+  /** Shows or hides the profiler overlay, see {@link core.game.SystemProfiler}. */
+  public static final ConfigKey<Integer> TOGGLE_PROFILER =
+      new ConfigKey<>(new String[] {"debug", "profiler"}, new ConfigIntValue(Input.Keys.F3));
+
   /** WTF? . */
   public static final ConfigKey<Integer> PAUSE =
       new ConfigKey<>(new String[] {"pause", "pause_game"}, new ConfigIntValue(Input.Keys.P));
@@ -0,0 +1,130 @@
+package core.game;
+
+import core.Entity;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores all entities of an {@link EntityStorage} that have exactly the same set of components.
+ *
+ * <p>The set of components is described by a component mask (see {@link ComponentRegistry}). The
+ * entities are kept in a dense array, so iterating over an archetype is a simple array walk. If an
+ * entity is removed, the last entity of the array is moved into the free slot.
+ *
+ * <p>Archetypes are created and filled by the {@link EntityStorage}. A {@link
+ * core.utils.EntitySystemMapper} uses {@link #matches(BitSet)} to check once if all entities of the
+ * archetype fulfill its filter rules.
+ *
+ * <p>Each archetype caches its neighbours, the archetypes that differ in exactly one component. So
+ * adding or removing a component moves an entity to the next archetype without building and hashing
+ * a new mask.
+ */
+public final class Archetype {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final BitSet mask;
+  private final Map<Entity, Integer> indices = new HashMap<>();
+  private Entity[] entities = new Entity[INITIAL_CAPACITY];
+  private int size = 0;
+  // indexed by component ID
+  private Archetype[] neighbours = new Archetype[0];
+
+  /**
+   * Create a new archetype for the given component mask.
+   *
+   * @param mask the component mask, will be copied
+   */
+  Archetype(final BitSet mask) {
+    this.mask = (BitSet) mask.clone();
+  }
+
+  /**
+   * Check if the entities of this archetype contain all components of the given filter mask.
+   *
+   * @param filter the filter mask
+   * @return true if every bit of the filter is set in the mask of this archetype, false if not
+   */
+  public boolean matches(final BitSet filter) {
+    for (int i = filter.nextSetBit(0); i >= 0; i = filter.nextSetBit(i + 1))
+      if (!mask.get(i)) return false;
+    return true;
+  }
+
+  /**
+   * Get the number of entities in this archetype.
+   *
+   * @return the number of entities
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the entity at the given index.
+   *
+   * @param index the index of the entity, between 0 and {@link #size()} (exclusive)
+   * @return the entity at the given index
+   */
+  public Entity entity(int index) {
+    return entities[index];
+  }
+
+  /**
+   * Copy the entities of this archetype into the given array.
+   *
+   * @param target the array to copy into
+   * @param offset the index in the target array of the first copied entity
+   * @return the number of copied entities
+   */
+  public int copyInto(final Entity[] target, int offset) {
+    System.arraycopy(entities, 0, target, offset, size);
+    return size;
+  }
+
+  /**
+   * Check if the entities of this archetype contain the component with the given ID.
+   *
+   * @param componentId the ID of the component class, see {@link ComponentRegistry#id}
+   * @return true if the component is part of this archetype, false if not
+   */
+  public boolean has(int componentId) {
+    return mask.get(componentId);
+  }
+
+  /**
+   * Get a copy of the component mask of this archetype.
+   *
+   * @return the component mask
+   */
+  public BitSet mask() {
+    return (BitSet) mask.clone();
+  }
+
+  Archetype neighbour(int componentId) {
+    return componentId < neighbours.length ? neighbours[componentId] : null;
+  }
+
+  void neighbour(int componentId, final Archetype archetype) {
+    if (componentId >= neighbours.length) neighbours = Arrays.copyOf(neighbours, componentId + 1);
+    neighbours[componentId] = archetype;
+  }
+
+  void add(final Entity entity) {
+    if (size == entities.length) entities = Arrays.copyOf(entities, size * 2);
+    indices.put(entity, size);
+    entities[size++] = entity;
+  }
+
+  void remove(final Entity entity) {
+    Integer index = indices.remove(entity);
+    if (index == null) return;
+    Entity last = entities[--size];
+    entities[size] = null;
+    if (last != entity) {
+      entities[index] = last;
+      indices.put(last, index);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package core.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Processes the entities of a set of {@link Archetype}s in fixed-size chunks on a work-stealing
+ * pool.
+ *
+ * <p>Use this via {@link core.System#forEachChunk} or {@link core.System#parallelForEach} for
+ * independent per-entity work. The chunks are executed as {@link ForkJoinTask}s in the {@link
+ * java.util.concurrent.ForkJoinPool#commonPool()}; the calling thread processes chunks as well. On
+ * a machine with a single core, the chunks are processed one after the other on the calling thread.
+ *
+ * <p>While the chunks are processed, the {@link ECSManagment#commandBuffer()} records. Structural
+ * changes are collected per chunk and callbacks that are passed to {@link #defer(Runnable)} are
+ * collected per chunk as well. After all chunks are done, the changes are queued and the callbacks
+ * are executed on the calling thread, both in chunk order, so the result does not depend on the
+ * timing of the threads. If the buffer was not recording before, the changes are applied at the
+ * end.
+ *
+ * <p>The action must only touch the given entity and its components. Everything else (e.g.
+ * observers, other entities, or HUD elements) belongs in a deferred callback.
+ */
+public final class ChunkExecutor {
+  /** Default number of entities per chunk. */
+  public static final int DEFAULT_CHUNK_SIZE = 256;
+
+  // with a single core, forking only adds context switches
+  private static final boolean PARALLEL = Runtime.getRuntime().availableProcessors() > 1;
+  private static final ThreadLocal<EntityChunk> CURRENT = new ThreadLocal<>();
+
+  private ChunkExecutor() {}
+
+  /**
+   * Process the entities of the given archetypes in chunks.
+   *
+   * @param archetypes the archetypes to process
+   * @param chunkSize the maximum number of entities per chunk
+   * @param action the action to execute for each chunk
+   */
+  public static void forEachChunk(
+      final List<Archetype> archetypes, int chunkSize, final Consumer<EntityChunk> action) {
+    if (chunkSize < 1) throw new IllegalArgumentException("The chunk size must be at least 1.");
+    List<EntityChunk> chunks = new ArrayList<>();
+    for (Archetype archetype : archetypes)
+      for (int from = 0; from < archetype.size(); from += chunkSize)
+        chunks.add(new EntityChunk(archetype, from, Math.min(archetype.size(), from + chunkSize)));
+    if (chunks.isEmpty()) return;
+
+    EntityCommandBuffer buffer = ECSManagment.commandBuffer();
+    boolean recording = buffer.isRecording();
+    if (!recording) buffer.record();
+    try {
+      if (chunks.size() == 1 || !PARALLEL) chunks.forEach(chunk -> run(chunk, action));
+      else {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks.size());
+        for (EntityChunk chunk : chunks) tasks.add(ForkJoinTask.adapt(() -> run(chunk, action)));
+        ForkJoinTask.invokeAll(tasks);
+      }
+      for (EntityChunk chunk : chunks) buffer.queueAll(chunk.commands);
+      for (EntityChunk chunk : chunks) chunk.callbacks.forEach(ChunkExecutor::defer);
+    } finally {
+      if (!recording) buffer.playback();
+    }
+  }
+
+  /**
+   * Execute the given callback after all chunks are processed.
+   *
+   * <p>If the current thread processes a chunk, the callback is collected in the chunk and executed
+   * on the thread that started the chunk processing. Otherwise, the callback is executed
+   * immediately.
+   *
+   * @param callback the callback to execute
+   */
+  public static void defer(final Runnable callback) {
+    EntityChunk chunk = CURRENT.get();
+    if (chunk != null) chunk.callbacks.add(callback);
+    else callback.run();
+  }
+
+  private static void run(final EntityChunk chunk, final Consumer<EntityChunk> action) {
+    // a thread that waits for a task may process another chunk in between, keep the outer state
+    EntityChunk outer = CURRENT.get();
+    List<Runnable> outerCommands = ECSManagment.commandBuffer().capture(chunk.commands);
+    CURRENT.set(chunk);
+    try {
+      action.accept(chunk);
+    } finally {
+      ECSManagment.commandBuffer().capture(outerCommands);
+      if (outer != null) CURRENT.set(outer);
+      else CURRENT.remove();
+    }
+  }
+}
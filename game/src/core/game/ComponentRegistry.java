@@ -0,0 +1,103 @@
+package core.game;
+
+import core.Component;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns a small, dense integer ID and a {@link ComponentType} to each {@link Component} class.
+ *
+ * <p>The ID of a component class is used as bit index in the component mask of an {@link
+ * core.Entity} (see {@link core.Entity#componentMask()}) and in the filter masks of the {@link
+ * core.utils.EntitySystemMapper}. IDs are assigned on first use and stay stable for the whole
+ * runtime of the game.
+ *
+ * <p>The ID is also the index of the component slot inside an {@link core.Entity}.
+ *
+ * <p>Use {@link #id(Class)} to get the ID of a component class, {@link #type(Class)} to get its
+ * {@link ComponentType}, and {@link #mask(Collection)} to build a mask for a set of component
+ * classes.
+ */
+public final class ComponentRegistry {
+  private static final Map<Class<? extends Component>, ComponentType<?>> TYPES =
+      new ConcurrentHashMap<>();
+  private static final AtomicInteger NEXT_ID = new AtomicInteger(0);
+  private static final List<ComponentType<?>> UNIQUE_TYPES = new CopyOnWriteArrayList<>();
+  private static final List<ComponentType<?>> UNIQUE_TYPES_VIEW =
+      Collections.unmodifiableList(UNIQUE_TYPES);
+
+  private ComponentRegistry() {}
+
+  /**
+   * Get the ID of the given component class.
+   *
+   * <p>If the class has no ID yet, a new one will be assigned.
+   *
+   * @param klass the component class
+   * @return the ID of the component class
+   */
+  public static int id(final Class<? extends Component> klass) {
+    return type(klass).id();
+  }
+
+  /**
+   * Get the {@link ComponentType} of the given component class.
+   *
+   * <p>If the class has no type yet, a new one with a new ID will be created.
+   *
+   * @param klass the component class
+   * @param <T> the type of the component
+   * @return the type of the component class
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Component> ComponentType<T> type(final Class<T> klass) {
+    ComponentType<?> type = TYPES.get(klass);
+    if (type == null)
+      type =
+          TYPES.computeIfAbsent(
+              klass,
+              k -> {
+                ComponentType<T> created = new ComponentType<>(klass, NEXT_ID.getAndIncrement());
+                if (created.isUnique()) UNIQUE_TYPES.add(created);
+                return created;
+              });
+    return (ComponentType<T>) type;
+  }
+
+  /**
+   * Build a bit mask in which the bit of each given component class is set.
+   *
+   * @param klasses the component classes
+   * @return a new mask for the given component classes
+   */
+  public static BitSet mask(final Collection<Class<? extends Component>> klasses) {
+    BitSet mask = new BitSet();
+    for (Class<? extends Component> klass : klasses) mask.set(id(klass));
+    return mask;
+  }
+
+  /**
+   * Get the types of the registered component classes that are marked as {@link
+   * core.utils.components.Unique}.
+   *
+   * @return an unmodifiable view of the unique component types
+   */
+  public static List<ComponentType<?>> uniqueTypes() {
+    return UNIQUE_TYPES_VIEW;
+  }
+
+  /**
+   * Get the number of component classes that have an ID.
+   *
+   * @return the number of registered component classes
+   */
+  public static int size() {
+    return NEXT_ID.get();
+  }
+}
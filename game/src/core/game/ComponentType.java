@@ -0,0 +1,88 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import core.utils.components.Unique;
+
+/**
+ * A handle for a {@link Component} class with a dense index.
+ *
+ * <p>Each component class has exactly one ComponentType. Use {@link #of(Class)} to get it. The
+ * {@link #id()} of the type is the index of the component slot inside an {@link Entity}, so {@link
+ * Entity#get(ComponentType)} can read a component without hashing and without wrapping it in an
+ * {@link java.util.Optional}.
+ *
+ * <p>Systems that read components for each entity in each frame should store the types they need in
+ * constants:
+ *
+ * <pre>{@code
+ * private static final ComponentType<PositionComponent> POSITION =
+ *     ComponentType.of(PositionComponent.class);
+ * }</pre>
+ *
+ * @param <T> The type of the component.
+ * @see ComponentRegistry
+ */
+public final class ComponentType<T extends Component> {
+  private final Class<T> klass;
+  private final int id;
+  private final boolean unique;
+
+  /**
+   * Create a new ComponentType.
+   *
+   * <p>Only the {@link ComponentRegistry} creates types, it makes sure that there is only one
+   * instance per component class.
+   *
+   * @param klass The component class.
+   * @param id The dense index of the component class.
+   */
+  ComponentType(final Class<T> klass, int id) {
+    this.klass = klass;
+    this.id = id;
+    this.unique = klass.isAnnotationPresent(Unique.class);
+  }
+
+  /**
+   * Get the ComponentType of the given component class.
+   *
+   * @param klass The component class.
+   * @param <T> The type of the component.
+   * @return The ComponentType of the given class.
+   */
+  public static <T extends Component> ComponentType<T> of(final Class<T> klass) {
+    return ComponentRegistry.type(klass);
+  }
+
+  /**
+   * Get the component class of this type.
+   *
+   * @return The component class.
+   */
+  public Class<T> klass() {
+    return klass;
+  }
+
+  /**
+   * Get the dense index of this type.
+   *
+   * @return The index of the component class.
+   */
+  public int id() {
+    return id;
+  }
+
+  /**
+   * Check if the component class is marked as {@link Unique}.
+   *
+   * @return true if at most one entity per level is expected to hold the component
+   */
+  public boolean isUnique() {
+    return unique;
+  }
+
+  @Override
+  public String toString() {
+    return "ComponentType[" + klass.getName() + "#" + id + "]";
+  }
+}
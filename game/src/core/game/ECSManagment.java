@@ -2,10 +2,12 @@ package core.game;
 
 import core.Component;
 import core.Entity;
+import core.EntityHandle;
 import core.System;
 import core.components.PlayerComponent;
 import core.level.elements.ILevel;
 import core.utils.EntitySystemMapper;
+import core.utils.EntityTable;
 import java.util.*;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -23,17 +25,31 @@ import java.util.stream.Stream;
  *
  * <p>Get access via: {@link #entityStream()}, {@link #systems()}
  *
+ * <p>The entities of each level are stored in an {@link EntityStorage}, which groups them into
+ * {@link Archetype}s by their component mask. Filter queries are resolved by matching the filter
+ * mask against the archetypes instead of checking each entity.
+ *
+ * <p>Each entity in the game has an {@link EntityHandle}. It gets the handle when it is added and
+ * loses it when it is removed, see {@link Entity#index()}.
+ *
+ * <p>Structural changes (adding and removing entities or components) that are made while the {@link
+ * #commandBuffer()} is recording are queued and applied in one batch at the end of the frame.
+ *
  * <p>All API methods can also be accessed via the {@link core.Game} class.
  */
 public final class ECSManagment {
   private static final Logger LOGGER = Logger.getLogger(ECSManagment.class.getSimpleName());
   private static final Map<Class<? extends System>, System> SYSTEMS = new LinkedHashMap<>();
-  private static final Map<ILevel, Set<EntitySystemMapper>> LEVEL_STORAGE_MAP = new HashMap<>();
-  private static Set<EntitySystemMapper> activeEntityStorage = new HashSet<>();
+  private static final Map<ILevel, EntityStorage> LEVEL_STORAGE_MAP = new HashMap<>();
+  private static final EntityTable<EntityStorage> ENTITY_STORAGE = new EntityTable<>();
+  private static final EntityCommandBuffer COMMAND_BUFFER = new EntityCommandBuffer();
+  private static final ComponentType<PlayerComponent> PLAYER =
+      ComponentType.of(PlayerComponent.class);
+  private static EntityStorage activeEntityStorage = new EntityStorage();
 
   static {
     LEVEL_STORAGE_MAP.put(null, activeEntityStorage);
-    activeEntityStorage.add(new EntitySystemMapper());
+    activeEntityStorage.createMapper(new HashSet<>());
   }
 
   /**
@@ -45,9 +61,34 @@ public final class ECSManagment {
    * @param entity the entity that has changes in its Component Collection.
    */
   public static void informAboutChanges(Entity entity) {
-    if (entityStream().anyMatch(entity1 -> entity1.equals(entity))) {
-      activeEntityStorage.forEach(f -> f.update(entity));
-      LOGGER.info("Entity: " + entity + " informed the Game about component changes.");
+    EntityStorage storage = ENTITY_STORAGE.get(entity);
+    if (storage != null && storage.update(entity)) {
+      LOGGER.info(() -> "Entity: " + entity + " informed the Game about component changes.");
+    }
+  }
+
+  /**
+   * Inform the {@link System}s that a component of the given class was added to or removed from the
+   * given Entity.
+   *
+   * <p>Only the {@link EntitySystemMapper}s of the level the entity belongs to that have the given
+   * class in their filter rules will be checked. The cost does not depend on the number of entities
+   * in the game.
+   *
+   * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} or {@link
+   * System#triggerOnRemove(Entity)}.
+   *
+   * <p>If the {@link #commandBuffer()} is recording, the systems will be informed at the playback.
+   *
+   * @param entity the entity that has changes in its Component Collection.
+   * @param klass the class of the added or removed component.
+   */
+  public static void informAboutChanges(Entity entity, Class<? extends Component> klass) {
+    EntityStorage storage = ENTITY_STORAGE.get(entity);
+    if (storage == null) return;
+    if (COMMAND_BUFFER.isRecording()) COMMAND_BUFFER.update(entity, klass);
+    else if (storage.update(entity, klass)) {
+      LOGGER.info(() -> "Entity: " + entity + " informed the Game about component changes.");
     }
   }
 
@@ -58,11 +99,38 @@ public final class ECSManagment {
    *
    * <p>If necessary, the {@link System} will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>An entity belongs to exactly one level. If the entity is still stored in the storage of
+   * another level, it will be removed from there first.
+   *
+   * <p>If the {@link #commandBuffer()} is recording, the entity will be added at the playback.
+   *
    * @param entity the entity to add.
    */
   public static void add(Entity entity) {
-    activeEntityStorage.forEach(f -> f.add(entity));
-    LOGGER.info("Entity: " + entity + " will be added to the Game.");
+    if (COMMAND_BUFFER.isRecording()) {
+      COMMAND_BUFFER.add(entity);
+      return;
+    }
+    if (add(entity, activeEntityStorage))
+      LOGGER.info(() -> "Entity: " + entity + " will be added to the Game.");
+  }
+
+  /**
+   * Add the given entity to the given storage.
+   *
+   * <p>The storage does not have to be the active one, e.g., if a hibernated level is restored.
+   *
+   * @param entity the entity to add
+   * @param storage the storage of the level of the entity
+   * @return true if the entity was added, false if it was already stored in the given storage
+   */
+  static boolean add(final Entity entity, final EntityStorage storage) {
+    EntityHandle.assign(entity);
+    EntityStorage previous = ENTITY_STORAGE.put(entity, storage);
+    if (previous == storage) return false;
+    if (previous != null) previous.remove(entity);
+    storage.add(entity);
+    return true;
   }
 
   /**
@@ -70,34 +138,62 @@ public final class ECSManagment {
    *
    * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>If the {@link #commandBuffer()} is recording, the entity will be removed at the playback.
+   *
+   * <p>If the entity was acquired from a {@link Prefab}, it is returned to the pool of the prefab.
+   *
+   * <p>The {@link EntityHandle} of the entity becomes stale, and its index can be reused.
+   *
    * @param entity the entity to remove
    */
   public static void remove(Entity entity) {
-    activeEntityStorage.forEach(f -> f.remove(entity));
-    LOGGER.info("Entity: " + entity + " will be removed from the Game.");
+    if (COMMAND_BUFFER.isRecording()) {
+      COMMAND_BUFFER.remove(entity);
+      return;
+    }
+    remove(entity, true);
   }
 
   /**
-   * Create a new {@link EntitySystemMapper} with the given filter rules.
+   * Remove the given entity from the storage of its level.
    *
-   * <p>The {@link EntitySystemMapper} will be added to {@link #activeEntityStorage}.
+   * <p>If release is false, the entity keeps its {@link EntityHandle} and is not returned to its
+   * {@link Prefab}, because it will be added again (e.g., the hero on a level switch).
    *
-   * <p>All entities in the empty filter (basically every entity in the game) will be tried to add
-   * with {@link EntitySystemMapper#add(Entity)}.
+   * @param entity the entity to remove
+   * @param release true if the entity leaves the game
+   */
+  static void remove(final Entity entity, boolean release) {
+    EntityStorage storage = ENTITY_STORAGE.remove(entity);
+    if (storage != null) {
+      storage.remove(entity);
+      if (release) {
+        EntityHandle.release(entity);
+        Prefab.release(entity);
+      }
+    }
+    LOGGER.info(() -> "Entity: " + entity + " will be removed from the Game.");
+  }
+
+  /**
+   * Check if the given entity is registered in the game.
    *
-   * <p>This function will not check if an {@link EntitySystemMapper} with the same rules already
-   * exists. If an {@link EntitySystemMapper} exists, it will not be replaced, and the {@link
-   * EntitySystemMapper} created in this function will be lost.
+   * <p>The entity can be registered in the storage of any level, not only the active one.
    *
-   * @param filter Set of Component classes that define the filter rules.
-   * @return the created {@link EntitySystemMapper}.
+   * @param entity the entity to check
+   * @return true if the entity was added to the game and not removed yet, false if not
    */
-  private static EntitySystemMapper createNewEntitySystemMapper(
-      Set<Class<? extends Component>> filter) {
-    EntitySystemMapper mapper = new EntitySystemMapper(filter);
-    activeEntityStorage.add(mapper);
-    entityStream().forEach(mapper::add);
-    return mapper;
+  public static boolean contains(final Entity entity) {
+    return ENTITY_STORAGE.containsKey(entity);
+  }
+
+  /**
+   * Get the {@link EntityCommandBuffer} that queues the structural changes of the game.
+   *
+   * @return the command buffer
+   */
+  public static EntityCommandBuffer commandBuffer() {
+    return COMMAND_BUFFER;
   }
 
   /**
@@ -120,32 +216,77 @@ public final class ECSManagment {
     System currentSystem = SYSTEMS.get(system.getClass());
     SYSTEMS.put(system.getClass(), system);
     // add to existing filter or create new filter if no matching exists
-    Optional<EntitySystemMapper> filter =
-        activeEntityStorage.stream().filter(f -> f.equals(system.filterRules())).findFirst();
-    filter.ifPresentOrElse(
-        f -> f.add(system), () -> createNewEntitySystemMapper(system.filterRules()).add(system));
+    mapper(system.filterRules()).add(system);
     LOGGER.info("A new " + system.getClass().getName() + " was added to the game");
     return Optional.ofNullable(currentSystem);
   }
 
   /**
-   * Get the current active {@link EntitySystemMapper}.
+   * Get the {@link EntityStorage} of each level.
    *
-   * @return The currently active {@link EntitySystemMapper}
+   * @return The map that stores the {@link EntityStorage} for each level
    */
-  public static Map<ILevel, Set<EntitySystemMapper>> levelStorageMap() {
+  public static Map<ILevel, EntityStorage> levelStorageMap() {
     return LEVEL_STORAGE_MAP;
   }
 
   /**
-   * Set the current active {@link EntitySystemMapper}.
+   * Set the current active {@link EntityStorage}.
    *
-   * @param entityStorage The new active {@link EntitySystemMapper}
+   * @param entityStorage The new active {@link EntityStorage}
    */
-  public static void activeEntityStorage(final Set<EntitySystemMapper> entityStorage) {
+  public static void activeEntityStorage(final EntityStorage entityStorage) {
     activeEntityStorage = entityStorage;
   }
 
+  /**
+   * Make the given {@link EntityStorage} the active one and move the systems to it.
+   *
+   * <p>Each {@link System} is moved from its {@link EntitySystemMapper} in the old storage to the
+   * mapper with the same filter rules in the new storage. It is informed once with all entities of
+   * the old level (see {@link System#triggerOnLevelDeactivate(List)}) and once with all entities of
+   * the new level (see {@link System#triggerOnLevelActivate(List)}). The entities are only
+   * collected for the systems that observe the level switch.
+   *
+   * @param storage the storage of the new level
+   */
+  static void activate(final EntityStorage storage) {
+    EntityStorage previous = activeEntityStorage;
+    if (previous == storage) return;
+    List<System> systems = List.copyOf(SYSTEMS.values());
+    // all systems are moved before the first one is informed, so entities that are added or
+    // removed by a callback are passed to the other systems one by one, and not twice
+    Map<System, List<Entity>> removed = move(systems, previous, false);
+    removed.forEach(System::triggerOnLevelDeactivate);
+    activeEntityStorage = storage;
+    Map<System, List<Entity>> added = move(systems, storage, true);
+    added.forEach(System::triggerOnLevelActivate);
+    LOGGER.info("The systems were moved to the entity storage of the new level.");
+  }
+
+  // returns the entities of the storage for each system that observes the level switch
+  private static Map<System, List<Entity>> move(
+      final List<System> systems, final EntityStorage storage, boolean attach) {
+    Map<EntitySystemMapper, List<Entity>> entities = new HashMap<>();
+    Map<System, List<Entity>> observed = new LinkedHashMap<>();
+    for (System system : systems) {
+      EntitySystemMapper mapper = mapper(storage, system.filterRules());
+      if (attach ? !mapper.attach(system) : !mapper.detach(system)) continue;
+      if (attach ? system.observesLevelActivate() : system.observesLevelDeactivate())
+        observed.put(system, entities.computeIfAbsent(mapper, m -> m.stream().toList()));
+    }
+    return observed;
+  }
+
+  /**
+   * Get the current active {@link EntityStorage}.
+   *
+   * @return The {@link EntityStorage} of the current level
+   */
+  public static EntityStorage activeEntityStorage() {
+    return activeEntityStorage;
+  }
+
   /**
    * Get all Systems.
    *
@@ -188,23 +329,54 @@ public final class ECSManagment {
    * @return a stream of all entities currently in the game that contains the given components.
    */
   public static Stream<Entity> entityStream(Set<Class<? extends Component>> filter) {
-    Stream<Entity> returnStream;
-    Optional<EntitySystemMapper> rf =
-        activeEntityStorage.stream().filter(f -> f.equals(filter)).findFirst();
+    return mapper(filter).stream();
+  }
 
-    if (rf.isEmpty()) {
-      EntitySystemMapper newMapper = createNewEntitySystemMapper(filter);
-      returnStream = newMapper.stream();
-    } else returnStream = rf.get().stream();
-    return returnStream;
+  /**
+   * Get the {@link EntitySystemMapper} of the active level for the given filter rules.
+   *
+   * <p>If no mapper with the given filter rules exists, a new one will be created and connected to
+   * every existing {@link Archetype} that fulfills the filter rules. The lookup is a hash lookup;
+   * use a {@link Query} to skip even that.
+   *
+   * <p>Systems that are executed in parallel may call this at the same time, so the lookup and
+   * creation of the {@link EntitySystemMapper} is synchronized.
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @return the mapper for the given filter rules
+   */
+  public static EntitySystemMapper mapper(Set<Class<? extends Component>> filter) {
+    return mapper(activeEntityStorage, filter);
+  }
+
+  static synchronized EntitySystemMapper mapper(
+      final EntityStorage storage, final Set<Class<? extends Component>> filter) {
+    return storage.mapper(filter);
   }
 
   /**
-   * @return the player character, can be null if not initialized
+   * Get the player character.
+   *
+   * <p>The {@link PlayerComponent} is {@link core.utils.components.Unique}, so this is a read of
+   * the index in the active {@link EntityStorage} and can be called for each entity in each frame.
+   *
+   * @return the player character, can be empty if not initialized
    * @see Optional
    */
   public static Optional<Entity> hero() {
-    return entityStream().filter(e -> e.isPresent(PlayerComponent.class)).findFirst();
+    return activeEntityStorage.unique(PLAYER);
+  }
+
+  /**
+   * Get the entity in the active level that holds a component of the given unique type.
+   *
+   * @param type the type of the component, must be marked as {@link core.utils.components.Unique}
+   * @return an Optional with the entity that holds the component, or an empty Optional if no entity
+   *     in the active level holds it
+   * @see EntityStorage#unique(ComponentType)
+   */
+  public static Optional<Entity> unique(final ComponentType<?> type) {
+    return activeEntityStorage.unique(type);
   }
 
   /**
@@ -216,7 +388,8 @@ public final class ECSManagment {
    */
   public static void remove(final Class<? extends System> system) {
     System systemInstance = SYSTEMS.remove(system);
-    if (systemInstance != null) activeEntityStorage.forEach(f -> f.remove(systemInstance));
+    if (systemInstance != null)
+      activeEntityStorage.mappers().forEach(f -> f.remove(systemInstance));
   }
 
   /**
@@ -238,12 +411,7 @@ public final class ECSManagment {
    */
   public static Stream<Entity> allEntities() {
     Set<Entity> allEntities = new HashSet<>();
-    LEVEL_STORAGE_MAP
-        .values()
-        .forEach(
-            entitySystemMappers ->
-                entitySystemMappers.forEach(
-                    entitySystemMapper -> entitySystemMapper.stream().forEach(allEntities::add)));
+    LEVEL_STORAGE_MAP.values().forEach(storage -> storage.entityStream().forEach(allEntities::add));
 
     return allEntities.stream();
   }
@@ -0,0 +1,72 @@
+package core.game;
+
+import core.Entity;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A fixed range of entities inside one {@link Archetype}.
+ *
+ * <p>Chunks are created by the {@link ChunkExecutor} to split the entities of a system into parts
+ * that can be processed on different threads. The structural changes and the deferred callbacks
+ * (see {@link ChunkExecutor#defer(Runnable)}) of a chunk are collected in the chunk and applied
+ * after all chunks are processed.
+ */
+public final class EntityChunk implements Iterable<Entity> {
+  private final Archetype archetype;
+  private final int from;
+  private final int to;
+  final List<Runnable> commands = new ArrayList<>();
+  final List<Runnable> callbacks = new ArrayList<>();
+
+  EntityChunk(final Archetype archetype, int from, int to) {
+    this.archetype = archetype;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * Get the number of entities in this chunk.
+   *
+   * @return the number of entities
+   */
+  public int size() {
+    return to - from;
+  }
+
+  /**
+   * Get the entity at the given index.
+   *
+   * @param index the index of the entity, between 0 and {@link #size()} (exclusive)
+   * @return the entity at the given index
+   */
+  public Entity entity(int index) {
+    return archetype.entity(from + index);
+  }
+
+  @Override
+  public void forEach(final Consumer<? super Entity> action) {
+    for (int i = from; i < to; i++) action.accept(archetype.entity(i));
+  }
+
+  @Override
+  public Iterator<Entity> iterator() {
+    return new Iterator<>() {
+      private int index = from;
+
+      @Override
+      public boolean hasNext() {
+        return index < to;
+      }
+
+      @Override
+      public Entity next() {
+        if (index >= to) throw new NoSuchElementException();
+        return archetype.entity(index++);
+      }
+    };
+  }
+}
@@ -0,0 +1,156 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+/**
+ * Queues structural changes of the ECS and plays them back in one batch.
+ *
+ * <p>Structural changes are: adding an entity to the game, removing an entity from the game, and
+ * adding or removing components of an entity that is part of the game. Each of them moves entities
+ * between {@link Archetype}s and may trigger {@link core.System#triggerOnAdd(Entity)} or {@link
+ * core.System#triggerOnRemove(Entity)}.
+ *
+ * <p>While the buffer is recording (see {@link #record()}), {@link ECSManagment#add(Entity)},
+ * {@link ECSManagment#remove(Entity)}, {@link Entity#add(Component)} and {@link
+ * Entity#remove(Class)} will not change the storage directly but queue the change in this buffer.
+ * The {@link GameLoop} records while the systems are executed and calls {@link #playback()} after
+ * the last system, so the entity sets the systems iterate over do not change during the execution
+ * of the systems. This allows the {@link core.utils.EntitySystemMapper} to hand out live views
+ * instead of copies.
+ *
+ * <p>Changes on an entity become visible in the same order as they were queued. A component that is
+ * added to a registered entity while recording can be fetched from the entity immediately, and a
+ * component that is removed while recording is gone from the entity immediately; only the systems
+ * will see the change after the playback. Until then, a system may still iterate over an entity
+ * that no longer has one of the components of its filter rules.
+ *
+ * <p>Changes can be queued from multiple threads at once (see {@link SystemScheduler}); the
+ * playback always happens on the thread that calls {@link #playback()}.
+ */
+public final class EntityCommandBuffer {
+  private static final Logger LOGGER = Logger.getLogger(EntityCommandBuffer.class.getSimpleName());
+  private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+  private volatile boolean recording = false;
+  // set while a thread processes an EntityChunk, see ChunkExecutor
+  private final ThreadLocal<List<Runnable>> captured = new ThreadLocal<>();
+
+  /**
+   * Start recording.
+   *
+   * <p>All structural changes will be queued until {@link #playback()} is called.
+   */
+  public void record() {
+    recording = true;
+  }
+
+  /**
+   * Check if this buffer is currently recording.
+   *
+   * @return true if structural changes are queued, false if they are applied immediately
+   */
+  public boolean isRecording() {
+    return recording;
+  }
+
+  /**
+   * Queue the registration of the given entity.
+   *
+   * @param entity the entity to add to the game
+   */
+  public void add(final Entity entity) {
+    queue(() -> ECSManagment.add(entity));
+  }
+
+  /**
+   * Queue the removal of the given entity.
+   *
+   * @param entity the entity to remove from the game
+   */
+  public void remove(final Entity entity) {
+    queue(() -> ECSManagment.remove(entity));
+  }
+
+  /**
+   * Queue adding the given component to the given entity.
+   *
+   * @param entity the entity to add the component to
+   * @param component the component to add
+   */
+  public void add(final Entity entity, final Component component) {
+    queue(() -> entity.add(component));
+  }
+
+  /**
+   * Queue informing the systems about a changed component of the given entity.
+   *
+   * <p>This is used for components that were already added to or removed from the entity while
+   * recording.
+   *
+   * @param entity the entity that has changes in its component collection
+   * @param klass the class of the changed component
+   */
+  public void update(final Entity entity, final Class<? extends Component> klass) {
+    queue(() -> ECSManagment.informAboutChanges(entity, klass));
+  }
+
+  /**
+   * Collect the changes queued by the current thread in the given list instead of this buffer.
+   *
+   * @param target the list to collect the changes in, null to queue them in this buffer again
+   * @return the list the changes of the current thread were collected in before, null if none
+   */
+  List<Runnable> capture(final List<Runnable> target) {
+    List<Runnable> previous = captured.get();
+    if (target == null) captured.remove();
+    else captured.set(target);
+    return previous;
+  }
+
+  /**
+   * Queue the given collected changes.
+   *
+   * @param collected the changes to queue, in the order they should be applied
+   */
+  void queueAll(final List<Runnable> collected) {
+    collected.forEach(this::queue);
+  }
+
+  private void queue(final Runnable command) {
+    List<Runnable> target = captured.get();
+    if (target != null) target.add(command);
+    else commands.add(command);
+  }
+
+  /**
+   * Stop recording and apply all queued changes in the order they were queued.
+   *
+   * <p>Changes that are made by callbacks during the playback are applied immediately.
+   *
+   * @return the number of applied changes
+   */
+  public int playback() {
+    recording = false;
+    int count = 0;
+    Runnable command;
+    while ((command = commands.poll()) != null) {
+      command.run();
+      count++;
+    }
+    if (count > 0) LOGGER.fine(count + " structural changes were applied.");
+    return count;
+  }
+
+  /**
+   * Get the number of queued changes.
+   *
+   * @return the number of changes that will be applied by the next {@link #playback()}
+   */
+  public int size() {
+    return commands.size();
+  }
+}
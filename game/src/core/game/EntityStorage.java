@@ -0,0 +1,261 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import core.utils.EntitySystemMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Stores the entities of one level, grouped by {@link Archetype}.
+ *
+ * <p>Each entity is stored in the archetype that matches its current component mask. If the
+ * components of an entity change, {@link #update(Entity)} moves the entity into the matching
+ * archetype.
+ *
+ * <p>The storage also holds the {@link EntitySystemMapper}s of the level. A mapper does not store
+ * entities itself; it only remembers which archetypes fulfill its filter rules. Whenever an entity
+ * changes its archetype, the mappers are informed, so a mapper can trigger {@link
+ * core.System#triggerOnAdd(Entity)} or {@link core.System#triggerOnRemove(Entity)} on its systems.
+ * If a single component was added or removed (see {@link #update(Entity, Class)}), only the mappers
+ * that have this component class in their filter rules are informed; the result of all other
+ * mappers cannot change.
+ *
+ * <p>For each component class that is marked as {@link core.utils.components.Unique}, the storage
+ * remembers the entity that holds the component, see {@link #unique(ComponentType)}.
+ *
+ * <p>The {@link ECSManagment} keeps one storage per level.
+ */
+public final class EntityStorage {
+  private final Map<BitSet, Archetype> archetypes = new LinkedHashMap<>();
+  private final Map<Entity, Archetype> entityArchetypes = new HashMap<>();
+  // iterated by index, a system callback may create a new mapper while the mappers are informed
+  private final List<EntitySystemMapper> mappers = new ArrayList<>();
+  // mappers by the IDs of the component classes in their filter rules
+  private final List<List<EntitySystemMapper>> mappersByComponent = new ArrayList<>();
+  private final Map<Set<Class<? extends Component>>, EntitySystemMapper> mappersByFilter =
+      new HashMap<>();
+  // the entity that holds a unique component, by the ID of the component class
+  private Entity[] uniques = new Entity[0];
+
+  /**
+   * Add the given entity to this storage.
+   *
+   * @param entity the entity to add
+   * @return true if the entity was added, false if it was already stored
+   */
+  public boolean add(final Entity entity) {
+    if (entityArchetypes.containsKey(entity)) return false;
+    Archetype archetype = archetype(entity.componentMask());
+    archetype.add(entity);
+    entityArchetypes.put(entity, archetype);
+    for (ComponentType<?> type : ComponentRegistry.uniqueTypes())
+      updateUnique(entity, type.id(), archetype);
+    for (int i = 0; i < mappers.size(); i++) mappers.get(i).entityMoved(entity, null, archetype);
+    return true;
+  }
+
+  /**
+   * Remove the given entity from this storage.
+   *
+   * @param entity the entity to remove
+   * @return true if the entity was removed, false if it was not stored
+   */
+  public boolean remove(final Entity entity) {
+    Archetype archetype = entityArchetypes.remove(entity);
+    if (archetype == null) return false;
+    archetype.remove(entity);
+    for (ComponentType<?> type : ComponentRegistry.uniqueTypes())
+      updateUnique(entity, type.id(), null);
+    for (int i = 0; i < mappers.size(); i++) mappers.get(i).entityMoved(entity, archetype, null);
+    return true;
+  }
+
+  /**
+   * Move the given entity into the archetype that matches its current components.
+   *
+   * @param entity the entity that has changes in its component collection
+   * @return true if the entity is stored in this storage, false if not
+   */
+  public boolean update(final Entity entity) {
+    Archetype from = entityArchetypes.get(entity);
+    if (from == null) return false;
+    Archetype to = archetype(entity.componentMask());
+    if (from != to) {
+      from.remove(entity);
+      to.add(entity);
+      entityArchetypes.put(entity, to);
+      for (ComponentType<?> type : ComponentRegistry.uniqueTypes())
+        updateUnique(entity, type.id(), to);
+      for (int i = 0; i < mappers.size(); i++) mappers.get(i).entityMoved(entity, from, to);
+    }
+    return true;
+  }
+
+  /**
+   * Move the given entity into the matching archetype after a component of the given class was
+   * added to or removed from the entity.
+   *
+   * <p>Only the mappers that have the given component class in their filter rules are informed.
+   *
+   * @param entity the entity that has changes in its component collection
+   * @param klass the class of the added or removed component
+   * @return true if the entity is stored in this storage, false if not
+   */
+  public boolean update(final Entity entity, final Class<? extends Component> klass) {
+    Archetype from = entityArchetypes.get(entity);
+    if (from == null) return false;
+    int id = ComponentRegistry.id(klass);
+    if (from.has(id) == entity.isPresent(klass)) return true;
+
+    Archetype to = from.neighbour(id);
+    if (to == null) {
+      BitSet mask = from.mask();
+      mask.flip(id);
+      to = archetype(mask);
+      from.neighbour(id, to);
+    }
+    from.remove(entity);
+    to.add(entity);
+    entityArchetypes.put(entity, to);
+    if (ComponentRegistry.type(klass).isUnique()) updateUnique(entity, id, to);
+    if (id < mappersByComponent.size()) {
+      List<EntitySystemMapper> affected = mappersByComponent.get(id);
+      for (int i = 0; i < affected.size(); i++) affected.get(i).entityMoved(entity, from, to);
+    }
+    return true;
+  }
+
+  /**
+   * Check if the given entity is stored in this storage.
+   *
+   * @param entity the entity to check
+   * @return true if the entity is stored, false if not
+   */
+  public boolean contains(final Entity entity) {
+    return entityArchetypes.containsKey(entity);
+  }
+
+  /**
+   * Get the entity that holds a component of the given unique type.
+   *
+   * <p>The storage keeps this up to date on each add, remove, and update, so this is an array read.
+   * If more than one entity holds the component, the one that got it first is returned.
+   *
+   * @param type the type of the component, must be marked as {@link core.utils.components.Unique}
+   * @return an Optional with the entity that holds the component, or an empty Optional if no stored
+   *     entity holds it
+   * @throws IllegalArgumentException if the component class is not marked as unique
+   */
+  public Optional<Entity> unique(final ComponentType<?> type) {
+    if (!type.isUnique())
+      throw new IllegalArgumentException(type.klass().getName() + " is not marked as unique.");
+    int id = type.id();
+    return Optional.ofNullable(id < uniques.length ? uniques[id] : null);
+  }
+
+  /**
+   * Get the number of entities in this storage.
+   *
+   * @return the number of stored entities
+   */
+  public int size() {
+    return entityArchetypes.size();
+  }
+
+  /**
+   * Create a new {@link EntitySystemMapper} with the given filter rules.
+   *
+   * <p>Each existing archetype will be offered to the new mapper.
+   *
+   * <p>This function will not check if a mapper with the same rules already exists. If one exists,
+   * {@link #mapper(Set)} will still return the existing one.
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @return the created mapper
+   */
+  public EntitySystemMapper createMapper(final Set<Class<? extends Component>> filter) {
+    EntitySystemMapper mapper = new EntitySystemMapper(filter);
+    archetypes.values().forEach(mapper::archetypeCreated);
+    mappers.add(mapper);
+    mappersByFilter.putIfAbsent(mapper.filterRules(), mapper);
+    for (Class<? extends Component> klass : filter) {
+      int id = ComponentRegistry.id(klass);
+      while (mappersByComponent.size() <= id) mappersByComponent.add(new ArrayList<>());
+      mappersByComponent.get(id).add(mapper);
+    }
+    return mapper;
+  }
+
+  /**
+   * Get the mapper with the given filter rules.
+   *
+   * <p>If this storage has no mapper with the given filter rules, a new one will be created (see
+   * {@link #createMapper(Set)}).
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @return the mapper with the given filter rules
+   */
+  public EntitySystemMapper mapper(final Set<Class<? extends Component>> filter) {
+    EntitySystemMapper mapper = mappersByFilter.get(filter);
+    return mapper != null ? mapper : createMapper(filter);
+  }
+
+  /**
+   * Get the mappers of this storage.
+   *
+   * <p>The stream works on a copy, so new mappers can be created while it is consumed.
+   *
+   * @return a stream of all mappers in this storage
+   */
+  public Stream<EntitySystemMapper> mappers() {
+    return List.copyOf(mappers).stream();
+  }
+
+  /**
+   * Get all entities in this storage.
+   *
+   * <p>The stream works on a snapshot, so entities can be added or removed while it is consumed.
+   *
+   * @return a stream of all stored entities
+   */
+  public Stream<Entity> entityStream() {
+    Entity[] snapshot = new Entity[size()];
+    int offset = 0;
+    for (Archetype archetype : archetypes.values()) offset += archetype.copyInto(snapshot, offset);
+    return Arrays.stream(snapshot, 0, offset);
+  }
+
+  private void updateUnique(final Entity entity, int id, final Archetype archetype) {
+    if (archetype != null && archetype.has(id)) {
+      if (id >= uniques.length) uniques = Arrays.copyOf(uniques, id + 1);
+      if (uniques[id] == null) uniques[id] = entity;
+    } else if (id < uniques.length && uniques[id] == entity) {
+      // another entity may hold the component as well, it takes over
+      uniques[id] = null;
+      for (Archetype candidate : archetypes.values())
+        if (candidate.has(id) && candidate.size() > 0) {
+          uniques[id] = candidate.entity(0);
+          break;
+        }
+    }
+  }
+
+  private Archetype archetype(final BitSet mask) {
+    Archetype archetype = archetypes.get(mask);
+    if (archetype == null) {
+      archetype = new Archetype(mask);
+      archetypes.put(archetype.mask(), archetype);
+      for (int i = 0; i < mappers.size(); i++) mappers.get(i).archetypeCreated(archetype);
+    }
+    return archetype;
+  }
+}
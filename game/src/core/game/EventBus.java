@@ -0,0 +1,253 @@
+package core.game;
+
+import core.Entity;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * A typed event bus that delivers events in batches at defined points of the frame.
+ *
+ * <p>Producers {@link #publish(Object)} an event instead of calling their observers. The event is
+ * appended to the ring buffer of its class. The consumers are called in {@link #dispatch()}, which
+ * the {@link GameLoop} and the {@link HeadlessGameLoop} call after each run of the systems, after
+ * the playback of the {@link ECSManagment#commandBuffer()}. So a consumer never runs in the middle
+ * of the iteration of a system, and it sees the structural changes of the run.
+ *
+ * <p>Consumers subscribe for the exact class of an event, subclasses are not delivered. Events that
+ * implement {@link EntityEvent} can be filtered by entity, see {@link #subscribe(Class, Entity,
+ * Consumer)}, and can be coalesced, see {@link #coalesce(Class, BinaryOperator)}.
+ *
+ * <p>Events are published thread-safe, so systems may publish from the threads of {@link
+ * core.System#parallelForEach}, but then the order of the events depends on the threads; publish in
+ * a {@link core.System#defer} callback to keep the order of the entities. Events that a consumer
+ * publishes during {@link #dispatch()} are delivered on the next dispatch.
+ */
+public final class EventBus {
+  private static final int INITIAL_CAPACITY = 64;
+  private static final Map<Class<?>, Channel<?>> CHANNELS = new ConcurrentHashMap<>();
+  // the channels in the order of their creation, the dispatch order
+  private static final List<Channel<?>> ORDER = new CopyOnWriteArrayList<>();
+  private static final Queue<Runnable> AFTER_DISPATCH = new ConcurrentLinkedQueue<>();
+
+  private EventBus() {}
+
+  /**
+   * Publish an event.
+   *
+   * <p>The event will be delivered to the consumers of its class on the next {@link #dispatch()}.
+   *
+   * @param event the event to publish
+   */
+  public static void publish(final Object event) {
+    channel(event.getClass()).publish(event);
+  }
+
+  /**
+   * Subscribe to all events of the given class.
+   *
+   * @param type Class of the events.
+   * @param consumer Is called for each event on {@link #dispatch()}.
+   * @param <E> Type of the events.
+   * @return the subscription, use {@link Subscription#cancel()} to unsubscribe
+   */
+  public static <E> Subscription subscribe(
+      final Class<E> type, final Consumer<? super E> consumer) {
+    return channel(type).subscribe(null, consumer);
+  }
+
+  /**
+   * Subscribe to the events of the given class that belong to the given entity.
+   *
+   * @param type Class of the events.
+   * @param entity Only events of this entity are delivered.
+   * @param consumer Is called for each event of the entity on {@link #dispatch()}.
+   * @param <E> Type of the events.
+   * @return the subscription, use {@link Subscription#cancel()} to unsubscribe
+   */
+  public static <E extends EntityEvent> Subscription subscribe(
+      final Class<E> type, final Entity entity, final Consumer<? super E> consumer) {
+    return channel(type).subscribe(entity, consumer);
+  }
+
+  /**
+   * Coalesce the events of the given class.
+   *
+   * <p>If more than one event of the same entity is pending on {@link #dispatch()}, the events are
+   * merged into one with the given function. The merged event is delivered at the position of the
+   * first one. Events without entity are not merged.
+   *
+   * @param type Class of the events.
+   * @param merge Merges the earlier (first parameter) and the later event (second parameter) into
+   *     one.
+   * @param <E> Type of the events.
+   */
+  public static <E extends EntityEvent> void coalesce(
+      final Class<E> type, final BinaryOperator<E> merge) {
+    channel(type).merge = merge;
+  }
+
+  /**
+   * Execute the given action after the pending events are delivered.
+   *
+   * <p>The action is executed at the end of the next {@link #dispatch()}, after all events that
+   * were published before it. Use this to release something the consumers of an event may still
+   * use, e.g., to remove the entity of a {@link EntityEvent} from the game. Actions that are queued
+   * during {@link #dispatch()} are executed on the next dispatch, like the events.
+   *
+   * @param action the action to execute
+   */
+  public static void afterDispatch(final Runnable action) {
+    AFTER_DISPATCH.add(action);
+  }
+
+  /**
+   * Deliver all pending events to their consumers.
+   *
+   * <p>The classes are dispatched in the order in which the bus has seen them first, the events of
+   * a class in the order in which they were published. After that, the actions queued with {@link
+   * #afterDispatch(Runnable)} are executed in the order they were queued.
+   */
+  public static void dispatch() {
+    int actions = AFTER_DISPATCH.size();
+    for (Channel<?> channel : ORDER) channel.dispatch();
+    for (int i = 0; i < actions; i++) AFTER_DISPATCH.poll().run();
+  }
+
+  /**
+   * Get the number of events that wait for the next {@link #dispatch()}.
+   *
+   * @return number of pending events of all classes
+   */
+  public static int pending() {
+    int pending = 0;
+    for (Channel<?> channel : ORDER) pending += channel.size();
+    return pending;
+  }
+
+  /** Remove all pending events without delivering them. The subscriptions stay. */
+  public static void clear() {
+    for (Channel<?> channel : ORDER) channel.clear();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> Channel<E> channel(final Class<E> type) {
+    return (Channel<E>)
+        CHANNELS.computeIfAbsent(
+            type,
+            k -> {
+              Channel<E> channel = new Channel<>();
+              ORDER.add(channel);
+              return channel;
+            });
+  }
+
+  /** An event that belongs to an entity. */
+  public interface EntityEvent {
+    /**
+     * Get the entity of this event.
+     *
+     * @return the entity this event belongs to
+     */
+    Entity entity();
+  }
+
+  /** A subscription of a consumer, see {@link #subscribe(Class, Consumer)}. */
+  public static final class Subscription {
+    private final Runnable cancel;
+
+    private Subscription(final Runnable cancel) {
+      this.cancel = cancel;
+    }
+
+    /** Stop the delivery of events to the consumer. */
+    public void cancel() {
+      cancel.run();
+    }
+  }
+
+  private record Subscriber<E>(Entity entity, Consumer<? super E> consumer) {
+    private void accept(final E event) {
+      if (entity == null || (event instanceof EntityEvent e && e.entity() == entity))
+        consumer.accept(event);
+    }
+  }
+
+  // the events of one class: a ring buffer for the producers and a batch for the dispatch
+  private static final class Channel<E> {
+    private final List<Subscriber<E>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<E> batch = new ArrayList<>();
+    private final Map<Entity, Integer> merged = new HashMap<>();
+    private Object[] buffer = new Object[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+    private volatile BinaryOperator<E> merge = null;
+
+    private synchronized void publish(final Object event) {
+      if (size == buffer.length) grow();
+      buffer[(head + size) % buffer.length] = event;
+      size++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized E poll() {
+      E event = (E) buffer[head];
+      buffer[head] = null;
+      head = (head + 1) % buffer.length;
+      size--;
+      return event;
+    }
+
+    private synchronized int size() {
+      return size;
+    }
+
+    private synchronized void clear() {
+      while (size > 0) poll();
+    }
+
+    private void grow() {
+      Object[] grown = new Object[buffer.length * 2];
+      for (int i = 0; i < size; i++) grown[i] = buffer[(head + i) % buffer.length];
+      buffer = grown;
+      head = 0;
+    }
+
+    private Subscription subscribe(final Entity entity, final Consumer<? super E> consumer) {
+      Subscriber<E> subscriber = new Subscriber<>(entity, consumer);
+      subscribers.add(subscriber);
+      return new Subscription(() -> subscribers.remove(subscriber));
+    }
+
+    private void dispatch() {
+      // only the events that are pending now, events published by the consumers wait
+      int count = size();
+      if (count == 0) return;
+      try {
+        BinaryOperator<E> merge = this.merge;
+        for (int i = 0; i < count; i++) {
+          E event = poll();
+          if (merge != null && event instanceof EntityEvent e && e.entity() != null) {
+            Integer index = merged.putIfAbsent(e.entity(), batch.size());
+            if (index != null) {
+              batch.set(index, merge.apply(batch.get(index), event));
+              continue;
+            }
+          }
+          batch.add(event);
+        }
+        for (Subscriber<E> subscriber : subscribers) for (E event : batch) subscriber.accept(event);
+      } finally {
+        batch.clear();
+        merged.clear();
+      }
+    }
+  }
+}
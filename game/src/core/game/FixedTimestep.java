@@ -0,0 +1,66 @@
+package core.game;
+
+/**
+ * Accumulates the frame time and tells the {@link GameLoop} how many logic ticks to run per frame.
+ *
+ * <p>Each frame adds its time to the accumulator, each tick consumes the time of one step. The time
+ * that is left after the ticks of a frame is the progress towards the next tick, see {@link
+ * #alpha()}.
+ *
+ * <p>If more ticks than the given maximum would be needed, only the maximum is returned and the
+ * time that was not simulated is dropped. Otherwise, a slow frame would need more ticks, which
+ * would make the next frame even slower.
+ */
+final class FixedTimestep {
+  private float step;
+  private float accumulator = 0;
+
+  /**
+   * Create a new FixedTimestep.
+   *
+   * @param tickRate number of ticks per second
+   */
+  FixedTimestep(int tickRate) {
+    tickRate(tickRate);
+  }
+
+  /**
+   * Set the number of ticks per second.
+   *
+   * @param tickRate number of ticks per second
+   */
+  void tickRate(int tickRate) {
+    step = 1f / tickRate;
+  }
+
+  /**
+   * Add the time of a frame and get the number of ticks to run in this frame.
+   *
+   * @param delta the time of the frame in seconds
+   * @param maxTicks the maximum number of ticks in one frame
+   * @return the number of ticks to run
+   */
+  int advance(float delta, int maxTicks) {
+    accumulator += delta;
+    int ticks = (int) (accumulator / step);
+    if (ticks > maxTicks) ticks = maxTicks;
+    accumulator -= ticks * step;
+    // drop the time that the capped ticks could not simulate, keep the progress to the next tick
+    if (accumulator >= step) accumulator -= (int) (accumulator / step) * step;
+    return ticks;
+  }
+
+  /**
+   * Get the progress towards the next tick.
+   *
+   * @return a value between 0 (a tick just happened) and 1 (the next tick is due)
+   */
+  float alpha() {
+    return Math.min(1f, accumulator / step);
+  }
+
+  /** Drop the accumulated time, e.g., after a level load. */
+  void reset() {
+    accumulator = 0;
+  }
+}
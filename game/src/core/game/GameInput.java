@@ -0,0 +1,202 @@
+package core.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Vector3;
+import core.systems.CameraSystem;
+import core.utils.GameRandom;
+import core.utils.Point;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * The gameplay input of the player: keys, mouse buttons and the cursor.
+ *
+ * <p>Systems that react to the player (e.g., the {@link core.systems.PlayerSystem}) ask this class
+ * instead of {@link Gdx#input}. Normally, it passes the questions on to {@link Gdx#input}. While
+ * recording (see {@link #record(long)}), it additionally stores the answers of each frame in an
+ * {@link InputLog}. While replaying (see {@link #replay(InputLog)}), it answers from the log, so a
+ * session can be played back without window and without player.
+ *
+ * <p>The {@link GameLoop} and the {@link HeadlessGameLoop} mark the frames, see {@link
+ * #beginFrame()} and {@link #endFrame(int)}.
+ *
+ * <p>Input that only controls the window or debug tools (e.g., the fullscreen key, the {@link
+ * core.configuration.KeyboardConfig#TOGGLE_PROFILER} key) and the input of the HUD are not
+ * recorded.
+ */
+public final class GameInput {
+  private static final Logger LOGGER = Logger.getLogger(GameInput.class.getSimpleName());
+  private static final Map<Integer, Integer> KEYS = new HashMap<>();
+  private static Mode mode = Mode.LIVE;
+  private static InputLog log = null;
+  private static int frame = -1;
+  private static Point cursor = null;
+  // the scheduling mode before the recording, restored by stopRecording()
+  private static boolean parallelSystems = false;
+
+  private GameInput() {}
+
+  /**
+   * Check if the given key or mouse button is held down.
+   *
+   * @param key key code (see {@link Input.Keys}) or mouse button (see {@link Input.Buttons})
+   * @return true if the key is pressed
+   */
+  public static synchronized boolean isPressed(int key) {
+    return (state(key) & InputLog.PRESSED) != 0;
+  }
+
+  /**
+   * Check if the given key or mouse button was pressed in this frame.
+   *
+   * @param key key code (see {@link Input.Keys}) or mouse button (see {@link Input.Buttons})
+   * @return true if the key was just pressed
+   */
+  public static synchronized boolean isJustPressed(int key) {
+    return (state(key) & InputLog.JUST_PRESSED) != 0;
+  }
+
+  /**
+   * Get the position of the cursor.
+   *
+   * @return the cursor position in world coordinates
+   */
+  public static synchronized Point cursorPosition() {
+    if (mode == Mode.REPLAY) return cursor == null ? new Point(0, 0) : cursor;
+    if (mode == Mode.LIVE || cursor == null) {
+      Vector3 position =
+          CameraSystem.camera().unproject(new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0));
+      cursor = new Point(position.x, position.y);
+    }
+    return cursor;
+  }
+
+  /**
+   * Start to record the input.
+   *
+   * <p>Call this before the game is started: the {@link GameRandom} is reset to the given seed and
+   * the logic systems are switched to a fixed timestep (see {@link
+   * PreRunConfiguration#fixedTimestep(boolean)}), because only then a replay makes the same
+   * decisions as the recorded session. For the same reason, the systems are executed one after the
+   * other until {@link #stopRecording()} (see {@link
+   * PreRunConfiguration#parallelSystems(boolean)}); systems in a parallel stage would draw from the
+   * {@link GameRandom} in the order of the threads.
+   *
+   * @param seed the seed for the {@link GameRandom}
+   */
+  public static synchronized void record(long seed) {
+    GameRandom.seed(seed);
+    PreRunConfiguration.fixedTimestep(true);
+    if (mode != Mode.RECORD) parallelSystems = PreRunConfiguration.parallelSystems();
+    PreRunConfiguration.parallelSystems(false);
+    log = new InputLog(seed, PreRunConfiguration.tickRate());
+    mode = Mode.RECORD;
+    frame = -1;
+    LOGGER.info("Recording the input with the seed " + seed + ".");
+  }
+
+  /**
+   * Stop the recording.
+   *
+   * <p>The systems are executed in parallel again, if they were before the recording.
+   *
+   * @return the recorded log, or null if the input was not recorded
+   */
+  public static synchronized InputLog stopRecording() {
+    InputLog recorded = mode == Mode.RECORD ? log : null;
+    if (recorded != null) PreRunConfiguration.parallelSystems(parallelSystems);
+    live();
+    return recorded;
+  }
+
+  /**
+   * Answer all questions from the given log, frame by frame.
+   *
+   * <p>The caller is responsible for the seed and the tick rate of the log, see {@link Replay}.
+   *
+   * @param replay the log to play back
+   */
+  public static synchronized void replay(final InputLog replay) {
+    log = replay;
+    mode = Mode.REPLAY;
+    frame = -1;
+  }
+
+  /**
+   * Check if the input is played back from a log.
+   *
+   * @return true if {@link #replay(InputLog)} is active
+   */
+  public static synchronized boolean replaying() {
+    return mode == Mode.REPLAY;
+  }
+
+  /** Stop recording or replaying, and ask {@link Gdx#input} again. */
+  public static synchronized void live() {
+    mode = Mode.LIVE;
+    log = null;
+    KEYS.clear();
+    cursor = null;
+  }
+
+  /** Start a new frame. The answers of the last frame are forgotten. */
+  static synchronized void beginFrame() {
+    KEYS.clear();
+    cursor = null;
+    frame++;
+    if (mode == Mode.REPLAY) {
+      List<InputLog.Frame> frames = log.frames();
+      if (frame < frames.size()) {
+        KEYS.putAll(frames.get(frame).keys());
+        cursor = frames.get(frame).cursor();
+      }
+    }
+  }
+
+  /**
+   * End the current frame.
+   *
+   * @param ticks number of logic ticks that were executed in the frame
+   */
+  static synchronized void endFrame(int ticks) {
+    if (mode != Mode.RECORD || frame < 0) return;
+    Map<Integer, Integer> pressed = new TreeMap<>();
+    KEYS.forEach(
+        (key, state) -> {
+          if (state != 0) pressed.put(key, state);
+        });
+    log.add(new InputLog.Frame(ticks, pressed, cursor));
+  }
+
+  private static int state(int key) {
+    if (mode == Mode.REPLAY) return KEYS.getOrDefault(key, 0);
+    if (mode == Mode.LIVE) return poll(key);
+    // each key is polled once per frame, so the log has one answer per key and frame
+    Integer state = KEYS.get(key);
+    if (state == null) {
+      state = poll(key);
+      KEYS.put(key, state);
+    }
+    return state;
+  }
+
+  private static int poll(int key) {
+    boolean isMouseButton =
+        key == Input.Buttons.LEFT || key == Input.Buttons.RIGHT || key == Input.Buttons.MIDDLE;
+    boolean isPressed =
+        isMouseButton ? Gdx.input.isButtonPressed(key) : Gdx.input.isKeyPressed(key);
+    boolean isJustPressed =
+        isMouseButton ? Gdx.input.isButtonJustPressed(key) : Gdx.input.isKeyJustPressed(key);
+    return (isPressed ? InputLog.PRESSED : 0) | (isJustPressed ? InputLog.JUST_PRESSED : 0);
+  }
+
+  private enum Mode {
+    LIVE,
+    RECORD,
+    REPLAY
+  }
+}
@@ -19,8 +19,9 @@ import core.level.generator.randomwalk.RandomWalkGenerator;
 import core.systems.*;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -33,54 +34,74 @@ import java.util.logging.Logger;
  *
  * <p>Use {@link #run()} to start the game.
  *
+ * <p>By default, all systems are executed once per rendered frame. With a fixed timestep (see
+ * {@link PreRunConfiguration#fixedTimestep()}), the logic systems are executed at the tick rate and
+ * the render systems (see {@link System#isRenderSystem()}) once per frame; they draw the entities
+ * at positions interpolated by {@link #interpolationAlpha()}.
+ *
  * <p>All API methods can also be accessed via the {@link core.Game} class.
  */
 public final class GameLoop extends ScreenAdapter {
   private static final Logger LOGGER = Logger.getLogger(GameLoop.class.getSimpleName());
+  private static final ComponentType<PositionComponent> POSITION =
+      ComponentType.of(PositionComponent.class);
+  private static final Query POSITIONED = Query.of(PositionComponent.class);
   private static Stage stage;
+  private static float interpolationAlpha = 1;
   private boolean doSetup = true;
   private boolean newLevelWasLoadedInThisLoop = false;
+  private final SystemScheduler scheduler = new SystemScheduler();
+  private final FixedTimestep timestep = new FixedTimestep(PreRunConfiguration.tickRate());
+  private final ProfilerOverlay profilerOverlay = new ProfilerOverlay();
+
+  private final IVoidFunction onLevelLoad =
+      () -> {
+        newLevelWasLoadedInThisLoop = true;
+        switchLevel();
+      };
+
+  // for singleton
+  private GameLoop() {}
 
   /**
    * Sets {@link Game#currentLevel} to the new level and changes the currently active entity
    * storage.
    *
-   * <p>Will remove all Systems using {@link ECSManagment#removeAllSystems()} from the Game. This
-   * will trigger {@link System#onEntityRemove} for the old level. Then, it will readd all Systems
-   * using {@link ECSManagment#add(System)}, triggering {@link System#onEntityAdd} for the new
-   * level.
+   * <p>Will move all Systems to the storage of the new level using {@link
+   * ECSManagment#activate(EntityStorage)}. Each System is informed once about the entities of the
+   * old level (see {@link System#triggerOnLevelDeactivate}) and once about the entities of the new
+   * level (see {@link System#triggerOnLevelActivate}), instead of once per entity.
    *
    * <p>Will re-add the hero if they exist.
+   *
+   * <p>Structural changes that were queued in the {@link ECSManagment#commandBuffer()} before the
+   * level load still belong to the old level, so they will be applied first. All changes during the
+   * level load are applied immediately.
+   *
+   * <p>This is called on each level load, by this loop and by the {@link HeadlessGameLoop}.
    */
-  private final IVoidFunction onLevelLoad =
-      () -> {
-        newLevelWasLoadedInThisLoop = true;
-        Optional<Entity> hero = ECSManagment.hero();
-        boolean firstLoad = !ECSManagment.levelStorageMap().containsKey(Game.currentLevel());
-        hero.ifPresent(ECSManagment::remove);
-        // Remove the systems so that each triggerOnRemove(entity) will be called (basically
-        // cleanup).
-        Map<Class<? extends System>, System> s = ECSManagment.systems();
-        ECSManagment.removeAllSystems();
-        ECSManagment.activeEntityStorage(
-            ECSManagment.levelStorageMap()
-                .computeIfAbsent(Game.currentLevel(), k -> new HashSet<>()));
-        // readd the systems so that each triggerOnAdd(entity) will be called (basically
-        // setup). This will also create new EntitySystemMapper if needed.
-        s.values().forEach(ECSManagment::add);
-
-        try {
-          hero.ifPresent(this::placeOnLevelStart);
-        } catch (MissingComponentException e) {
-          LOGGER.warning(e.getMessage());
-        }
-        hero.ifPresent(ECSManagment::add);
-        Game.currentLevel().onLoad();
-        PreRunConfiguration.userOnLevelLoad().accept(firstLoad);
-      };
+  static void switchLevel() {
+    ECSManagment.commandBuffer().playback();
+    Optional<Entity> hero = ECSManagment.hero();
+    LevelHibernation.wake(Game.currentLevel());
+    boolean firstLoad = !ECSManagment.levelStorageMap().containsKey(Game.currentLevel());
+    // the hero keeps its handle, it is added to the storage of the new level below
+    hero.ifPresent(h -> ECSManagment.remove(h, false));
+    // move the systems, this will also create new EntitySystemMapper if needed
+    ECSManagment.activate(
+        ECSManagment.levelStorageMap()
+            .computeIfAbsent(Game.currentLevel(), k -> new EntityStorage()));
 
-  // for singleton
-  private GameLoop() {}
+    try {
+      hero.ifPresent(GameLoop::placeOnLevelStart);
+    } catch (MissingComponentException e) {
+      LOGGER.warning(e.getMessage());
+    }
+    hero.ifPresent(ECSManagment::add);
+    Game.currentLevel().onLoad();
+    PreRunConfiguration.userOnLevelLoad().accept(firstLoad);
+    LevelHibernation.levelSwitched(Game.currentLevel());
+  }
 
   /** Starts the dungeon. */
   public static void run() {
@@ -117,6 +138,18 @@ public final class GameLoop extends ScreenAdapter {
     return Optional.ofNullable(stage);
   }
 
+  /**
+   * Get the progress of the current frame towards the next logic tick.
+   *
+   * <p>Render systems use this to draw between the positions of the last two ticks, see {@link
+   * PositionComponent#interpolatedPosition(float)}. Without a fixed timestep, this is always 1.
+   *
+   * @return a value between 0 and 1
+   */
+  public static float interpolationAlpha() {
+    return interpolationAlpha;
+  }
+
   private static void updateStage(final Stage stage) {
     stage.act(Gdx.graphics.getDeltaTime());
     stage.draw();
@@ -133,9 +166,10 @@ public final class GameLoop extends ScreenAdapter {
     Gdx.input.setInputProcessor(stage);
   }
 
-  /** Exits the GDX application. */
+  /** Exits the GDX application, or stops the {@link HeadlessGameLoop}. */
   public static void exit() {
-    Gdx.app.exit();
+    if (Gdx.app != null) Gdx.app.exit();
+    HeadlessGameLoop.requestExit();
   }
 
   /**
@@ -148,30 +182,82 @@ public final class GameLoop extends ScreenAdapter {
    * <p>On the first frame, {@link #setup()} and {@link PreRunConfiguration#userOnSetup()} are
    * triggered.
    *
+   * <p>While the systems are executed, the {@link ECSManagment#commandBuffer()} records all
+   * structural changes. They are applied in one batch after the last system. Then the events of the
+   * {@link EventBus} are dispatched.
+   *
+   * <p>The systems are executed by the {@link SystemScheduler}, in parallel or serially depending
+   * on {@link PreRunConfiguration#parallelSystems()}.
+   *
+   * <p>With a fixed timestep, the logic systems are executed for each tick that is due in this
+   * frame (at most {@link PreRunConfiguration#maxTicksPerFrame()}), each tick with its own command
+   * buffer sync point. Then the render systems are executed once.
+   *
+   * <p>The sprites that the render systems submitted to the {@link DrawSystem#painter()} are drawn
+   * in one batch after the systems, see {@link core.utils.components.draw.RenderQueue}.
+   *
    * @param delta The time since the last loop.
    */
   @Override
   public void render(float delta) {
     if (doSetup) setup();
+    GameInput.beginFrame();
     DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
     frame();
     clearScreen();
 
-    for (System system : ECSManagment.systems().values()) {
-      // if a new level was loaded, stop this loop-run
-      if (newLevelWasLoadedInThisLoop) break;
-      system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
-      if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
-        system.execute();
-        system.lastExecuteInFrames(0);
-      }
+    scheduler.parallel(PreRunConfiguration.parallelSystems());
+    int ticks = 1;
+    if (PreRunConfiguration.fixedTimestep()) ticks = fixedStep(delta);
+    else {
+      interpolationAlpha = 1;
+      execute(ECSManagment.systems().values());
     }
+    // draw all sprites of this frame in one batch
+    DrawSystem.painter().flush();
     newLevelWasLoadedInThisLoop = false;
+    GameInput.endFrame(ticks);
+    LevelHibernation.update();
+    profilerOverlay.update();
     CameraSystem.camera().update();
+    CameraSystem.updateVisibleArea();
     // stage logic
     stage().ifPresent(GameLoop::updateStage);
   }
 
+  // returns the number of executed ticks
+  private int fixedStep(float delta) {
+    List<System> logic = new ArrayList<>();
+    List<System> render = new ArrayList<>();
+    for (System system : ECSManagment.systems().values())
+      (system.isRenderSystem() ? render : logic).add(system);
+
+    timestep.tickRate(PreRunConfiguration.tickRate());
+    int ticks = timestep.advance(delta, PreRunConfiguration.maxTicksPerFrame());
+    int executed = 0;
+    for (; executed < ticks && !newLevelWasLoadedInThisLoop; executed++) {
+      POSITIONED.stream().forEach(entity -> entity.get(POSITION).rememberPosition());
+      execute(logic);
+    }
+    interpolationAlpha = timestep.alpha();
+    execute(render);
+    if (newLevelWasLoadedInThisLoop) {
+      // the entities were placed on the new level, do not interpolate from the old one
+      timestep.reset();
+      POSITIONED.stream().forEach(entity -> entity.get(POSITION).rememberPosition());
+    }
+    return executed;
+  }
+
+  private void execute(final Collection<System> systems) {
+    ECSManagment.commandBuffer().record();
+    // if a new level was loaded, stop this loop-run
+    scheduler.execute(systems, () -> newLevelWasLoadedInThisLoop);
+    // sync point: apply all structural changes of this run
+    ECSManagment.commandBuffer().playback();
+    EventBus.dispatch();
+  }
+
   /**
    * Called once at the beginning of the game.
    *
@@ -192,6 +278,7 @@ public final class GameLoop extends ScreenAdapter {
    */
   private void frame() {
     fullscreenKey();
+    profilerKey();
     PreRunConfiguration.userOnFrame().execute();
   }
 
@@ -206,6 +293,11 @@ public final class GameLoop extends ScreenAdapter {
     }
   }
 
+  private void profilerKey() {
+    if (Gdx.input.isKeyJustPressed(core.configuration.KeyboardConfig.TOGGLE_PROFILER.value()))
+      stage().ifPresent(profilerOverlay::toggle);
+  }
+
   /**
    * Set the position of the given entity to the position of the level-start.
    *
@@ -213,7 +305,7 @@ public final class GameLoop extends ScreenAdapter {
    *
    * @param entity entity to set on the start of the level, normally this is the hero.
    */
-  private void placeOnLevelStart(final Entity entity) {
+  private static void placeOnLevelStart(final Entity entity) {
     ECSManagment.add(entity);
     PositionComponent pc =
         entity
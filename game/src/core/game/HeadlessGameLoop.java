@@ -0,0 +1,172 @@
+package core.game;
+
+import core.System;
+import core.level.generator.postGeneration.WallGenerator;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.systems.LevelSystem;
+import core.systems.PlayerSystem;
+import core.systems.PositionSystem;
+import core.systems.VelocitySystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * A game loop without window and without OpenGL context.
+ *
+ * <p>This loop runs the ECS and the level pipeline of the {@link GameLoop}, but nothing that needs
+ * a screen: it creates no {@link core.systems.DrawSystem}, no {@link core.systems.CameraSystem} and
+ * no {@link PlayerSystem}, the {@link LevelSystem} gets no painter, and render systems (see {@link
+ * System#isRenderSystem()}) are skipped. Use it to run levels on a build server, to benchmark
+ * systems, or to check solutions in bulk.
+ *
+ * <p>Each {@link #step()} is one tick: {@link PreRunConfiguration#userOnFrame()} is triggered, the
+ * systems are executed once, and the events of the {@link EventBus} are dispatched. There is no
+ * frame time without a window, so the loop always runs with a fixed timestep (see {@link
+ * PreRunConfiguration#fixedTimestep()}): while a tick is executed, the fixed timestep is enabled,
+ * so each tick advances the game by {@code 1 / tickRate} seconds (e.g., the {@link VelocitySystem}
+ * moves an entity by its velocity per second, not per tick), like in the windowed game. Tests and
+ * benchmarks can drive the loop tick by tick, {@link #run(boolean)} steps until {@link
+ * #requestExit()} (or {@link core.Game#exit()}) is called.
+ *
+ * <p>On the first step, the systems are created and {@link PreRunConfiguration#userOnSetup()} is
+ * triggered. If the {@link GameInput} is replayed, a {@link PlayerSystem} is created as well, and
+ * the loop is driven frame by frame instead, see {@link #frame(int)}.
+ */
+public final class HeadlessGameLoop {
+  private static final Logger LOGGER = Logger.getLogger(HeadlessGameLoop.class.getSimpleName());
+  private static volatile boolean exitRequested = false;
+  private final SystemScheduler scheduler = new SystemScheduler();
+  private boolean doSetup = true;
+  private boolean newLevelWasLoadedInThisTick = false;
+  private long ticks = 0;
+
+  /**
+   * Create a new headless loop and step it until {@link #requestExit()} is called.
+   *
+   * @param fixedRate true to execute {@link PreRunConfiguration#tickRate()} ticks per second, false
+   *     to execute the ticks as fast as possible
+   */
+  public static void run(boolean fixedRate) {
+    exitRequested = false;
+    HeadlessGameLoop loop = new HeadlessGameLoop();
+    long next = java.lang.System.nanoTime();
+    while (!exitRequested) {
+      loop.step();
+      if (fixedRate) {
+        next += 1_000_000_000L / PreRunConfiguration.tickRate();
+        long wait = next - java.lang.System.nanoTime();
+        if (wait > 0) LockSupport.parkNanos(wait);
+        // do not try to catch up after a slow tick
+        else next = java.lang.System.nanoTime();
+      }
+    }
+    LOGGER.info("Headless game loop stopped after " + loop.ticks() + " ticks.");
+  }
+
+  /** Stop the loop that was started with {@link #run(boolean)} after the current tick. */
+  public static void requestExit() {
+    exitRequested = true;
+  }
+
+  /**
+   * Execute one tick.
+   *
+   * <p>While the systems are executed, the {@link ECSManagment#commandBuffer()} records all
+   * structural changes. They are applied in one batch after the last system.
+   */
+  public void step() {
+    boolean fixedTimestep = PreRunConfiguration.fixedTimestep();
+    PreRunConfiguration.fixedTimestep(true);
+    try {
+      if (doSetup) setup();
+      PreRunConfiguration.userOnFrame().execute();
+      // the LevelSystem is a render system because it draws, but it also loads the levels
+      execute(system -> !system.isRenderSystem() || system instanceof LevelSystem);
+      newLevelWasLoadedInThisTick = false;
+      ticks++;
+    } finally {
+      PreRunConfiguration.fixedTimestep(fixedTimestep);
+    }
+  }
+
+  /**
+   * Execute one frame of the {@link GameLoop}.
+   *
+   * <p>Like a frame of the {@link GameLoop} with a fixed timestep: {@link
+   * PreRunConfiguration#userOnFrame()} is triggered, the logic systems are executed for the given
+   * number of ticks, and then the {@link LevelSystem} and the {@link PlayerSystem} are executed
+   * once. The other render systems are skipped. The {@link Replay} uses this to play back the
+   * frames of an {@link InputLog}.
+   *
+   * @param ticks number of logic ticks in this frame
+   */
+  void frame(int ticks) {
+    boolean fixedTimestep = PreRunConfiguration.fixedTimestep();
+    PreRunConfiguration.fixedTimestep(true);
+    try {
+      if (doSetup) setup();
+      GameInput.beginFrame();
+      PreRunConfiguration.userOnFrame().execute();
+      int executed = 0;
+      for (; executed < ticks && !newLevelWasLoadedInThisTick; executed++) {
+        execute(system -> !system.isRenderSystem());
+        this.ticks++;
+      }
+      execute(system -> system instanceof LevelSystem || system instanceof PlayerSystem);
+      newLevelWasLoadedInThisTick = false;
+      GameInput.endFrame(executed);
+    } finally {
+      PreRunConfiguration.fixedTimestep(fixedTimestep);
+    }
+  }
+
+  /**
+   * Execute the given number of ticks.
+   *
+   * @param ticks number of ticks to execute
+   */
+  public void step(int ticks) {
+    for (int i = 0; i < ticks; i++) step();
+  }
+
+  /**
+   * Get the number of executed ticks.
+   *
+   * @return number of ticks this loop has executed
+   */
+  public long ticks() {
+    return ticks;
+  }
+
+  private void execute(final Predicate<System> filter) {
+    List<System> systems = new ArrayList<>();
+    for (System system : ECSManagment.systems().values())
+      if (filter.test(system)) systems.add(system);
+
+    ECSManagment.commandBuffer().record();
+    scheduler.parallel(PreRunConfiguration.parallelSystems());
+    // if a new level was loaded, stop this tick
+    scheduler.execute(systems, () -> newLevelWasLoadedInThisTick);
+    ECSManagment.commandBuffer().playback();
+    EventBus.dispatch();
+  }
+
+  private void setup() {
+    doSetup = false;
+    ECSManagment.add(new PositionSystem());
+    ECSManagment.add(
+        new LevelSystem(
+            null,
+            new WallGenerator(new RandomWalkGenerator()),
+            () -> {
+              newLevelWasLoadedInThisTick = true;
+              GameLoop.switchLevel();
+            }));
+    ECSManagment.add(new VelocitySystem());
+    if (GameInput.replaying()) ECSManagment.add(new PlayerSystem());
+    PreRunConfiguration.userOnSetup().execute();
+  }
+}
@@ -0,0 +1,174 @@
+package core.game;
+
+import core.utils.Point;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The input of a recorded session, frame by frame.
+ *
+ * <p>A log is created by {@link GameInput#record(long)} and played back by {@link Replay}. It
+ * contains the seed of the {@link core.utils.GameRandom}, the tick rate, and for each frame the
+ * number of logic ticks and the input that the game asked for in this frame: the keys and mouse
+ * buttons that were pressed, and the cursor position if it was used.
+ *
+ * <p>The binary format stores only the pressed keys of each frame, as variable-length integers. A
+ * frame without input needs three bytes.
+ */
+public final class InputLog {
+  /** The state of a key if it is held down. */
+  public static final int PRESSED = 1;
+
+  /** The state of a key if it was pressed in this frame. */
+  public static final int JUST_PRESSED = 2;
+
+  private static final int MAGIC = 0x44494E50; // "DINP"
+  private static final short VERSION = 1;
+  private final long seed;
+  private final int tickRate;
+  private final List<Frame> frames = new ArrayList<>();
+
+  /**
+   * Create an empty log.
+   *
+   * @param seed the seed of the {@link core.utils.GameRandom} at the start of the session
+   * @param tickRate the tick rate of the session, see {@link PreRunConfiguration#tickRate()}
+   */
+  public InputLog(long seed, int tickRate) {
+    this.seed = seed;
+    this.tickRate = tickRate;
+  }
+
+  /**
+   * Read a log that was written with {@link #write(OutputStream)}.
+   *
+   * @param in where to read the log
+   * @return the log
+   * @throws IOException if the log can not be read
+   */
+  public static InputLog read(final InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC) throw new IOException("This is not an input log.");
+    short version = data.readShort();
+    if (version != VERSION) throw new IOException("Unsupported input log version " + version + ".");
+    InputLog log = new InputLog(data.readLong(), readVarInt(data));
+    int count = readVarInt(data);
+    for (int i = 0; i < count; i++) {
+      int ticks = readVarInt(data);
+      int keys = readVarInt(data);
+      Map<Integer, Integer> states = new TreeMap<>();
+      for (int k = 0; k < keys; k++) states.put(readVarInt(data) - 1, (int) data.readByte());
+      Point cursor = data.readBoolean() ? new Point(data.readFloat(), data.readFloat()) : null;
+      log.add(new Frame(ticks, states, cursor));
+    }
+    return log;
+  }
+
+  /**
+   * Write this log.
+   *
+   * @param out where to write the log
+   * @throws IOException if the log can not be written
+   */
+  public void write(final OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeShort(VERSION);
+    data.writeLong(seed);
+    writeVarInt(data, tickRate);
+    writeVarInt(data, frames.size());
+    for (Frame frame : frames) {
+      writeVarInt(data, frame.ticks());
+      writeVarInt(data, frame.keys().size());
+      for (Map.Entry<Integer, Integer> key : frame.keys().entrySet()) {
+        // key codes start at -1 (any key)
+        writeVarInt(data, key.getKey() + 1);
+        data.writeByte(key.getValue());
+      }
+      data.writeBoolean(frame.cursor() != null);
+      if (frame.cursor() != null) {
+        data.writeFloat(frame.cursor().x);
+        data.writeFloat(frame.cursor().y);
+      }
+    }
+    data.flush();
+  }
+
+  /**
+   * Get the seed of the session.
+   *
+   * @return the seed of the {@link core.utils.GameRandom} at the start of the session
+   */
+  public long seed() {
+    return seed;
+  }
+
+  /**
+   * Get the tick rate of the session.
+   *
+   * @return the number of logic ticks per second
+   */
+  public int tickRate() {
+    return tickRate;
+  }
+
+  /**
+   * Get the recorded frames.
+   *
+   * @return the frames in the order in which they were recorded
+   */
+  public List<Frame> frames() {
+    return Collections.unmodifiableList(frames);
+  }
+
+  /**
+   * Get the number of logic ticks of the session.
+   *
+   * @return the sum of the ticks of all frames
+   */
+  public long ticks() {
+    long ticks = 0;
+    for (Frame frame : frames) ticks += frame.ticks();
+    return ticks;
+  }
+
+  void add(final Frame frame) {
+    frames.add(frame);
+  }
+
+  private static void writeVarInt(final DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(final DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed variable-length integer.");
+  }
+
+  /**
+   * The input of one frame.
+   *
+   * @param ticks number of logic ticks that were executed in this frame
+   * @param keys the keys and mouse buttons that were pressed, mapped to their state ({@link
+   *     #PRESSED} and/or {@link #JUST_PRESSED})
+   * @param cursor the cursor position in world coordinates, or null if the cursor was not used
+   */
+  public record Frame(int ticks, Map<Integer, Integer> keys, Point cursor) {}
+}
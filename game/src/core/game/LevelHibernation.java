@@ -0,0 +1,281 @@
+package core.game;
+
+import core.Entity;
+import core.Game;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.ILevel;
+import core.utils.snapshot.Snapshot;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Moves the levels that were not active for a while out of the live ECS.
+ *
+ * <p>The {@link ECSManagment} keeps the {@link EntityStorage} of each level that was ever loaded,
+ * and each level keeps its tiles. In long sessions (e.g., room-based dungeons with many rooms) the
+ * heap grows with each visited level. A level is hibernated if it was not active for {@link
+ * PreRunConfiguration#hibernateAfterSwitches()} level loads or for {@link
+ * PreRunConfiguration#hibernateAfterSeconds()}. Both are disabled by default; {@link
+ * #hibernate(ILevel)} hibernates a level at once.
+ *
+ * <p>Hibernation saves the entities of the level whose components are all saved by the {@link
+ * Snapshot} (see {@link Snapshot#isSerializable(Entity)}) and removes them from the game. All other
+ * entities stay in the storage. If no entity stays, the storage is dropped, and the tiles of the
+ * level are saved and released too, if the level allows it (see {@link
+ * TileLevel#canReleaseLayout()}). The saved form is kept as byte array, or in a temporary file (see
+ * {@link PreRunConfiguration#hibernateToDisk()}).
+ *
+ * <p>A hibernated level is restored when it becomes the current level again, e.g., when the hero
+ * walks back through a {@link core.level.elements.tile.DoorTile}. The restored entities are new
+ * objects with new {@link core.EntityHandle}s.
+ *
+ * <p>The number of live and hibernated levels, entities and tiles are available via {@link
+ * #stats()} and are published as {@link SystemProfiler#counters()}.
+ */
+public final class LevelHibernation {
+  private static final Logger LOGGER = Logger.getLogger(LevelHibernation.class.getSimpleName());
+  private static final long CHECK_INTERVAL = 1_000_000_000L;
+  // the levels that were left, with the number of level loads and the time when they were left
+  private static final Map<ILevel, Left> LEFT = new HashMap<>();
+  private static final Map<ILevel, Hibernated> HIBERNATED = new HashMap<>();
+  private static ILevel current = null;
+  private static int switches = 0;
+  private static long lastCheck = 0;
+
+  static {
+    SystemProfiler.counter("levels.live", () -> stats().liveLevels());
+    SystemProfiler.counter("levels.hibernated", () -> stats().hibernatedLevels());
+    SystemProfiler.counter("levels.hibernatedBytes", () -> stats().hibernatedBytes());
+  }
+
+  private LevelHibernation() {}
+
+  /**
+   * Hibernate the given level now.
+   *
+   * <p>The current level and a level that was never loaded can not be hibernated.
+   *
+   * @param level the level to hibernate
+   * @return true if the level was hibernated, false if there was nothing to hibernate
+   */
+  public static synchronized boolean hibernate(final ILevel level) {
+    if (level == null || level == Game.currentLevel() || HIBERNATED.containsKey(level))
+      return false;
+    EntityStorage storage = ECSManagment.levelStorageMap().get(level);
+    if (storage == null) return false;
+    List<Entity> entities = storage.entityStream().filter(Snapshot::isSerializable).toList();
+    boolean empty = entities.size() == storage.size();
+    TileLevel tiles =
+        empty && level instanceof TileLevel tileLevel && tileLevel.canReleaseLayout()
+            ? tileLevel
+            : null;
+    if (!empty && entities.isEmpty()) return false;
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      Snapshot.write(tiles, entities, bytes);
+    } catch (IOException e) {
+      // a ByteArrayOutputStream does not throw
+      throw new UncheckedIOException(e);
+    }
+    Hibernated hibernated =
+        store(bytes.toByteArray(), entities.size(), tiles == null ? 0 : tileCount(tiles));
+    entities.forEach(entity -> ECSManagment.remove(entity, true));
+    if (tiles != null) tiles.releaseLayout();
+    if (empty) ECSManagment.levelStorageMap().remove(level);
+    HIBERNATED.put(level, hibernated);
+    LEFT.remove(level);
+    LOGGER.info(
+        "Hibernated a level with "
+            + hibernated.entities()
+            + " entities and "
+            + hibernated.tiles()
+            + " tiles into "
+            + hibernated.size()
+            + " bytes.");
+    return true;
+  }
+
+  /**
+   * Check if the given level is hibernated.
+   *
+   * @param level the level to check
+   * @return true if the level was hibernated and not restored yet, false if not
+   */
+  public static synchronized boolean isHibernated(final ILevel level) {
+    return HIBERNATED.containsKey(level);
+  }
+
+  /**
+   * Get the memory metrics of the levels.
+   *
+   * @return the number of live and hibernated levels, entities and tiles
+   */
+  public static synchronized Stats stats() {
+    Set<ILevel> levels = new HashSet<>(ECSManagment.levelStorageMap().keySet());
+    levels.addAll(HIBERNATED.keySet());
+    levels.remove(null);
+    int liveEntities = 0;
+    for (EntityStorage storage : ECSManagment.levelStorageMap().values())
+      liveEntities += storage.size();
+    int liveTiles = 0;
+    for (ILevel level : levels) liveTiles += tileCount(level);
+    int hibernatedEntities = 0;
+    int hibernatedTiles = 0;
+    long hibernatedBytes = 0;
+    for (Hibernated hibernated : HIBERNATED.values()) {
+      hibernatedEntities += hibernated.entities();
+      hibernatedTiles += hibernated.tiles();
+      hibernatedBytes += hibernated.size();
+    }
+    return new Stats(
+        levels.size() - HIBERNATED.size(),
+        HIBERNATED.size(),
+        liveEntities,
+        hibernatedEntities,
+        liveTiles,
+        hibernatedTiles,
+        hibernatedBytes);
+  }
+
+  /**
+   * Restore the given level if it is hibernated.
+   *
+   * <p>The tiles are restored into the level, and the entities are added to the storage of the
+   * level. This is called before the systems are bound to the storage of the level.
+   *
+   * @param level the level that becomes the current level
+   */
+  static synchronized void wake(final ILevel level) {
+    Hibernated hibernated = HIBERNATED.remove(level);
+    if (hibernated == null) return;
+    List<Entity> entities;
+    try (InputStream in = hibernated.open()) {
+      entities = Snapshot.read(in, level instanceof TileLevel tileLevel ? tileLevel : null);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The hibernated level can not be restored.", e);
+    } finally {
+      hibernated.delete();
+    }
+    EntityStorage storage =
+        ECSManagment.levelStorageMap().computeIfAbsent(level, k -> new EntityStorage());
+    entities.forEach(entity -> ECSManagment.add(entity, storage));
+    LOGGER.info("Restored a hibernated level with " + entities.size() + " entities.");
+  }
+
+  /**
+   * Remember that the given level was loaded, and hibernate the levels that are due.
+   *
+   * @param level the new current level
+   */
+  static synchronized void levelSwitched(final ILevel level) {
+    if (current != null && current != level) LEFT.put(current, new Left(switches, now()));
+    switches++;
+    LEFT.remove(level);
+    current = level;
+    hibernateIdle();
+  }
+
+  /** Hibernate the levels that were not active for the configured time, at most once a second. */
+  static synchronized void update() {
+    if (PreRunConfiguration.hibernateAfterSeconds() == 0) return;
+    long now = now();
+    if (now - lastCheck < CHECK_INTERVAL) return;
+    lastCheck = now;
+    hibernateIdle();
+  }
+
+  /** Forget all hibernated levels without restoring them. */
+  static synchronized void reset() {
+    HIBERNATED.values().forEach(Hibernated::delete);
+    HIBERNATED.clear();
+    LEFT.clear();
+    current = null;
+    switches = 0;
+  }
+
+  private static void hibernateIdle() {
+    int afterSwitches = PreRunConfiguration.hibernateAfterSwitches();
+    long afterNanos = PreRunConfiguration.hibernateAfterSeconds() * CHECK_INTERVAL;
+    if (afterSwitches == 0 && afterNanos == 0) return;
+    long now = now();
+    for (Map.Entry<ILevel, Left> entry : new ArrayList<>(LEFT.entrySet())) {
+      Left left = entry.getValue();
+      if ((afterSwitches > 0 && switches - left.switches() >= afterSwitches)
+          || (afterNanos > 0 && now - left.nanos() >= afterNanos)) hibernate(entry.getKey());
+    }
+  }
+
+  private static Hibernated store(final byte[] bytes, int entities, int tiles) {
+    if (PreRunConfiguration.hibernateToDisk()) {
+      try {
+        Path file = Files.createTempFile("level", ".snapshot");
+        file.toFile().deleteOnExit();
+        Files.write(file, bytes);
+        return new Hibernated(null, file, entities, tiles, bytes.length);
+      } catch (IOException e) {
+        LOGGER.warning("Could not write the hibernated level, it is kept in memory: " + e);
+      }
+    }
+    return new Hibernated(bytes, null, entities, tiles, bytes.length);
+  }
+
+  private static int tileCount(final ILevel level) {
+    Tile[][] layout = level.layout();
+    return layout == null || layout.length == 0 ? 0 : layout.length * layout[0].length;
+  }
+
+  private static long now() {
+    return java.lang.System.nanoTime();
+  }
+
+  /**
+   * The memory metrics of the levels.
+   *
+   * @param liveLevels number of loaded levels that are not hibernated
+   * @param hibernatedLevels number of hibernated levels
+   * @param liveEntities number of entities in the storages of all levels
+   * @param hibernatedEntities number of saved entities of the hibernated levels
+   * @param liveTiles number of tiles of all levels that are not released
+   * @param hibernatedTiles number of saved tiles of the hibernated levels
+   * @param hibernatedBytes size of the saved form of the hibernated levels
+   */
+  public record Stats(
+      int liveLevels,
+      int hibernatedLevels,
+      int liveEntities,
+      int hibernatedEntities,
+      int liveTiles,
+      int hibernatedTiles,
+      long hibernatedBytes) {}
+
+  private record Left(int switches, long nanos) {}
+
+  private record Hibernated(byte[] bytes, Path file, int entities, int tiles, long size) {
+    InputStream open() throws IOException {
+      return bytes != null ? new ByteArrayInputStream(bytes) : Files.newInputStream(file);
+    }
+
+    void delete() {
+      if (file == null) return;
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        LOGGER.warning("Could not delete " + file + ": " + e);
+      }
+    }
+  }
+}
@@ -30,6 +30,14 @@ public final class PreRunConfiguration {
   private static String WINDOW_TITLE = "PM-Dungeon";
   private static IPath LOGO_PATH = new SimpleIPath("logo/cat_logo_35x35.png");
   private static boolean DISABLE_AUDIO = false;
+  private static boolean PARALLEL_SYSTEMS = true;
+  private static boolean FIXED_TIMESTEP = false;
+  private static int TICK_RATE = 30;
+  private static int MAX_TICKS_PER_FRAME = 5;
+  private static int HIBERNATE_AFTER_SWITCHES = 0;
+  private static int HIBERNATE_AFTER_SECONDS = 0;
+  private static boolean HIBERNATE_TO_DISK = false;
+  private static boolean TEXTURE_ATLASES = true;
   private static IVoidFunction userOnFrame = () -> {};
   private static IVoidFunction userOnSetup = () -> {};
   private static Consumer<Boolean> userOnLevelLoad = (b) -> {};
@@ -160,6 +168,188 @@ public final class PreRunConfiguration {
     DISABLE_AUDIO = disableAudio;
   }
 
+  /**
+   * Checks if systems that do not conflict are executed at the same time.
+   *
+   * @return True if the systems are executed in parallel, false if they are executed one after the
+   *     other.
+   * @see SystemScheduler
+   */
+  public static boolean parallelSystems() {
+    return PARALLEL_SYSTEMS;
+  }
+
+  /**
+   * Sets whether systems that do not conflict are executed at the same time.
+   *
+   * <p>Set this to false to execute all systems one after the other in their registration order.
+   *
+   * @param parallelSystems True to execute the systems in parallel, false otherwise.
+   * @see SystemScheduler
+   */
+  public static void parallelSystems(boolean parallelSystems) {
+    PARALLEL_SYSTEMS = parallelSystems;
+  }
+
+  /**
+   * Checks if the logic systems run with a fixed timestep.
+   *
+   * <p>With a fixed timestep, the {@link GameLoop} executes the logic systems {@link #tickRate()}
+   * times per second, independent of the frame rate. Systems that are marked as render systems (see
+   * {@link System#isRenderSystem()}) are executed once per frame and draw the entities at positions
+   * interpolated between the last two ticks.
+   *
+   * @return True if the logic systems run with a fixed timestep, false if all systems are executed
+   *     once per frame.
+   */
+  public static boolean fixedTimestep() {
+    return FIXED_TIMESTEP;
+  }
+
+  /**
+   * Sets whether the logic systems run with a fixed timestep.
+   *
+   * @param fixedTimestep True to execute the logic systems at the tick rate, false to execute all
+   *     systems once per frame.
+   */
+  public static void fixedTimestep(boolean fixedTimestep) {
+    FIXED_TIMESTEP = fixedTimestep;
+  }
+
+  /**
+   * Gets the number of logic ticks per second with a fixed timestep.
+   *
+   * @return The tick rate of the game.
+   */
+  public static int tickRate() {
+    return TICK_RATE;
+  }
+
+  /**
+   * Sets the number of logic ticks per second with a fixed timestep.
+   *
+   * <p>Values that count frames (e.g., cooldowns based on {@link core.Game#frameRate()}) count
+   * ticks with a fixed timestep, so set this before the entities are created.
+   *
+   * @param tickRate The tick rate of the game.
+   */
+  public static void tickRate(int tickRate) {
+    if (tickRate < 1) throw new IllegalArgumentException("The tick rate must be at least 1.");
+    TICK_RATE = tickRate;
+  }
+
+  /**
+   * Gets the maximum number of logic ticks in one frame with a fixed timestep.
+   *
+   * @return The maximum number of ticks per frame.
+   */
+  public static int maxTicksPerFrame() {
+    return MAX_TICKS_PER_FRAME;
+  }
+
+  /**
+   * Sets the maximum number of logic ticks in one frame with a fixed timestep.
+   *
+   * <p>If the machine cannot keep up, the game loop drops the time it could not simulate instead of
+   * running more and more ticks per frame. The game slows down, but it does not freeze.
+   *
+   * @param maxTicksPerFrame The maximum number of ticks per frame.
+   */
+  public static void maxTicksPerFrame(int maxTicksPerFrame) {
+    if (maxTicksPerFrame < 1)
+      throw new IllegalArgumentException("At least one tick per frame is needed.");
+    MAX_TICKS_PER_FRAME = maxTicksPerFrame;
+  }
+
+  /**
+   * Gets the number of level loads after which an inactive level is hibernated.
+   *
+   * @return The number of level loads, 0 if levels are not hibernated by count.
+   * @see LevelHibernation
+   */
+  public static int hibernateAfterSwitches() {
+    return HIBERNATE_AFTER_SWITCHES;
+  }
+
+  /**
+   * Sets the number of level loads after which an inactive level is hibernated.
+   *
+   * <p>Leaving the level counts as the first load, so with 1, each level is hibernated as soon as
+   * another level is loaded.
+   *
+   * @param levelSwitches The number of level loads, 0 to disable.
+   * @see LevelHibernation
+   */
+  public static void hibernateAfterSwitches(int levelSwitches) {
+    if (levelSwitches < 0)
+      throw new IllegalArgumentException("The number of level switches must not be negative.");
+    HIBERNATE_AFTER_SWITCHES = levelSwitches;
+  }
+
+  /**
+   * Gets the time after which an inactive level is hibernated.
+   *
+   * @return The time in seconds, 0 if levels are not hibernated by time.
+   * @see LevelHibernation
+   */
+  public static int hibernateAfterSeconds() {
+    return HIBERNATE_AFTER_SECONDS;
+  }
+
+  /**
+   * Sets the time after which an inactive level is hibernated.
+   *
+   * @param seconds The time since the level was left in seconds, 0 to disable.
+   * @see LevelHibernation
+   */
+  public static void hibernateAfterSeconds(int seconds) {
+    if (seconds < 0) throw new IllegalArgumentException("The time must not be negative.");
+    HIBERNATE_AFTER_SECONDS = seconds;
+  }
+
+  /**
+   * Checks if hibernated levels are stored in temporary files.
+   *
+   * @return True if hibernated levels are stored in temporary files, false if they are kept in
+   *     memory.
+   */
+  public static boolean hibernateToDisk() {
+    return HIBERNATE_TO_DISK;
+  }
+
+  /**
+   * Sets whether hibernated levels are stored in temporary files.
+   *
+   * @param toDisk True to store hibernated levels in temporary files, false to keep the compact
+   *     form in memory.
+   */
+  public static void hibernateToDisk(boolean toDisk) {
+    HIBERNATE_TO_DISK = toDisk;
+  }
+
+  /**
+   * Checks if the textures are drawn from the packed texture atlases.
+   *
+   * @return True if the {@link core.utils.components.draw.TextureMap} looks up the textures in the
+   *     atlases of the build, false if each texture is loaded on its own.
+   */
+  public static boolean textureAtlases() {
+    return TEXTURE_ATLASES;
+  }
+
+  /**
+   * Sets whether the textures are drawn from the packed texture atlases.
+   *
+   * <p>Textures that are not in an atlas are loaded on their own in both cases. Set this before the
+   * game starts, textures that were already looked up are not changed.
+   *
+   * @param atlases True to look up the textures in the atlases, false to load each texture on its
+   *     own.
+   */
+  public static void textureAtlases(boolean atlases) {
+    TEXTURE_ATLASES = atlases;
+  }
+
   /**
    * Gets the user-defined function for frame logic.
    *
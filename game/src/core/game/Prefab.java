@@ -0,0 +1,212 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A template for entities that are created and removed often, like projectiles or monsters.
+ *
+ * <p>A prefab defines the components of an entity once, see {@link #with(Class, Supplier,
+ * Consumer)}. {@link #acquire()} returns an entity with these components in the state of the
+ * template. If the pool of the prefab contains an entity, this entity and its components are
+ * reused; otherwise, a new entity is created. If an acquired entity is removed from the game (see
+ * {@link ECSManagment#remove(Entity)}), it is returned to the pool after the next {@link
+ * EventBus#dispatch()}, so the consumers of the events of the frame in which it was removed still
+ * see the entity with all of its components.
+ *
+ * <p>Components that are not part of the template (e.g., added after {@link #acquire()}) are
+ * removed from the entity when it returns to the pool. Template components that were removed from
+ * the entity are created again on the next acquire.
+ *
+ * <p>Do not keep references to an entity after it was removed from the game: a later call of {@link
+ * #acquire()} will return the same instance. Callers that need to know whether they still refer to
+ * the same entity should keep its {@link core.EntityHandle} (see {@link Entity#handle()}), which
+ * becomes stale on removal, or drop the reference when the entity dies. Side tables like {@link
+ * core.utils.EntityTable} check the handle themselves.
+ *
+ * <p>The hits and misses of the pool are published as {@link SystemProfiler#counters()} with the
+ * names {@code <name>.hits} and {@code <name>.misses}.
+ *
+ * <p>Example: {@code new Prefab("fireball").with(PositionComponent.class, PositionComponent::new,
+ * pc -> pc.position(PositionComponent.ILLEGAL_POSITION))}
+ */
+public final class Prefab {
+  /** Default number of entities that are kept in the pool. */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private static final ComponentType<PrefabComponent> PREFAB =
+      ComponentType.of(PrefabComponent.class);
+  private final String name;
+  private final int capacity;
+  private final List<Slot<?>> slots = new ArrayList<>();
+  private final Deque<Entity> pool = new ArrayDeque<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Create a new prefab that keeps up to {@link #DEFAULT_CAPACITY} entities in its pool.
+   *
+   * @param name name of the prefab, used as name of the entities and of the counters
+   */
+  public Prefab(final String name) {
+    this(name, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a new prefab.
+   *
+   * @param name name of the prefab, used as name of the entities and of the counters
+   * @param capacity maximum number of entities that are kept in the pool, released entities beyond
+   *     this number are dropped
+   */
+  public Prefab(final String name, int capacity) {
+    if (capacity < 0) throw new IllegalArgumentException("The capacity must not be negative.");
+    this.name = name;
+    this.capacity = capacity;
+    SystemProfiler.counter(name + ".hits", hits::sum);
+    SystemProfiler.counter(name + ".misses", misses::sum);
+  }
+
+  /**
+   * Add a component to the template that is reused as it is.
+   *
+   * <p>Use this for components that have no state or whose state is set after each {@link
+   * #acquire()}.
+   *
+   * @param klass Class of the component.
+   * @param factory Creates the component for a new entity.
+   * @param <C> Type of the component.
+   * @return this prefab
+   */
+  public <C extends Component> Prefab with(
+      final Class<C> klass, final Supplier<? extends C> factory) {
+    return with(klass, factory, component -> {});
+  }
+
+  /**
+   * Add a component to the template.
+   *
+   * <p>Define all components before the first call of {@link #acquire()}.
+   *
+   * @param klass Class of the component.
+   * @param factory Creates the component for a new entity.
+   * @param reset Sets the component of a reused entity back to the values of the template.
+   * @param <C> Type of the component.
+   * @return this prefab
+   */
+  public <C extends Component> Prefab with(
+      final Class<C> klass, final Supplier<? extends C> factory, final Consumer<? super C> reset) {
+    slots.add(new Slot<>(ComponentType.of(klass), factory, reset));
+    return this;
+  }
+
+  /**
+   * Get an entity with the components of this template.
+   *
+   * <p>The entity is not added to the game yet.
+   *
+   * @return an entity from the pool, or a new entity if the pool is empty
+   */
+  public Entity acquire() {
+    Entity entity;
+    synchronized (pool) {
+      entity = pool.pollLast();
+    }
+    if (entity == null) {
+      misses.increment();
+      entity = new Entity(name);
+      entity.add(new PrefabComponent(this));
+    } else hits.increment();
+    for (Slot<?> slot : slots) slot.apply(entity);
+    return entity;
+  }
+
+  /**
+   * Get the name of this prefab.
+   *
+   * @return the name of this prefab
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Get the number of entities in the pool.
+   *
+   * @return number of entities that can be acquired without creating a new one
+   */
+  public int pooled() {
+    synchronized (pool) {
+      return pool.size();
+    }
+  }
+
+  /**
+   * Get the number of calls of {@link #acquire()} that reused an entity.
+   *
+   * @return number of pool hits
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of calls of {@link #acquire()} that created a new entity.
+   *
+   * @return number of pool misses
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * Return the given entity to the pool of its prefab after the next {@link EventBus#dispatch()}.
+   *
+   * <p>Does nothing if the entity was not acquired from a prefab.
+   *
+   * @param entity the entity that was removed from the game
+   */
+  static void release(final Entity entity) {
+    PrefabComponent prefab = entity.get(PREFAB);
+    // pending events may still refer to the entity
+    if (prefab != null) EventBus.afterDispatch(() -> prefab.prefab().returnToPool(entity));
+  }
+
+  private void returnToPool(final Entity entity) {
+    // the entity was added to the game again in the meantime
+    if (entity.handle().isPresent()) return;
+    entity
+        .componentStream()
+        .filter(component -> !isTemplate(component.getClass()))
+        .map(Component::getClass)
+        .toList()
+        .forEach(entity::remove);
+    synchronized (pool) {
+      if (pool.size() < capacity && !pool.contains(entity)) pool.addLast(entity);
+    }
+  }
+
+  private boolean isTemplate(final Class<? extends Component> klass) {
+    if (klass == PrefabComponent.class) return true;
+    for (Slot<?> slot : slots) if (slot.type.klass() == klass) return true;
+    return false;
+  }
+
+  private record PrefabComponent(Prefab prefab) implements Component {}
+
+  private record Slot<C extends Component>(
+      ComponentType<C> type, Supplier<? extends C> factory, Consumer<? super C> reset) {
+    private void apply(final Entity entity) {
+      C component = entity.get(type);
+      if (component == null) entity.add(factory.get());
+      else reset.accept(component);
+    }
+  }
+}
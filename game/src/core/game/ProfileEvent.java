@@ -0,0 +1,31 @@
+package core.game;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one execution of a {@link core.System} or a section of the game loop.
+ *
+ * <p>The {@link SystemProfiler} emits this event, the duration of the event is the wall time of the
+ * execution.
+ */
+@Name("dungeon.Profile")
+@Label("System Execution")
+@Category({"Dungeon", "ECS"})
+@Description("One execution of a system or a section of the game loop")
+final class ProfileEvent extends Event {
+  @Label("Name")
+  String name;
+
+  @Label("Entities")
+  @Description("Number of entities of the system, -1 for a section")
+  int entities;
+
+  @Label("Allocated")
+  @DataAmount
+  long allocatedBytes;
+}
@@ -0,0 +1,61 @@
+package core.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.Align;
+import java.util.List;
+
+/**
+ * Shows the statistics of the {@link SystemProfiler} in the top left corner of the {@link Stage}.
+ *
+ * <p>The {@link GameLoop} toggles the overlay with {@link
+ * core.configuration.KeyboardConfig#TOGGLE_PROFILER}. While the overlay is shown, the profiler is
+ * enabled.
+ */
+final class ProfilerOverlay {
+  private static final int UPDATE_EVERY_FRAMES = 15;
+  private static final int MAX_LINES = 15;
+  private static final float MARGIN = 10;
+  private Stage stage = null;
+  private Label label = null;
+  private int frames = 0;
+
+  /**
+   * Show the overlay on the given stage, or hide it if it is shown.
+   *
+   * @param stage the stage to show the overlay on
+   */
+  void toggle(final Stage stage) {
+    if (label != null) {
+      label.remove();
+      label = null;
+      SystemProfiler.enabled(false);
+      return;
+    }
+    this.stage = stage;
+    label = new Label("", new Label.LabelStyle(new BitmapFont(), Color.WHITE));
+    stage.addActor(label);
+    SystemProfiler.enabled(true);
+    frames = 0;
+  }
+
+  /** Update the text of the overlay, if it is shown. */
+  void update() {
+    if (label == null || frames++ % UPDATE_EVERY_FRAMES != 0) return;
+    label.setText(text());
+    label.pack();
+    label.setPosition(MARGIN, stage.getHeight() - MARGIN, Align.topLeft);
+  }
+
+  private static String text() {
+    StringBuilder text = new StringBuilder("Profiler (slowest p95 first)");
+    List<SystemProfiler.Stats> stats = SystemProfiler.stats();
+    for (int i = 0; i < Math.min(MAX_LINES, stats.size()); i++)
+      text.append('\n').append(stats.get(i));
+    SystemProfiler.counters()
+        .forEach((name, value) -> text.append('\n').append(name).append(' ').append(value));
+    return text.toString();
+  }
+}
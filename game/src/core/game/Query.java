@@ -0,0 +1,84 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import core.utils.EntitySystemMapper;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A precompiled entity query.
+ *
+ * <p>Create a query once (e.g., as a constant in a system or utility class) with {@link
+ * #of(Class[])} and use {@link #stream()} wherever the entities with the given components are
+ * needed. The query remembers the {@link EntitySystemMapper} of the active {@link EntityStorage},
+ * so a call is a field read instead of a lookup. If the active storage changes (e.g., on a level
+ * load), the query binds itself to the mapper of the new storage on the next call.
+ *
+ * <p>Example: {@code private static final Query MONSTERS = Query.of(AIComponent.class);}
+ */
+public final class Query {
+  private final Set<Class<? extends Component>> filter;
+  private volatile Binding binding = null;
+
+  private Query(final Set<Class<? extends Component>> filter) {
+    this.filter = Set.copyOf(filter);
+  }
+
+  /**
+   * Create a query for the entities that contain all the given components.
+   *
+   * @param filter Component classes that define the filter rules.
+   * @return the new query
+   */
+  @SafeVarargs
+  public static Query of(final Class<? extends Component>... filter) {
+    return new Query(Set.copyOf(Arrays.asList(filter)));
+  }
+
+  /**
+   * Create a query for the entities that contain all the given components.
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @return the new query
+   */
+  public static Query of(final Set<Class<? extends Component>> filter) {
+    return new Query(filter);
+  }
+
+  /**
+   * Get the filter rules of this query.
+   *
+   * @return an unmodifiable Set of the Component classes that define the filter rules
+   */
+  public Set<Class<? extends Component>> filter() {
+    return filter;
+  }
+
+  /**
+   * Get the {@link EntitySystemMapper} of the active level for this query.
+   *
+   * @return the mapper with the filter rules of this query
+   */
+  public EntitySystemMapper mapper() {
+    EntityStorage storage = ECSManagment.activeEntityStorage();
+    Binding current = binding;
+    if (current == null || current.storage != storage) {
+      current = new Binding(storage, ECSManagment.mapper(storage, filter));
+      binding = current;
+    }
+    return current.mapper;
+  }
+
+  /**
+   * Get the entities of the active level that contain all components of this query.
+   *
+   * @return a stream of the matching entities, see {@link EntitySystemMapper#stream()}
+   */
+  public Stream<Entity> stream() {
+    return mapper().stream();
+  }
+
+  private record Binding(EntityStorage storage, EntitySystemMapper mapper) {}
+}
@@ -0,0 +1,68 @@
+package core.game;
+
+import core.utils.GameRandom;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Plays a recorded {@link InputLog} back without window, as fast as possible.
+ *
+ * <p>The replay resets the {@link GameRandom} to the seed of the log, sets the tick rate of the
+ * log, executes the systems one after the other like the recording (see {@link
+ * GameInput#record(long)}), and drives a {@link HeadlessGameLoop} frame by frame with the recorded
+ * input. Configure the game as for the recorded session (the same {@link
+ * PreRunConfiguration#userOnSetup()} and the other callbacks), then the replay makes the same
+ * decisions.
+ *
+ * <p>Each system is measured by the {@link SystemProfiler} during the replay. Two builds can be
+ * compared by replaying the same log and comparing the results, e.g. with {@link
+ * SystemProfiler#writeCsv(java.nio.file.Path)}.
+ */
+public final class Replay {
+  private static final Logger LOGGER = Logger.getLogger(Replay.class.getSimpleName());
+
+  private Replay() {}
+
+  /**
+   * Play the given log back.
+   *
+   * <p>The samples of the {@link SystemProfiler} are reset before the replay.
+   *
+   * @param log the recorded input
+   * @return the statistics of the systems and sections during the replay
+   */
+  public static List<SystemProfiler.Stats> run(final InputLog log) {
+    boolean profiling = SystemProfiler.enabled();
+    boolean fixedTimestep = PreRunConfiguration.fixedTimestep();
+    int tickRate = PreRunConfiguration.tickRate();
+    boolean parallelSystems = PreRunConfiguration.parallelSystems();
+    GameRandom.seed(log.seed());
+    PreRunConfiguration.fixedTimestep(true);
+    PreRunConfiguration.parallelSystems(false);
+    PreRunConfiguration.tickRate(log.tickRate());
+    SystemProfiler.reset();
+    SystemProfiler.enabled(true);
+    GameInput.replay(log);
+    try {
+      HeadlessGameLoop loop = new HeadlessGameLoop();
+      long start = java.lang.System.nanoTime();
+      for (InputLog.Frame frame : log.frames()) loop.frame(frame.ticks());
+      long millis = (java.lang.System.nanoTime() - start) / 1_000_000;
+      LOGGER.info(
+          "Replayed "
+              + log.frames().size()
+              + " frames with "
+              + loop.ticks()
+              + " ticks in "
+              + millis
+              + " ms.");
+      return SystemProfiler.stats();
+    } finally {
+      GameInput.live();
+      SystemProfiler.enabled(profiling);
+      PreRunConfiguration.fixedTimestep(fixedTimestep);
+      PreRunConfiguration.tickRate(tickRate);
+      PreRunConfiguration.parallelSystems(parallelSystems);
+    }
+  }
+}
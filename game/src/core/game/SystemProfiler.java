@@ -0,0 +1,318 @@
+package core.game;
+
+import core.System;
+import core.utils.IVoidFunction;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Measures each execution of a {@link System} and of other sections of the game loop (e.g., level
+ * loads).
+ *
+ * <p>If the profiler is enabled (see {@link #enabled(boolean)}), each execution records the wall
+ * time, the number of entities of the system, and the bytes that the executing thread allocated.
+ * The profiler keeps the last {@link #WINDOW} samples of each system or section and computes
+ * rolling percentiles from them, see {@link #stats()}.
+ *
+ * <p>The results are available in three ways:
+ *
+ * <ul>
+ *   <li>as overlay on the HUD of the game, see {@link
+ *       core.configuration.KeyboardConfig#TOGGLE_PROFILER},
+ *   <li>as CSV file, see {@link #writeCsv(Path)},
+ *   <li>as JFR events ({@code dungeon.Profile}), if a flight recording is running. The events are
+ *       emitted even if the profiler is disabled.
+ * </ul>
+ *
+ * <p>Other parts of the game can publish counters (e.g., the hits of an entity pool, see {@link
+ * Prefab}) with {@link #counter(String, LongSupplier)}. The overlay shows them below the systems.
+ *
+ * <p>The allocated bytes only count the thread that executes the system. Work that the system
+ * spreads over other threads (see {@link System#parallelForEach}) is not included.
+ */
+public final class SystemProfiler {
+  /** Number of samples per system or section that are used for the percentiles. */
+  public static final int WINDOW = 300;
+
+  /** Name of the section that measures the generation of a level. */
+  public static final String LEVEL_LOAD = "LevelSystem.loadLevel";
+
+  /** Name of the section that measures the onLevelLoad callback. */
+  public static final String ON_LEVEL_LOAD = "onLevelLoad";
+
+  private static final Logger LOGGER = Logger.getLogger(SystemProfiler.class.getSimpleName());
+  private static final Map<String, Samples> SAMPLES = new ConcurrentHashMap<>();
+  private static final Map<String, LongSupplier> COUNTERS = new ConcurrentHashMap<>();
+  private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+  private static volatile boolean enabled = false;
+
+  private SystemProfiler() {}
+
+  /**
+   * Check if the profiler records samples.
+   *
+   * @return true if the profiler is enabled, false if not
+   */
+  public static boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable or disable the recording of samples.
+   *
+   * <p>The recorded samples are kept if the profiler is disabled, use {@link #reset()} to remove
+   * them.
+   *
+   * @param enabled true to record samples, false to stop recording
+   */
+  public static void enabled(boolean enabled) {
+    SystemProfiler.enabled = enabled;
+  }
+
+  /** Remove all recorded samples. */
+  public static void reset() {
+    SAMPLES.clear();
+  }
+
+  /**
+   * Execute the given system and record a sample for it.
+   *
+   * @param system the system to execute
+   */
+  public static void execute(final System system) {
+    ProfileEvent event = new ProfileEvent();
+    if (!enabled && !event.isEnabled()) {
+      system.execute();
+      return;
+    }
+    measure(system.getClass().getSimpleName(), system.entityCount(), system::execute, event);
+  }
+
+  /**
+   * Execute the given action and record a sample for it under the given name.
+   *
+   * @param name name of the section
+   * @param action the action to measure
+   */
+  public static void time(final String name, final IVoidFunction action) {
+    ProfileEvent event = new ProfileEvent();
+    if (!enabled && !event.isEnabled()) {
+      action.execute();
+      return;
+    }
+    measure(name, -1, action, event);
+  }
+
+  /**
+   * Get the statistics of the given system or section.
+   *
+   * @param name the simple class name of the system, or the name of the section
+   * @return the statistics, or an empty Optional if no sample was recorded
+   */
+  public static Optional<Stats> stats(final String name) {
+    Samples samples = SAMPLES.get(name);
+    return samples == null ? Optional.empty() : Optional.of(samples.stats(name));
+  }
+
+  /**
+   * Get the statistics of all systems and sections.
+   *
+   * @return the statistics, ordered by the 95th percentile of the time, the slowest first
+   */
+  public static List<Stats> stats() {
+    List<Stats> stats = new ArrayList<>();
+    SAMPLES.forEach((name, samples) -> stats.add(samples.stats(name)));
+    stats.sort(Comparator.comparingDouble(Stats::p95Millis).reversed());
+    return stats;
+  }
+
+  /**
+   * Publish a counter.
+   *
+   * <p>The profiler does not count itself, it reads the given supplier whenever the counters are
+   * requested. A counter with the same name replaces the previous one. {@link #reset()} does not
+   * remove counters.
+   *
+   * @param name name of the counter
+   * @param value supplies the current value of the counter
+   */
+  public static void counter(final String name, final LongSupplier value) {
+    COUNTERS.put(name, value);
+  }
+
+  /**
+   * Get the current values of all published counters.
+   *
+   * @return a copy of the counters with their current values, ordered by name
+   */
+  public static Map<String, Long> counters() {
+    Map<String, Long> counters = new TreeMap<>();
+    COUNTERS.forEach((name, value) -> counters.put(name, value.getAsLong()));
+    return counters;
+  }
+
+  /**
+   * Write the statistics of all systems and sections as CSV file.
+   *
+   * <p>The file has a header line and one line per system or section.
+   *
+   * @param path the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void writeCsv(final Path path) throws IOException {
+    try (Writer writer = Files.newBufferedWriter(path)) {
+      writer.write(
+          "name,executions,entities,total_ms,p50_ms,p95_ms,p99_ms,max_ms,allocated_bytes_avg\n");
+      for (Stats stats : stats()) writer.write(stats.csv() + "\n");
+    }
+    LOGGER.info("Profiler results written to " + path);
+  }
+
+  private static void measure(
+      final String name, int entities, final IVoidFunction action, final ProfileEvent event) {
+    long allocatedBefore = allocatedBytes();
+    long start = java.lang.System.nanoTime();
+    event.begin();
+    try {
+      action.execute();
+    } finally {
+      event.end();
+      long nanos = java.lang.System.nanoTime() - start;
+      long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+      if (event.shouldCommit()) {
+        event.name = name;
+        event.entities = entities;
+        event.allocatedBytes = allocated;
+        event.commit();
+      }
+      if (enabled)
+        SAMPLES.computeIfAbsent(name, k -> new Samples()).add(nanos, entities, allocated);
+    }
+  }
+
+  private static long allocatedBytes() {
+    return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+  }
+
+  private static com.sun.management.ThreadMXBean threadBean() {
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean sunBean
+        && sunBean.isThreadAllocatedMemorySupported()) {
+      sunBean.setThreadAllocatedMemoryEnabled(true);
+      return sunBean;
+    }
+    LOGGER.info("Allocated bytes per thread are not supported by this JVM.");
+    return null;
+  }
+
+  /**
+   * The statistics of a system or section.
+   *
+   * @param name the simple class name of the system, or the name of the section
+   * @param executions number of recorded executions since the last {@link #reset()}
+   * @param entities number of entities in the last execution, -1 for a section
+   * @param totalMillis sum of the time of all executions since the last {@link #reset()}, in
+   *     milliseconds
+   * @param p50Millis median of the time in milliseconds
+   * @param p95Millis 95th percentile of the time in milliseconds
+   * @param p99Millis 99th percentile of the time in milliseconds
+   * @param maxMillis maximum of the time in milliseconds
+   * @param allocatedBytes average of the allocated bytes per execution, -1 if not supported
+   */
+  public record Stats(
+      String name,
+      long executions,
+      int entities,
+      double totalMillis,
+      double p50Millis,
+      double p95Millis,
+      double p99Millis,
+      double maxMillis,
+      long allocatedBytes) {
+
+    private String csv() {
+      return String.format(
+          Locale.ROOT,
+          "%s,%d,%d,%.4f,%.4f,%.4f,%.4f,%.4f,%d",
+          name,
+          executions,
+          entities,
+          totalMillis,
+          p50Millis,
+          p95Millis,
+          p99Millis,
+          maxMillis,
+          allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%-24s %6d ent  p50 %6.2f  p95 %6.2f  p99 %6.2f ms  %8d B",
+          name,
+          entities,
+          p50Millis,
+          p95Millis,
+          p99Millis,
+          allocatedBytes);
+    }
+  }
+
+  // ring buffer of the last samples, a system may be measured on different threads over time
+  private static final class Samples {
+    private final long[] nanos = new long[WINDOW];
+    private final long[] allocated = new long[WINDOW];
+    private long executions = 0;
+    private long totalNanos = 0;
+    private int entities = 0;
+
+    private synchronized void add(long time, int entityCount, long allocatedBytes) {
+      int index = (int) (executions % WINDOW);
+      nanos[index] = time;
+      allocated[index] = allocatedBytes;
+      entities = entityCount;
+      totalNanos += time;
+      executions++;
+    }
+
+    private synchronized Stats stats(final String name) {
+      int size = (int) Math.min(executions, WINDOW);
+      long[] sorted = Arrays.copyOf(nanos, size);
+      Arrays.sort(sorted);
+      long allocatedSum = 0;
+      for (int i = 0; i < size; i++) allocatedSum += allocated[i];
+      return new Stats(
+          name,
+          executions,
+          entities,
+          totalNanos / 1e6,
+          percentile(sorted, 0.50),
+          percentile(sorted, 0.95),
+          percentile(sorted, 0.99),
+          size == 0 ? 0 : sorted[size - 1] / 1e6,
+          size == 0 || allocatedSum < 0 ? -1 : allocatedSum / size);
+    }
+
+    private static double percentile(final long[] sorted, double percentile) {
+      if (sorted.length == 0) return 0;
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(0, index)] / 1e6;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package core.game;
+
+import core.System;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Executes the {@link System}s of the game once per frame.
+ *
+ * <p>In serial mode, the systems are executed one after the other in the given order, on the
+ * calling thread.
+ *
+ * <p>In parallel mode, the scheduler builds a dependency graph from the declared component access
+ * of the systems (see {@link System#conflictsWith(System)}). A system depends on each system before
+ * it in the given order that it conflicts with. The systems are grouped into stages: each system is
+ * placed in the first stage after all of its dependencies. The systems of one stage are executed at
+ * the same time on a {@link ForkJoinPool}, the stages are executed one after the other. Systems
+ * that are pinned to the render thread (see {@link System#isPinnedToRenderThread()}) are executed
+ * on the calling thread while the other systems of their stage run on the pool.
+ *
+ * <p>A system that did not declare its component access conflicts with every other system, so it
+ * always gets a stage of its own and runs on the calling thread. Structural changes made by the
+ * systems are queued in the {@link ECSManagment#commandBuffer()} and applied after the last stage
+ * by the {@link GameLoop}.
+ */
+public final class SystemScheduler {
+  private static final Logger LOGGER = Logger.getLogger(SystemScheduler.class.getSimpleName());
+  private final ForkJoinPool pool;
+  private boolean parallel = true;
+
+  /**
+   * Create a new scheduler that uses the given pool in parallel mode.
+   *
+   * @param pool the pool to execute the systems on
+   */
+  public SystemScheduler(final ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /** Create a new scheduler that uses the {@link ForkJoinPool#commonPool()} in parallel mode. */
+  public SystemScheduler() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Check if this scheduler executes non-conflicting systems at the same time.
+   *
+   * @return true if the scheduler runs in parallel mode, false if it runs in serial mode
+   */
+  public boolean parallel() {
+    return parallel;
+  }
+
+  /**
+   * Set whether this scheduler executes non-conflicting systems at the same time.
+   *
+   * @param parallel true for parallel mode, false for serial mode
+   */
+  public void parallel(boolean parallel) {
+    if (this.parallel != parallel)
+      LOGGER.info("Systems will be executed " + (parallel ? "in parallel." : "serially."));
+    this.parallel = parallel;
+  }
+
+  /**
+   * Execute the given systems once.
+   *
+   * <p>Each system counts the frame (see {@link System#lastExecuteInFrames()}) and is only executed
+   * if it is running and its {@link System#executeEveryXFrames()} are reached.
+   *
+   * @param systems the systems in their registration order
+   * @param stop checked before each system (serial mode) or stage (parallel mode); if it returns
+   *     true, the remaining systems will be skipped
+   */
+  public void execute(final Collection<System> systems, final BooleanSupplier stop) {
+    if (!parallel) {
+      for (System system : systems) {
+        if (stop.getAsBoolean()) return;
+        tick(system);
+      }
+      return;
+    }
+    for (List<System> stage : stages(systems)) {
+      if (stop.getAsBoolean()) return;
+      executeStage(stage);
+    }
+  }
+
+  /**
+   * Group the given systems into stages.
+   *
+   * <p>The systems of one stage do not conflict with each other. Each system is placed in the first
+   * stage after the stages of all systems before it in the given order that it conflicts with.
+   *
+   * @param systems the systems in their registration order
+   * @return the stages in execution order, each with its systems in registration order
+   */
+  public static List<List<System>> stages(final Collection<System> systems) {
+    List<System> ordered = new ArrayList<>(systems);
+    int[] stageOf = new int[ordered.size()];
+    List<List<System>> stages = new ArrayList<>();
+    for (int i = 0; i < ordered.size(); i++) {
+      System system = ordered.get(i);
+      int stage = 0;
+      for (int j = 0; j < i; j++)
+        if (stageOf[j] >= stage && system.conflictsWith(ordered.get(j))) stage = stageOf[j] + 1;
+      stageOf[i] = stage;
+      if (stage == stages.size()) stages.add(new ArrayList<>());
+      stages.get(stage).add(system);
+    }
+    return stages;
+  }
+
+  private void executeStage(final List<System> stage) {
+    if (stage.size() == 1) {
+      tick(stage.get(0));
+      return;
+    }
+    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+    for (System system : stage)
+      if (!system.isPinnedToRenderThread()) tasks.add(pool.submit(() -> tick(system)));
+    try {
+      for (System system : stage) if (system.isPinnedToRenderThread()) tick(system);
+    } finally {
+      // wait for the whole stage, even if a pinned system failed
+      for (ForkJoinTask<?> task : tasks) task.join();
+    }
+  }
+
+  private static void tick(final System system) {
+    system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
+    if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
+      SystemProfiler.execute(system);
+      system.lastExecuteInFrames(0);
+    }
+  }
+}
@@ -85,6 +85,7 @@ public abstract class Tile {
    */
   public void texturePath(final IPath texture) {
     this.texturePath = texture;
+    changed();
   }
 
   /**
@@ -139,6 +140,7 @@ public abstract class Tile {
    */
   public void levelElement(final LevelElement newLevelElement) {
     this.levelElement = newLevelElement;
+    changed();
   }
 
   /**
@@ -157,6 +159,7 @@ public abstract class Tile {
    */
   public void level(final TileLevel tileLevel) {
     level = tileLevel;
+    changed();
   }
 
   /**
@@ -256,6 +259,7 @@ public abstract class Tile {
    */
   public void visible(boolean b) {
     visible = b;
+    changed();
   }
 
   /**
@@ -276,6 +280,17 @@ public abstract class Tile {
    */
   public void tintColor(int color) {
     tintColor = color;
+    changed();
+  }
+
+  /**
+   * Tell the level that the look of this tile changed.
+   *
+   * <p>The setters of this class call this method. The level informs its tile listener (see {@link
+   * TileLevel#tileListener(java.util.function.Consumer)}), e.g., to redraw the cached tiles.
+   */
+  protected void changed() {
+    if (level instanceof TileLevel tileLevel) tileLevel.tileChanged(this);
   }
 
   /**
@@ -13,6 +13,7 @@ import core.utils.components.path.IPath;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Basic 2D-Matrix Tile-based level.
@@ -42,6 +43,7 @@ public class TileLevel implements ILevel {
   protected ArrayList<SkipTile> skipTiles = new ArrayList<>();
   protected ArrayList<PitTile> pitTiles = new ArrayList<>();
   private IVoidFunction onFirstLoad = () -> {};
+  private Consumer<Tile> tileListener = null;
 
   private boolean wasLoaded = false;
 
@@ -280,6 +282,89 @@ public class TileLevel implements ILevel {
     return layout;
   }
 
+  /**
+   * Set the listener that is informed if the look of a tile of this level changes.
+   *
+   * <p>The listener is called if a tile is added to this level (e.g., by {@link
+   * #changeTileElementType(Tile, LevelElement)}), or if the texture, the type, the visibility or
+   * the tint color of a tile changes. Only one listener can be set.
+   *
+   * @param listener the listener to call with the changed tile, or null to remove the listener
+   */
+  public void tileListener(final Consumer<Tile> listener) {
+    tileListener = listener;
+  }
+
+  /**
+   * Inform the tile listener that the look of the given tile changed.
+   *
+   * @param tile the changed tile
+   * @see #tileListener(Consumer)
+   */
+  public void tileChanged(final Tile tile) {
+    if (tileListener != null) tileListener.accept(tile);
+  }
+
+  /**
+   * Check if the tiles of this level can be released while the level is not active.
+   *
+   * <p>Subclasses may keep references to their tiles (e.g., for riddles), those references would
+   * point to old tiles after {@link #restoreLayout(Tile[][])}. So only the tiles of a plain {@link
+   * TileLevel} are released; a subclass can override this if it does not keep tiles.
+   *
+   * @return true if {@link #releaseLayout()} is allowed, false if not
+   */
+  public boolean canReleaseLayout() {
+    return getClass() == TileLevel.class;
+  }
+
+  /**
+   * Release the tiles of this level to save memory.
+   *
+   * <p>The door tiles are kept, because the doors of other levels are connected to them. All other
+   * tiles are dropped, and {@link #layout()} returns null until {@link #restoreLayout(Tile[][])} is
+   * called. The level must not be active in the meantime.
+   *
+   * @see core.game.LevelHibernation
+   */
+  public void releaseLayout() {
+    if (layout == null) return;
+    // a tile that is still referenced (e.g., a doorstep) must not keep the graph alive
+    for (Tile[] row : layout) for (Tile tile : row) tile.connections().clear();
+    layout = null;
+    nodeCount = 0;
+    floorTiles = new ArrayList<>();
+    wallTiles = new ArrayList<>();
+    holeTiles = new ArrayList<>();
+    exitTiles = new ArrayList<>();
+    skipTiles = new ArrayList<>();
+    pitTiles = new ArrayList<>();
+  }
+
+  /**
+   * Restore the tiles of this level after {@link #releaseLayout()}.
+   *
+   * <p>The kept door tiles replace the given tiles at their coordinates, so the doors of other
+   * levels stay connected. The start tile and the doorsteps of the doors are replaced by the given
+   * tiles at their coordinates.
+   *
+   * @param layout the saved layout of this level, with the same size as the released one
+   */
+  public void restoreLayout(final Tile[][] layout) {
+    if (this.layout != null) throw new IllegalStateException("The layout was not released.");
+    List<DoorTile> doors = doorTiles;
+    doorTiles = new ArrayList<>();
+    for (DoorTile door : doors) {
+      door.connections().clear();
+      layout[door.coordinate().y][door.coordinate().x] = door;
+    }
+    this.layout = layout;
+    putTilesInLists();
+    if (startTile != null) startTile = tileAt(startTile.coordinate());
+    for (DoorTile door : doorTiles)
+      if (door.doorstep() != null) door.doorstep(tileAt(door.doorstep().coordinate()));
+  }
+
   @Override
   public Tile startTile() {
     return startTile;
@@ -14,6 +14,7 @@ import core.level.elements.tile.*;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
 import core.level.utils.TileTextureFactory;
+import core.utils.GameRandom;
 import core.utils.IVoidFunction;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
@@ -33,7 +34,7 @@ import java.util.Random;
 public interface ILevel extends IndexedGraph<Tile> {
 
   /** Default random number generator (seeded with current time). */
-  Random RANDOM = new Random();
+  Random RANDOM = GameRandom.shared();
 
   /**
    * Marks a random tile as the start of the level.
@@ -7,11 +7,12 @@ import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
+import core.utils.GameRandom;
 import java.util.Random;
 
 /** Generates levels using random walk algorithm. */
 public class RandomWalkGenerator implements IGenerator {
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private static final int SMALL_MIN_X_SIZE = 10;
   private static final int SMALL_MIN_Y_SIZE = 10;
   private static final int SMALL_MAX_X_SIZE = 30;
@@ -1,5 +1,6 @@
 package core.level.utils;
 
+import core.utils.GameRandom;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -21,7 +22,7 @@ public enum DesignLabel {
   /** WTF? . */
   RAINBOW(1); // 1% chance
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
   private static final List<DesignLabel> VALUES = new ArrayList<>();
 
   static {
@@ -8,6 +8,9 @@ import core.level.Tile;
  * <p>This interface is specifically designed to observe level events in the game. It defines a
  * single method, onLevelEvent, which is called to notify the observer of level-related changes in
  * the entity it is observing.
+ *
+ * <p>The observer is called when the {@link core.game.EventBus} dispatches the events of the {@link
+ * core.systems.LevelSystem}, after the systems of the frame were executed.
  */
 public interface ILevelObserver {
   /**
@@ -1,5 +1,6 @@
 package core.level.utils;
 
+import core.utils.GameRandom;
 import java.util.List;
 import java.util.Random;
 
@@ -14,7 +15,7 @@ public enum LevelSize {
 
   private static final List<LevelSize> VALUES = List.of(values());
   private static final int SIZE = VALUES.size();
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
 
   /**
    * Get a random level size.
@@ -7,6 +7,7 @@ import core.Game;
 import core.components.PositionComponent;
 import core.level.Tile;
 import core.level.elements.tile.DoorTile;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.*;
@@ -14,7 +15,7 @@ import java.util.*;
 /** Offers some utility functions to work on and with {@link core.level.elements.ILevel}. */
 public final class LevelUtils {
 
-  private static final Random RANDOM = new Random();
+  private static final Random RANDOM = GameRandom.shared();
 
   /**
    * Finds the path from the given point to another given point.
@@ -3,12 +3,12 @@ package core.systems;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.math.collision.BoundingBox;
 import core.Entity;
 import core.Game;
 import core.System;
 import core.components.CameraComponent;
 import core.components.PositionComponent;
+import core.game.GameLoop;
 import core.game.PreRunConfiguration;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
@@ -23,6 +23,12 @@ import core.utils.components.MissingComponentException;
  * <p>In {@link #isPointInFrustum(float, float)} also checks if points are visible on screen and
  * should be rendered.
  *
+ * <p>The visible area is computed once per frame from the frustum of the camera, see {@link
+ * #updateVisibleArea()}. The checks against it are primitive comparisons, so they do not allocate,
+ * even if they are called for each tile and each entity. {@link #firstVisibleTileX()} and the
+ * related methods give the range of tile indices that can be visible, so the caller only needs to
+ * iterate over these tiles.
+ *
  * @see CameraComponent
  */
 public final class CameraSystem extends System {
@@ -30,16 +36,29 @@ public final class CameraSystem extends System {
   public static final float DEFAULT_ZOOM_FACTOR = 0.35f;
 
   private static final float FIELD_WIDTH_AND_HEIGHT_IN_PIXEL = 16f;
+  // textures are drawn from their position, and can be larger than one tile
+  private static final float OFFSET = 1f;
   private static final OrthographicCamera CAMERA =
       new OrthographicCamera(viewportWidth(), viewportHeight());
 
+  private static float minX;
+  private static float minY;
+  private static float maxX;
+  private static float maxY;
+  private static int firstTileX;
+  private static int firstTileY;
+  private static int lastTileX;
+  private static int lastTileY;
+
   static {
     camera().zoom = DEFAULT_ZOOM_FACTOR;
+    updateVisibleArea();
   }
 
   /** Create a new {@link CameraSystem}. */
   public CameraSystem() {
     super(CameraComponent.class, PositionComponent.class);
+    markAsRenderSystem();
   }
 
   private static float viewportWidth() {
@@ -54,16 +73,82 @@ public final class CameraSystem extends System {
    * Checks if point (x,y) is probably visible on screen. Points that are not visible should not be
    * rendered.
    *
+   * <p>The point is checked against the visible area of the last {@link #updateVisibleArea()}.
+   *
    * @param x WTF? .
    * @param y WTF? .
    * @return WTF? .
    */
   public static boolean isPointInFrustum(float x, float y) {
-    final float OFFSET = 1f;
-    BoundingBox bounds =
-        new BoundingBox(
-            new Vector3(x - OFFSET, y - OFFSET, 0), new Vector3(x + OFFSET, y + OFFSET, 0));
-    return CAMERA.frustum.boundsInFrustum(bounds);
+    return x + OFFSET >= minX && x - OFFSET <= maxX && y + OFFSET >= minY && y - OFFSET <= maxY;
+  }
+
+  /**
+   * Compute the visible area from the frustum of the camera.
+   *
+   * <p>Has to be called after each update of the camera; the {@link CameraSystem} and the {@link
+   * GameLoop} do this after they update the camera.
+   */
+  public static void updateVisibleArea() {
+    Vector3[] points = CAMERA.frustum.planePoints;
+    minX = Float.POSITIVE_INFINITY;
+    minY = Float.POSITIVE_INFINITY;
+    maxX = Float.NEGATIVE_INFINITY;
+    maxY = Float.NEGATIVE_INFINITY;
+    for (Vector3 point : points) {
+      minX = Math.min(minX, point.x);
+      minY = Math.min(minY, point.y);
+      maxX = Math.max(maxX, point.x);
+      maxY = Math.max(maxY, point.y);
+    }
+    firstTileX = (int) Math.floor(minX - OFFSET);
+    firstTileY = (int) Math.floor(minY - OFFSET);
+    lastTileX = (int) Math.ceil(maxX + OFFSET);
+    lastTileY = (int) Math.ceil(maxY + OFFSET);
+  }
+
+  /**
+   * Get the first tile column that can be visible.
+   *
+   * <p>The index is not clamped to the level; it can be negative.
+   *
+   * @return the smallest x-coordinate of a visible tile
+   */
+  public static int firstVisibleTileX() {
+    return firstTileX;
+  }
+
+  /**
+   * Get the last tile column that can be visible.
+   *
+   * <p>The index is not clamped to the level; it can be larger than the level.
+   *
+   * @return the largest x-coordinate of a visible tile
+   */
+  public static int lastVisibleTileX() {
+    return lastTileX;
+  }
+
+  /**
+   * Get the first tile row that can be visible.
+   *
+   * <p>The index is not clamped to the level; it can be negative.
+   *
+   * @return the smallest y-coordinate of a visible tile
+   */
+  public static int firstVisibleTileY() {
+    return firstTileY;
+  }
+
+  /**
+   * Get the last tile row that can be visible.
+   *
+   * <p>The index is not clamped to the level; it can be larger than the level.
+   *
+   * @return the largest y-coordinate of a visible tile
+   */
+  public static int lastVisibleTileY() {
+    return lastTileY;
   }
 
   /**
@@ -87,6 +172,7 @@ public final class CameraSystem extends System {
       CAMERA.viewportHeight = viewportWidth() / aspectRatio;
     }
     CAMERA.update();
+    updateVisibleArea();
   }
 
   private void focus() {
@@ -101,7 +187,7 @@ public final class CameraSystem extends System {
         entity
             .fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    focus(pc.position());
+    focus(pc.interpolatedPosition(GameLoop.interpolationAlpha()));
   }
 
   private void focus(Point point) {
@@ -7,11 +7,15 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
+import core.game.ComponentType;
+import core.game.GameLoop;
+import core.game.SystemProfiler;
 import core.level.Tile;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Animation;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.RenderQueue;
 import core.utils.components.path.IPath;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,6 +33,9 @@ import java.util.stream.Collectors;
  * <p>This system will not queue animations. This must be done by other systems. The system
  * evaluates the queue and draws the animation with the highest priority in the queue.
  *
+ * <p>The entities are submitted to the {@link core.utils.components.draw.RenderQueue} of the {@link
+ * #painter()} and drawn when the game loop flushes the queue at the end of the frame.
+ *
  * <p>The DrawSystem can't be paused.
  *
  * @see DrawComponent
@@ -46,11 +53,23 @@ public final class DrawSystem extends System {
   /** Draws objects. */
   private static final Painter PAINTER = new Painter(BATCH);
 
+  static {
+    SystemProfiler.counter("render.flushes", () -> PAINTER.queue().flushes());
+    SystemProfiler.counter("render.sprites", () -> PAINTER.queue().lastCommands());
+    SystemProfiler.counter("render.drawCalls", () -> PAINTER.queue().lastDrawCalls());
+  }
+
+  private static final ComponentType<DrawComponent> DRAW = ComponentType.of(DrawComponent.class);
+  private static final ComponentType<PositionComponent> POSITION =
+      ComponentType.of(PositionComponent.class);
+
   private final Map<IPath, PainterConfig> configs;
 
   /** Create a new DrawSystem. */
   public DrawSystem() {
     super(DrawComponent.class, PositionComponent.class);
+    pinToRenderThread();
+    markAsRenderSystem();
     configs = new HashMap<>();
   }
 
@@ -88,8 +107,10 @@ public final class DrawSystem extends System {
     List<Entity> players = partitionedEntities.get(true);
     List<Entity> npcs = partitionedEntities.get(false);
 
-    npcs.stream().filter(this::shouldDraw).forEach(entity -> draw(buildDataObject(entity)));
-    players.forEach(entity -> draw(buildDataObject(entity)));
+    npcs.stream()
+        .filter(this::shouldDraw)
+        .forEach(entity -> draw(buildDataObject(entity), RenderQueue.ENTITIES));
+    players.forEach(entity -> draw(buildDataObject(entity), RenderQueue.PLAYERS));
   }
 
   /**
@@ -99,25 +120,21 @@ public final class DrawSystem extends System {
    * @return true if the entity should be drawn, false otherwise
    */
   private boolean shouldDraw(Entity entity) {
-    PositionComponent pc =
-        entity
-            .fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    PositionComponent pc = entity.get(POSITION);
+    if (pc == null) throw MissingComponentException.build(entity, PositionComponent.class);
 
-    if (Game.currentLevel().tileAt(pc.position()) == null) {
+    Tile tile = Game.currentLevel().tileAt(pc.position());
+    if (tile == null) {
       return false;
     }
-    DrawComponent dc =
-        entity
-            .fetch(DrawComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, DrawComponent.class));
+    DrawComponent dc = entity.get(DRAW);
+    if (dc == null) throw MissingComponentException.build(entity, DrawComponent.class);
     if (!dc.isVisible()) return false;
 
-    Tile tile = Game.currentLevel().tileAt(pc.position());
     return tile.visible();
   }
 
-  private void draw(final DSData dsd) {
+  private void draw(final DSData dsd, int layer) {
     reduceFrameTimer(dsd.dc);
     setNextAnimation(dsd.dc);
     final Animation animation = dsd.dc.currentAnimation();
@@ -129,7 +146,11 @@ public final class DrawSystem extends System {
     }
     PainterConfig conf = this.configs.get(currentAnimationTexture);
     conf.tintColor(dsd.dc.tintColor());
-    PAINTER.draw(dsd.pc.position(), currentAnimationTexture, conf);
+    PAINTER.draw(
+        dsd.pc.interpolatedPosition(GameLoop.interpolationAlpha()),
+        currentAnimationTexture,
+        conf,
+        layer);
   }
 
   /**
@@ -179,14 +200,10 @@ public final class DrawSystem extends System {
   }
 
   private DSData buildDataObject(final Entity entity) {
-    DrawComponent dc =
-        entity
-            .fetch(DrawComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, DrawComponent.class));
-    PositionComponent pc =
-        entity
-            .fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    DrawComponent dc = entity.get(DRAW);
+    if (dc == null) throw MissingComponentException.build(entity, DrawComponent.class);
+    PositionComponent pc = entity.get(POSITION);
+    if (pc == null) throw MissingComponentException.build(entity, PositionComponent.class);
     return new DSData(entity, dc, pc);
   }
 
@@ -2,12 +2,16 @@ package core.systems;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
+import core.game.EventBus;
+import core.game.SystemProfiler;
 import core.level.Tile;
+import core.level.TileLevel;
 import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
 import core.level.elements.tile.ExitTile;
@@ -18,6 +22,8 @@ import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.TextureMap;
+import core.utils.components.draw.TileLayerCache;
 import core.utils.components.path.IPath;
 import java.util.*;
 import java.util.logging.Logger;
@@ -27,9 +33,10 @@ import java.util.logging.Logger;
  *
  * <p>The system will store the currently active level.
  *
- * <p>Each frame, this system will draw the level on the screen. The system will also check if one
- * of the entities managed by this system is positioned on the end tile of the level. If so, the
- * next level will be loaded.
+ * <p>Each frame, this system will draw the level on the screen. The static tiles are kept on the
+ * GPU in chunks, and only the visible chunks are drawn (see {@link TileLayerCache}). The system
+ * will also check if one of the entities managed by this system is positioned on the end tile of
+ * the level. If so, the next level will be loaded.
  *
  * <p>The system uses the configured {@link IGenerator} to generate levels in the configured {@link
  * LevelSize}. Use {@link #generator(IGenerator)} to change the used level generator. Use {@link
@@ -62,9 +69,10 @@ public final class LevelSystem extends System {
   private static LevelSize levelSize = LevelSize.MEDIUM;
 
   private static ILevel currentLevel;
-  private final List<ILevelObserver> observers = new ArrayList<>();
+  private final Map<ILevelObserver, EventBus.Subscription> observers = new HashMap<>();
   private final IVoidFunction onLevelLoad;
   private final Painter painter;
+  private TileLayerCache tileCache = null;
   private final Logger levelAPI_logger = Logger.getLogger(this.getClass().getSimpleName());
   private IVoidFunction onEndTile;
   private IGenerator generator;
@@ -77,12 +85,16 @@ public final class LevelSystem extends System {
    * DesignLabel)} if you want to trigger the load of a level manually; otherwise, the first level
    * will be loaded if this system's {@link #execute()} is executed.
    *
-   * @param painter The {@link Painter} to use to draw the level.
+   * @param painter The {@link Painter} to use to draw the level, can be null if the game runs
+   *     headless; then the level is not drawn.
    * @param generator Level generator to use to generate the level.
    * @param onLevelLoad Callback function that is called if a new level was loaded.
    */
   public LevelSystem(Painter painter, IGenerator generator, IVoidFunction onLevelLoad) {
     super(PlayerComponent.class, PositionComponent.class);
+    pinToRenderThread();
+    // draws the level in each frame
+    markAsRenderSystem();
     this.generator = generator;
     this.onLevelLoad = onLevelLoad;
     this.painter = painter;
@@ -125,7 +137,7 @@ public final class LevelSystem extends System {
    */
   public void loadLevel(final ILevel level) {
     currentLevel = level;
-    onLevelLoad.execute();
+    SystemProfiler.time(SystemProfiler.ON_LEVEL_LOAD, onLevelLoad);
     levelAPI_logger.info("A new level was loaded.");
   }
 
@@ -138,8 +150,9 @@ public final class LevelSystem extends System {
    * @param label The wanted design of the new level.
    */
   public void loadLevel(final LevelSize size, final DesignLabel label) {
-    currentLevel = generator.level(label, size);
-    onLevelLoad.execute();
+    SystemProfiler.time(
+        SystemProfiler.LEVEL_LOAD, () -> currentLevel = generator.level(label, size));
+    SystemProfiler.time(SystemProfiler.ON_LEVEL_LOAD, onLevelLoad);
     levelAPI_logger.info("A new level was loaded.");
   }
 
@@ -176,21 +189,45 @@ public final class LevelSystem extends System {
 
   private void drawLevel() {
     Map<IPath, PainterConfig> mapping = new HashMap<>();
+    // the sprite cache needs OpenGL, without it (e.g., in tests) each tile is drawn by the painter
+    if (Gdx.gl == null || !(currentLevel instanceof TileLevel tileLevel)) {
+      Tile[][] layout = currentLevel.layout();
+      if (layout.length == 0) return;
+      // only the tiles that can be visible
+      int firstX = Math.max(0, CameraSystem.firstVisibleTileX());
+      int lastX = Math.min(layout[0].length - 1, CameraSystem.lastVisibleTileX());
+      int firstY = Math.max(0, CameraSystem.firstVisibleTileY());
+      int lastY = Math.min(layout.length - 1, CameraSystem.lastVisibleTileY());
+      for (int y = firstY; y <= lastY; y++) {
+        for (int x = firstX; x <= lastX; x++) drawTile(layout[y][x], mapping);
+      }
+      return;
+    }
+
+    if (tileCache == null || !tileCache.isFor(tileLevel)) {
+      if (tileCache != null) tileCache.dispose();
+      tileCache =
+          new TileLayerCache(
+              tileLevel,
+              new SpriteCache(TileLayerCache.capacity(tileLevel), false),
+              TextureMap.instance()::regionAt,
+              X_OFFSET,
+              Y_OFFSET);
+    }
+    tileCache.draw(CameraSystem.camera());
+    // the tiles that are not cached
+    tileLevel.doorTiles().forEach(tile -> drawTile(tile, mapping));
+    tileLevel.pitTiles().forEach(tile -> drawTile(tile, mapping));
+  }
 
-    Tile[][] layout = currentLevel.layout();
-    for (Tile[] tiles : layout) {
-      for (int x = 0; x < layout[0].length; x++) {
-        Tile t = tiles[x];
-        if (t.levelElement() != LevelElement.SKIP && !isTilePitAndOpen(t) && t.visible()) {
-          IPath texturePath = t.texturePath();
-          if (!mapping.containsKey(texturePath)
-              || (mapping.get(texturePath).tintColor() != t.tintColor())) {
-            mapping.put(
-                texturePath, new PainterConfig(texturePath, X_OFFSET, Y_OFFSET, t.tintColor()));
-          }
-          painter.draw(t.position(), texturePath, mapping.get(texturePath));
-        }
+  private void drawTile(final Tile t, final Map<IPath, PainterConfig> mapping) {
+    if (t.levelElement() != LevelElement.SKIP && !isTilePitAndOpen(t) && t.visible()) {
+      IPath texturePath = t.texturePath();
+      if (!mapping.containsKey(texturePath)
+          || (mapping.get(texturePath).tintColor() != t.tintColor())) {
+        mapping.put(texturePath, new PainterConfig(texturePath, X_OFFSET, Y_OFFSET, t.tintColor()));
       }
+      painter.draw(t.position(), texturePath, mapping.get(texturePath));
     }
   }
 
@@ -263,6 +300,8 @@ public final class LevelSystem extends System {
   }
 
   private void playSound() {
+    // no audio in the headless runtime
+    if (Gdx.audio == null) return;
     Sound doorSound = Gdx.audio.newSound(Gdx.files.internal(SOUND_EFFECT));
     long soundId = doorSound.play();
     doorSound.setLooping(soundId, false);
@@ -300,11 +339,7 @@ public final class LevelSystem extends System {
                           e.fetch(PositionComponent.class).get().position().toCoordinate());
                   if (!this.lastHeroPosition.equals(currentHeroPosition)) {
                     this.lastHeroPosition = currentHeroPosition;
-                    this.observers.forEach(
-                        o ->
-                            o.onLevelEvent(
-                                Game.tileAT(currentHeroPosition),
-                                ILevelObserver.LevelEvent.HERO_TILE_CHANGED));
+                    EventBus.publish(new HeroTileChangedEvent(e, Game.tileAT(currentHeroPosition)));
                   }
                 }
                 isOnDoor(e)
@@ -314,7 +349,7 @@ public final class LevelSystem extends System {
                           playSound();
                         });
               });
-    drawLevel();
+    if (painter != null) drawLevel();
   }
 
   /**
@@ -341,11 +376,20 @@ public final class LevelSystem extends System {
    * <p>This method adds an observer to the list of observers that are notified of level events. The
    * observer must implement the ILevelObserver interface.
    *
+   * <p>The observer subscribes to the {@link HeroTileChangedEvent}s of the {@link EventBus}, so it
+   * is called when the events are dispatched, not while this system is executed.
+   *
    * @param observer The observer to be registered.
    * @see ILevelObserver
    */
   public void registerObserver(ILevelObserver observer) {
-    this.observers.add(observer);
+    this.observers.computeIfAbsent(
+        observer,
+        o ->
+            EventBus.subscribe(
+                HeroTileChangedEvent.class,
+                event ->
+                    o.onLevelEvent(event.tile(), ILevelObserver.LevelEvent.HERO_TILE_CHANGED)));
   }
 
   /**
@@ -358,7 +402,8 @@ public final class LevelSystem extends System {
    * @see ILevelObserver
    */
   public void removeObserver(ILevelObserver observer) {
-    this.observers.remove(observer);
+    EventBus.Subscription subscription = this.observers.remove(observer);
+    if (subscription != null) subscription.cancel();
   }
 
   /** LevelSystem can't be paused. If it is paused, the level will not be shown anymore. */
@@ -366,4 +411,12 @@ public final class LevelSystem extends System {
   public void stop() {
     run = true;
   }
+
+  /**
+   * Published on the {@link EventBus} if a managed entity (the hero) moves to another tile.
+   *
+   * @param entity the entity that moved
+   * @param tile the new tile of the entity
+   */
+  public record HeroTileChangedEvent(Entity entity, Tile tile) implements EventBus.EntityEvent {}
 }
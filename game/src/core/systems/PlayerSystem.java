@@ -1,10 +1,9 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import core.Entity;
 import core.System;
 import core.components.PlayerComponent;
+import core.game.GameInput;
 import core.utils.components.MissingComponentException;
 import java.util.Map;
 
@@ -15,6 +14,8 @@ import java.util.Map;
  *
  * <p>This System will check for each registered callback in the {@link PlayerComponent} if the Key
  * is pressed, and if so, will execute the Callback.
+ *
+ * <p>The keys are read from the {@link GameInput}, so the input can be recorded and replayed.
  */
 public final class PlayerSystem extends System {
 
@@ -23,6 +24,8 @@ public final class PlayerSystem extends System {
   /** WTF? . */
   public PlayerSystem() {
     super(PlayerComponent.class);
+    // polls the input, a key that was just pressed must not be missed or seen twice
+    markAsRenderSystem();
   }
 
   @Override
@@ -73,14 +76,8 @@ public final class PlayerSystem extends System {
   }
 
   private void execute(final Entity entity, int key, final PlayerComponent.InputData data) {
-    boolean isMouseButton =
-        key == Input.Buttons.LEFT || key == Input.Buttons.RIGHT || key == Input.Buttons.MIDDLE;
-    boolean isPressed =
-        isMouseButton ? Gdx.input.isButtonPressed(key) : Gdx.input.isKeyPressed(key);
-    boolean isJustPressed =
-        isMouseButton ? Gdx.input.isButtonJustPressed(key) : Gdx.input.isKeyJustPressed(key);
-
-    if ((isJustPressed && !data.repeat()) || (isPressed && data.repeat())) {
+    if ((!data.repeat() && GameInput.isJustPressed(key))
+        || (data.repeat() && GameInput.isPressed(key))) {
       data.callback().accept(entity);
     }
   }
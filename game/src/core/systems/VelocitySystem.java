@@ -8,6 +8,8 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.ComponentType;
+import core.game.PreRunConfiguration;
 import core.level.Tile;
 import core.level.utils.LevelElement;
 import core.utils.Point;
@@ -43,15 +45,26 @@ public final class VelocitySystem extends System {
   // default time an Animation should be enqueued
   private static final int DEFAULT_FRAME_TIME = 1;
 
+  private static final ComponentType<VelocityComponent> VELOCITY =
+      ComponentType.of(VelocityComponent.class);
+  private static final ComponentType<PositionComponent> POSITION =
+      ComponentType.of(PositionComponent.class);
+  private static final ComponentType<DrawComponent> DRAW = ComponentType.of(DrawComponent.class);
+
   /** Create a new VelocitySystem. */
   public VelocitySystem() {
     super(VelocityComponent.class, PositionComponent.class, DrawComponent.class);
   }
 
-  /** Updates the position of all entities based on their velocity. */
+  /**
+   * Updates the position of all entities based on their velocity.
+   *
+   * <p>The entities are processed in parallel chunks. The {@link VelocityComponent#onWallHit()}
+   * callbacks are executed after all entities were moved.
+   */
   @Override
   public void execute() {
-    entityStream().map(this::buildDataObject).forEach(this::updatePosition);
+    parallelForEach(entity -> updatePosition(buildDataObject(entity)));
   }
 
   private void updatePosition(VSData vsd) {
@@ -62,18 +75,16 @@ public final class VelocitySystem extends System {
       velocity.nor();
       velocity.scl(maxSpeed);
     }
-    if (Gdx.graphics != null) {
+    if (PreRunConfiguration.fixedTimestep()) {
+      velocity.scl(1f / PreRunConfiguration.tickRate());
+    } else if (Gdx.graphics != null) {
       velocity.scl(Gdx.graphics.getDeltaTime());
     }
 
     float newX = vsd.pc.position().x + velocity.x;
     float newY = vsd.pc.position().y + velocity.y;
     boolean hitWall = false;
-    boolean canEnterEmptyTiles =
-        vsd.e
-            .fetch(VelocityComponent.class)
-            .map(VelocityComponent::canEnterEmptyTiles)
-            .orElse(false);
+    boolean canEnterEmptyTiles = vsd.vc.canEnterEmptyTiles();
     try {
       if (isAccessible(Game.tileAT(new Point(newX, newY)), canEnterEmptyTiles)) {
         // no change in direction
@@ -97,7 +108,7 @@ public final class VelocitySystem extends System {
         hitWall = true;
       }
 
-      if (hitWall) vsd.vc.onWallHit().accept(vsd.e);
+      if (hitWall) defer(() -> vsd.vc.onWallHit().accept(vsd.e));
 
       float friction = Game.tileAT(vsd.pc.position()).friction();
       float newVX = vsd.vc.currentXVelocity() * (Math.min(1.0f, 1.0f - friction));
@@ -182,17 +193,14 @@ public final class VelocitySystem extends System {
   }
 
   private VSData buildDataObject(Entity e) {
-    VelocityComponent vc =
-        e.fetch(VelocityComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, VelocityComponent.class));
+    VelocityComponent vc = e.get(VELOCITY);
+    if (vc == null) throw MissingComponentException.build(e, VelocityComponent.class);
 
-    PositionComponent pc =
-        e.fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, PositionComponent.class));
+    PositionComponent pc = e.get(POSITION);
+    if (pc == null) throw MissingComponentException.build(e, PositionComponent.class);
 
-    DrawComponent dc =
-        e.fetch(DrawComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, DrawComponent.class));
+    DrawComponent dc = e.get(DRAW);
+    if (dc == null) throw MissingComponentException.build(e, DrawComponent.class);
 
     return new VSData(e, vc, pc, dc);
   }
@@ -3,41 +3,56 @@ package core.utils;
 import core.Component;
 import core.Entity;
 import core.System;
+import core.game.Archetype;
+import core.game.ComponentRegistry;
+import core.game.ECSManagment;
+import core.game.EntityCommandBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Maps {@link System}s with {@link Entity}s if the filter rules are fulfilled.
  *
- * <p>This class stores a collection of systems and entities and indicates that the entities meet
- * the criteria to be processed by the systems.
+ * <p>This class stores a collection of systems and indicates that the entities of the matching
+ * {@link Archetype}s meet the criteria to be processed by the systems.
  *
- * <p>The filter criteria are stored as a collection of {@link Class}. If an entity implements all
- * components of this collection, it will be added to the internal list of entities.
- *
- * <p>Entities must be added using {@link #add(Entity)}. This function internally checks whether the
- * filter criteria are met. When an entity is added, the {@link System#triggerOnAdd(Entity)} method
- * is executed for all systems.
- *
- * <p>Use {@link #remove(Entity)} to remove an entity. When an entity is removed, {@link
- * System#triggerOnRemove(Entity)} is called for each system.
- *
- * <p>If an entity changes on the component level, {@link #update(Entity)} must be called. This
- * function checks whether the entity should be newly added or removed.
+ * <p>The filter criteria are stored as a collection of {@link Class} and as a component mask (see
+ * {@link ComponentRegistry}). An archetype matches if its entities implement all components of this
+ * collection. The mapper does not store the entities itself; the {@link core.game.EntityStorage}
+ * informs the mapper via {@link #archetypeCreated(Archetype)} about new archetypes and via {@link
+ * #entityMoved(Entity, Archetype, Archetype)} about entities that were added, removed or changed on
+ * the component level. If an entity starts to match the filter, the {@link
+ * System#triggerOnAdd(Entity)} method is executed for all systems. If an entity no longer matches
+ * the filter, {@link System#triggerOnRemove(Entity)} is called for each system.
  *
  * <p>Systems can be added using {@link #add(System)} or removed using {@link #remove(System)}. When
- * a system is added, {@link System#triggerOnAdd(Entity)} is called for each stored entity.
+ * a system is added, {@link System#triggerOnAdd(Entity)} is called for each stored entity. On a
+ * level switch, the systems are moved with {@link #detach(System)} and {@link #attach(System)}
+ * instead, and are informed about all entities at once.
  *
- * <p>You can query the stored entities as a stream using {@link #stream()}.
+ * <p>You can query the stored entities as a stream using {@link #stream()}. While the {@link
+ * EntityCommandBuffer} is recording, the stream is a live view on the archetypes; otherwise it
+ * works on a snapshot.
  *
  * <p>The {@link #equals(Object)} and {@link #equals(Set)} methods return true if the filter rules
- * are identical.
+ * are identical. The {@link #hashCode()} is the hash code of the filter rules, so a mapper can be
+ * found in a hash structure by its filter rules.
  */
 public final class EntitySystemMapper {
 
   private final Set<Class<? extends Component>> filterRules;
-  private final Set<Entity> entities;
+  private final BitSet filterMask;
+  private final List<Archetype> archetypes;
   private final Set<System> systems;
 
   /**
@@ -47,16 +62,15 @@ public final class EntitySystemMapper {
    *     EntitySystemMapper.
    */
   public EntitySystemMapper(final Set<Class<? extends Component>> filterRules) {
-    this.filterRules = filterRules;
-    entities = new HashSet<>();
+    this.filterRules = Set.copyOf(filterRules);
+    filterMask = ComponentRegistry.mask(filterRules);
+    archetypes = new ArrayList<>();
     systems = new HashSet<>();
   }
 
   /** Creates a new EntitySystemMapper with no filter rules. */
   public EntitySystemMapper() {
-    filterRules = new HashSet<>();
-    entities = new HashSet<>();
-    systems = new HashSet<>();
+    this(new HashSet<>());
   }
 
   /**
@@ -73,7 +87,7 @@ public final class EntitySystemMapper {
    */
   public boolean add(final System system) {
     if (systems.add(system)) {
-      entities.forEach(system::triggerOnAdd);
+      stream().forEach(system::triggerOnAdd);
       return true;
     }
     return false;
@@ -93,75 +107,106 @@ public final class EntitySystemMapper {
    */
   public boolean remove(final System system) {
     if (systems.remove(system)) {
-      entities.forEach(system::triggerOnRemove);
+      stream().forEach(system::triggerOnRemove);
       return true;
     }
     return false;
   }
 
   /**
-   * Adds a new Entity to the EntitySystemMapper.
+   * Adds a System without informing it about the stored entities.
    *
-   * <p>The Entity will be added to the EntitySystemMapper if it is not already present, and it
-   * fulfills the filter rules defined in the EntitySystemMapper. If the Entity is successfully
-   * added, the {@link System#triggerOnAdd(Entity)} method of each associated System will be called
-   * with the newly added Entity as the parameter.
+   * <p>This is used on a level switch: the caller informs the System about all entities at once,
+   * see {@link System#triggerOnLevelActivate(java.util.List)}.
    *
-   * @param entity The Entity to be added to the EntitySystemMapper.
-   * @return true if the Entity was added successfully, false if the Entity was already present or
-   *     does not fulfill the filter rules.
+   * @param system The System to be added to the EntitySystemMapper.
+   * @return true if the System was added, false if it was already present
    */
-  public boolean add(final Entity entity) {
-    if (!entities.contains(entity) && accept(entity)) {
-      entities.add(entity);
-      systems.forEach(system -> system.triggerOnAdd(entity));
-      return true;
-    }
-    return false;
+  public boolean attach(final System system) {
+    return systems.add(system);
   }
 
   /**
-   * Removes an Entity from the EntitySystemMapper.
+   * Removes a System without informing it about the stored entities.
    *
-   * <p>The Entity will no longer be associated with any Systems in the EntitySystemMapper after
-   * removal. If the Entity is successfully removed, the {@link System#triggerOnRemove(Entity)}
-   * method of each associated System will be called with the removed Entity as the parameter.
+   * <p>This is used on a level switch: the caller informs the System about all entities at once,
+   * see {@link System#triggerOnLevelDeactivate(java.util.List)}.
    *
-   * @param entity The Entity to be removed from the EntitySystemMapper.
-   * @return true if the Entity was removed successfully, false if the Entity was not present in the
-   *     EntitySystemMapper and no removal was performed.
+   * @param system The System to be removed from the EntitySystemMapper.
+   * @return true if the System was removed, false if it was not present
    */
-  public boolean remove(final Entity entity) {
-    if (entities.contains(entity)) {
-      entities.remove(entity);
-      systems.forEach(system -> system.triggerOnRemove(entity));
-      return true;
-    }
-    return false;
+  public boolean detach(final System system) {
+    return systems.remove(system);
   }
 
   /**
-   * Updates the state of an Entity in the EntitySystemMapper.
+   * Offers a newly created archetype to this mapper.
    *
-   * <p>The method checks if the given Entity fulfills the filter rules defined in the
-   * EntitySystemMapper. If the Entity fulfills the filter rules and is not already present in the
-   * EntitySystemMapper, it will be added. If the Entity does not fulfill the filter rules and is
-   * currently present in the EntitySystemMapper, it will be removed.
+   * <p>If the archetype fulfills the filter rules, its entities will be part of this mapper from
+   * now on. This does not trigger any system callbacks; the archetype is expected to be empty.
    *
-   * @param entity The Entity to update in the EntitySystemMapper.
+   * @param archetype The new archetype.
    */
-  public void update(final Entity entity) {
-    if (accept(entity)) add(entity);
-    else remove(entity);
+  public void archetypeCreated(final Archetype archetype) {
+    if (archetype.matches(filterMask)) archetypes.add(archetype);
+  }
+
+  /**
+   * Informs this mapper that an Entity changed its archetype.
+   *
+   * <p>If the Entity fulfills the filter rules now but did not before, the {@link
+   * System#triggerOnAdd(Entity)} method of each associated System will be called. If the Entity
+   * fulfilled the filter rules before but does not anymore, the {@link
+   * System#triggerOnRemove(Entity)} method of each associated System will be called.
+   *
+   * @param entity The Entity that was moved.
+   * @param from The previous archetype of the entity, null if the entity was added.
+   * @param to The new archetype of the entity, null if the entity was removed.
+   */
+  public void entityMoved(final Entity entity, final Archetype from, final Archetype to) {
+    boolean before = from != null && from.matches(filterMask);
+    boolean after = to != null && to.matches(filterMask);
+    if (!before && after) systems.forEach(system -> system.triggerOnAdd(entity));
+    else if (before && !after) systems.forEach(system -> system.triggerOnRemove(entity));
   }
 
   /**
    * Returns a Stream of the Entities in the EntitySystemMapper.
    *
+   * <p>While the {@link EntityCommandBuffer} is recording, structural changes are queued, so the
+   * stream is a live view on the matching archetypes and does not copy anything. Otherwise, the
+   * stream works on a snapshot of the matching archetypes, so entities can be added or removed
+   * while the stream is consumed.
+   *
    * @return A Stream of Entities currently present in the EntitySystemMapper.
    */
   public Stream<Entity> stream() {
-    return new HashSet<>(entities).stream();
+    if (ECSManagment.commandBuffer().isRecording())
+      return StreamSupport.stream(new LiveSpliterator(), false);
+    Entity[] snapshot = new Entity[size()];
+    int offset = 0;
+    for (Archetype archetype : archetypes) offset += archetype.copyInto(snapshot, offset);
+    return Arrays.stream(snapshot);
+  }
+
+  /**
+   * Returns the number of entities that fulfill the filter rules.
+   *
+   * @return the number of matching entities
+   */
+  public int size() {
+    int size = 0;
+    for (Archetype archetype : archetypes) size += archetype.size();
+    return size;
+  }
+
+  /**
+   * Returns the archetypes whose entities fulfill the filter rules.
+   *
+   * @return an unmodifiable view on the matching archetypes
+   */
+  public List<Archetype> archetypes() {
+    return Collections.unmodifiableList(archetypes);
   }
 
   /**
@@ -183,6 +228,28 @@ public final class EntitySystemMapper {
     return false;
   }
 
+  /**
+   * Returns the hash code of the filter rules of this EntitySystemMapper.
+   *
+   * <p>Two EntitySystemMappers that are equal (see {@link #equals(Object)}) have the same hash
+   * code. The hash code is also equal to the hash code of the filter rules as a {@link Set}.
+   *
+   * @return the hash code of the filter rules
+   */
+  @Override
+  public int hashCode() {
+    return filterRules.hashCode();
+  }
+
+  /**
+   * Returns the filter rules of this EntitySystemMapper.
+   *
+   * @return an unmodifiable Set of the Component classes that define the filter rules
+   */
+  public Set<Class<? extends Component>> filterRules() {
+    return filterRules;
+  }
+
   /**
    * Checks if the given Set of Component classes is equal to the filterRules of this
    * EntitySystemMapper.
@@ -196,20 +263,6 @@ public final class EntitySystemMapper {
     return o.equals(filterRules);
   }
 
-  /**
-   * Check if the given entity has all the components needed to be processed by this mapper.
-   *
-   * @param entity the entity to check
-   * @return true if the entity is accepted, false if not.
-   */
-  private boolean accept(final Entity entity) {
-    for (Class<? extends Component> filter : filterRules)
-      if (!entity.isPresent(filter)) {
-        return false;
-      }
-    return true;
-  }
-
   /**
    * Checks if the given System is present in the EntitySystemMapper.
    *
@@ -219,4 +272,33 @@ public final class EntitySystemMapper {
   public boolean has(final System system) {
     return systems.contains(system);
   }
+
+  /**
+   * Iterates over the matching archetypes without copying them.
+   *
+   * <p>The bounds are read on each step, so a structural change during the iteration (e.g. a level
+   * load in the middle of a system) cannot lead to an invalid access.
+   */
+  private final class LiveSpliterator extends Spliterators.AbstractSpliterator<Entity> {
+    private int archetypeIndex = 0;
+    private int entityIndex = 0;
+
+    private LiveSpliterator() {
+      super(Long.MAX_VALUE, Spliterator.NONNULL);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Entity> action) {
+      while (archetypeIndex < archetypes.size()) {
+        Archetype archetype = archetypes.get(archetypeIndex);
+        if (entityIndex < archetype.size()) {
+          action.accept(archetype.entity(entityIndex++));
+          return true;
+        }
+        archetypeIndex++;
+        entityIndex = 0;
+      }
+      return false;
+    }
+  }
 }
@@ -0,0 +1,111 @@
+package core.utils;
+
+import core.Entity;
+import core.EntityHandle;
+import java.util.Arrays;
+
+/**
+ * A side table that maps the entities of the game to values.
+ *
+ * <p>The table is a dense array indexed by {@link Entity#index()}, so a lookup is an array access
+ * instead of a hash lookup. Each slot also stores the {@link EntityHandle#generation()} of the
+ * entity it was written for. If the entity was removed from the game and its index was reused by
+ * another entity, the old value is not returned for the new entity.
+ *
+ * <p>Only entities that are in the game (see {@link core.Game#add(Entity)}) can be stored.
+ *
+ * @param <V> type of the values
+ */
+public final class EntityTable<V> {
+  private static final int INITIAL_CAPACITY = 64;
+  private Object[] values = new Object[INITIAL_CAPACITY];
+  private int[] generations = new int[INITIAL_CAPACITY];
+  private int size = 0;
+
+  /**
+   * Get the value of the given entity.
+   *
+   * @param entity the entity
+   * @return the value, or null if no value was stored for this entity (or if the entity is not in
+   *     the game anymore)
+   */
+  @SuppressWarnings("unchecked")
+  public V get(final Entity entity) {
+    EntityHandle handle = entity.handle().orElse(null);
+    if (handle == null || handle.index() >= values.length) return null;
+    if (generations[handle.index()] != handle.generation()) return null;
+    return (V) values[handle.index()];
+  }
+
+  /**
+   * Check if a value is stored for the given entity.
+   *
+   * @param entity the entity
+   * @return true if {@link #get(Entity)} returns a value, false if not
+   */
+  public boolean containsKey(final Entity entity) {
+    return get(entity) != null;
+  }
+
+  /**
+   * Store the value of the given entity.
+   *
+   * @param entity the entity, must be in the game
+   * @param value the value, null removes the value
+   * @return the previous value of the entity, or null if there was none
+   * @throws IllegalArgumentException if the entity is not in the game
+   */
+  public V put(final Entity entity, final V value) {
+    EntityHandle handle =
+        entity
+            .handle()
+            .orElseThrow(
+                () -> new IllegalArgumentException("Entity " + entity + " is not in the game."));
+    int index = handle.index();
+    if (index >= values.length) {
+      int capacity = Math.max(values.length * 2, index + 1);
+      values = Arrays.copyOf(values, capacity);
+      generations = Arrays.copyOf(generations, capacity);
+    }
+    V previous = get(entity);
+    // the slot can still hold the value of a removed entity
+    if (values[index] == null && value != null) size++;
+    else if (values[index] != null && value == null) size--;
+    values[index] = value;
+    generations[index] = handle.generation();
+    return previous;
+  }
+
+  /**
+   * Remove the value of the given entity.
+   *
+   * @param entity the entity
+   * @return the removed value, or null if there was none
+   */
+  public V remove(final Entity entity) {
+    V previous = get(entity);
+    if (previous != null) {
+      values[entity.index()] = null;
+      size--;
+    }
+    return previous;
+  }
+
+  /**
+   * Get the number of stored values.
+   *
+   * <p>Values of entities that were removed from the game are counted until they are overwritten or
+   * removed.
+   *
+   * @return the number of stored values
+   */
+  public int size() {
+    return size;
+  }
+
+  /** Remove all values. */
+  public void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+  }
+}
@@ -0,0 +1,57 @@
+package core.utils;
+
+import java.util.Random;
+
+/**
+ * The random source of the game.
+ *
+ * <p>Level generators, factories and systems draw their random numbers from the one {@link
+ * #shared()} instance instead of creating their own {@link Random}. If the game is started with the
+ * same seed (see {@link #seed(long)}) and gets the same input, it makes the same decisions. This is
+ * what the input recording and the replay of {@link core.game.GameInput} are based on.
+ *
+ * <p>Without a call of {@link #seed(long)}, the seed is picked at random on startup.
+ */
+public final class GameRandom {
+  private static final Random RANDOM = new Random();
+  private static volatile long seed = new Random().nextLong();
+
+  static {
+    RANDOM.setSeed(seed);
+  }
+
+  private GameRandom() {}
+
+  /**
+   * Get the shared random source.
+   *
+   * <p>Keep the returned instance in a static field, it is never replaced.
+   *
+   * @return the random source of the game
+   */
+  public static Random shared() {
+    return RANDOM;
+  }
+
+  /**
+   * Reset the shared random source to the given seed.
+   *
+   * <p>Set the seed before the level and the entities are created, the numbers that were drawn
+   * before can not be repeated.
+   *
+   * @param seed the new seed
+   */
+  public static void seed(long seed) {
+    GameRandom.seed = seed;
+    RANDOM.setSeed(seed);
+  }
+
+  /**
+   * Get the seed that was set last.
+   *
+   * @return the seed of the shared random source
+   */
+  public static long seed() {
+    return seed;
+  }
+}
@@ -0,0 +1,22 @@
+package core.utils.components;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link core.Component} class of which at most one entity per level is expected to hold an
+ * instance (e.g., the {@link core.components.PlayerComponent}).
+ *
+ * <p>The {@link core.game.EntityStorage} keeps an index of the entity that holds a unique
+ * component, so {@link core.game.ECSManagment#unique(core.game.ComponentType)} is a field read
+ * instead of a search over all entities.
+ *
+ * <p>If more than one entity holds the component, the index refers to the one that got it first.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Unique {}
@@ -57,7 +57,8 @@ public final class Animation {
   private Animation(
       final Collection<IPath> animationFrames, int frameTime, boolean looping, int prio) {
     assert (animationFrames != null && !animationFrames.isEmpty());
-    this.animationFrames = new ArrayList<>(animationFrames);
+    // immutable, so copies of the animation and the AnimationRegistry can share the frames
+    this.animationFrames = List.copyOf(animationFrames);
     frames = animationFrames.size();
     if (frameTime == 0) {
       throw new IllegalArgumentException(
@@ -159,6 +160,21 @@ public final class Animation {
     return pathToReturn;
   }
 
+  /**
+   * Create a copy of this animation that starts at the first frame.
+   *
+   * @return a new animation with the same frames and configuration
+   */
+  public Animation copy() {
+    return new Animation(animationFrames, timeBetweenFrames, looping, priority);
+  }
+
+  /** Restart the animation at the first frame. */
+  public void reset() {
+    currentFrameIndex = 0;
+    frameTimeCounter = 0;
+  }
+
   /**
    * Check if the animation is finished.
    *
@@ -0,0 +1,187 @@
+package core.utils.components.draw;
+
+import core.components.DrawComponent;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Process-wide index of the animation directories in the assets.
+ *
+ * <p>An animation directory is a directory with image files, e.g. {@code
+ * character/knight/idle_down}. The first time a path in an asset root (a JAR file or a resource
+ * directory) is requested, the whole root is read once and every animation directory in it is
+ * indexed. The frames of each directory are sorted by name and stored as an immutable list that is
+ * shared by all {@link Animation}s created from it.
+ *
+ * <p>{@link DrawComponent#DrawComponent(IPath)} gets its animations from this registry. After the
+ * first request for a path, the animations are created without any file access; each component only
+ * holds its own {@link Animation}s with their playback state.
+ */
+public final class AnimationRegistry {
+
+  private static final Logger LOGGER = Logger.getLogger(AnimationRegistry.class.getSimpleName());
+
+  // asset root -> (parent directory -> (animation name -> frames))
+  private static final Map<String, Map<String, Map<String, List<IPath>>>> ROOTS =
+      new ConcurrentHashMap<>();
+  // requested path -> animations of the path
+  private static final Map<String, Map<String, List<IPath>>> PATHS = new ConcurrentHashMap<>();
+
+  private AnimationRegistry() {}
+
+  /**
+   * Create the animations of the given asset directory.
+   *
+   * <p>Each subdirectory of the path with image files becomes one animation with the default
+   * settings, named after the subdirectory. The returned animations are new instances, so they can
+   * be played and configured independently; only their frames are shared.
+   *
+   * @param path path of the directory in the assets, e.g. "character/knight"
+   * @return a new mutable map of the animation names to new animations, empty if the directory has
+   *     no animations
+   * @throws FileNotFoundException if the directory does not exist
+   * @throws IOException if the assets can not be read
+   */
+  public static Map<String, Animation> animations(final IPath path) throws IOException {
+    Map<String, Animation> animations = new HashMap<>();
+    frames(path).forEach((name, frames) -> animations.put(name, Animation.fromCollection(frames)));
+    return animations;
+  }
+
+  /**
+   * Get the frames of the animations of the given asset directory.
+   *
+   * @param path path of the directory in the assets, e.g. "character/knight"
+   * @return an immutable map of the animation names to their sorted frames
+   * @throws FileNotFoundException if the directory does not exist
+   * @throws IOException if the assets can not be read
+   */
+  public static Map<String, List<IPath>> frames(final IPath path) throws IOException {
+    String name = trim(path.pathString());
+    Map<String, List<IPath>> frames = PATHS.get(name);
+    if (frames != null) return frames;
+    URL url = AnimationRegistry.class.getResource("/" + name);
+    if (url == null) throw new FileNotFoundException("Path " + path + " not found.");
+    try {
+      Map<String, Map<String, List<IPath>>> index =
+          ROOTS.computeIfAbsent(root(url, name), AnimationRegistry::index);
+      frames = index.getOrDefault(name, Map.of());
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    PATHS.put(name, frames);
+    return frames;
+  }
+
+  /**
+   * Get the number of indexed asset roots.
+   *
+   * @return the number of JAR files and resource directories that were read
+   */
+  public static int roots() {
+    return ROOTS.size();
+  }
+
+  /** Remove all indexed roots, so the next request reads the assets again. */
+  public static void clear() {
+    PATHS.clear();
+    ROOTS.clear();
+  }
+
+  // the JAR file ("jar:" prefix) or the resource directory that contains the path
+  private static String root(final URL url, final String name) throws IOException {
+    try {
+      if (url.getProtocol().equals("jar")) {
+        String file = url.getPath().substring(0, url.getPath().indexOf("!/"));
+        return "jar:" + new File(URI.create(file)).getPath();
+      }
+      File directory = new File(url.toURI());
+      for (int i = name.split("/").length; i > 0; i--) directory = directory.getParentFile();
+      return directory.getPath();
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      throw new IOException("Could not find the asset root of " + url, e);
+    }
+  }
+
+  private static Map<String, Map<String, List<IPath>>> index(final String root) {
+    Map<String, Map<String, List<IPath>>> index = new HashMap<>();
+    try {
+      if (root.startsWith("jar:")) {
+        try (JarFile jar = new JarFile(root.substring("jar:".length()))) {
+          Enumeration<JarEntry> entries = jar.entries();
+          while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            // example: character/knight/idle_down/idle_down_knight_1.png
+            if (!entry.isDirectory()) add(index, entry.getName(), new SimpleIPath(entry.getName()));
+          }
+        }
+      } else {
+        Path directory = Path.of(root);
+        try (Stream<Path> files = Files.walk(directory)) {
+          for (Path file : files.filter(Files::isRegularFile).toList()) {
+            String name = directory.relativize(file).toString().replace(File.separatorChar, '/');
+            add(index, name, new SimpleIPath(file.toFile().getPath()));
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    // sort the files in lexicographic order (like the most os), animations are played in order
+    Map<String, Map<String, List<IPath>>> sorted = new HashMap<>();
+    index.forEach(
+        (parent, animations) -> {
+          Map<String, List<IPath>> frames = new HashMap<>();
+          animations.forEach(
+              (name, files) -> {
+                files.sort(Comparator.comparing(IPath::pathString));
+                frames.put(name, List.copyOf(files));
+              });
+          sorted.put(parent, Map.copyOf(frames));
+        });
+    LOGGER.info(() -> "Indexed " + sorted.size() + " animation sets in " + root);
+    return sorted;
+  }
+
+  // name is the path of the file relative to the root, e.g. character/knight/idle/idle_1.png
+  private static void add(
+      final Map<String, Map<String, List<IPath>>> index, final String name, final IPath file) {
+    int lastSlash = name.lastIndexOf('/');
+    // files in the root are no animation frames
+    if (lastSlash < 0) return;
+    String directory = name.substring(0, lastSlash);
+    int parentSlash = directory.lastIndexOf('/');
+    String parent = parentSlash < 0 ? "" : directory.substring(0, parentSlash);
+    index
+        .computeIfAbsent(parent, k -> new HashMap<>())
+        .computeIfAbsent(directory.substring(parentSlash + 1), k -> new ArrayList<>())
+        .add(file);
+  }
+
+  private static String trim(final String path) {
+    String name = path.replace('\\', '/');
+    while (name.startsWith("/")) name = name.substring(1);
+    while (name.endsWith("/")) name = name.substring(0, name.length() - 1);
+    return name;
+  }
+}
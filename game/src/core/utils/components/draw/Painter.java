@@ -1,8 +1,7 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import core.systems.CameraSystem;
 import core.utils.Point;
 import core.utils.components.path.IPath;
@@ -19,6 +18,10 @@ import core.utils.components.path.IPath;
  *
  * <p>Use the {@link PainterConfig} to configure the painting options.
  *
+ * <p>The sprites are not drawn at once, but submitted to the {@link RenderQueue} of the painter.
+ * The game loop calls {@link #flush()} once per frame to draw all sprites of the frame in one
+ * batch.
+ *
  * <p>The Painter is used by the {@link core.systems.DrawSystem} and {@link
  * core.systems.LevelSystem}.
  *
@@ -27,7 +30,7 @@ import core.utils.components.path.IPath;
  * @see core.systems.LevelSystem
  */
 public class Painter {
-  private final SpriteBatch batch;
+  private final RenderQueue queue;
 
   /**
    * Create a new Painter.
@@ -35,41 +38,55 @@ public class Painter {
    * @param batch The {@link SpriteBatch} on that this painter will draw the sprites.
    */
   public Painter(final SpriteBatch batch) {
-    this.batch = batch;
+    this.queue = new RenderQueue(batch);
+  }
+
+  /**
+   * Get the {@link RenderQueue} of this painter.
+   *
+   * @return the queue that collects the sprites of the frame
+   */
+  public RenderQueue queue() {
+    return queue;
   }
 
   /**
    * Draw the given texture on the given point with the given configuration.
    *
-   * <p>Will only draw the texture if it's in the frustum of the camera.
+   * <p>Will only draw the texture if it's in the frustum of the camera. The texture is drawn on the
+   * {@link RenderQueue#LEVEL} layer.
    *
    * @param position Position of the texture in the game world.
    * @param texturePath Path to the texture to draw.
    * @param config Painting configuration.
    */
   public void draw(final Point position, final IPath texturePath, final PainterConfig config) {
+    draw(position, texturePath, config, RenderQueue.LEVEL);
+  }
+
+  /**
+   * Draw the given texture on the given point and layer with the given configuration.
+   *
+   * <p>Will only draw the texture if it's in the frustum of the camera.
+   *
+   * @param position Position of the texture in the game world.
+   * @param texturePath Path to the texture to draw.
+   * @param config Painting configuration.
+   * @param layer The layer of the {@link RenderQueue}, a higher layer is drawn on top.
+   */
+  public void draw(
+      final Point position, final IPath texturePath, final PainterConfig config, int layer) {
     float realX = position.x + config.xOffset(); // including the drawOffset
     float realY = position.y + config.yOffset(); // including the drawOffset
     if (CameraSystem.isPointInFrustum(realX, realY)) {
-      Sprite sprite = new Sprite(TextureMap.instance().textureAt(texturePath));
-      // set up scaling of textures
-      sprite.setSize(config.xScaling(), config.yScaling());
-      // where to draw the sprite
-      sprite.setPosition(realX, realY);
-
-      // need to be called before drawing
-      batch.begin();
-
-      // tint the sprite
-      if (config.tintColor() != -1) {
-        Color color = Color.CLEAR;
-        Color.rgba8888ToColor(color, config.tintColor());
-        sprite.setColor(color);
-      }
-      // draw sprite
-      sprite.draw(batch);
-      // need to be called after drawing
-      batch.end();
+      TextureRegion region = TextureMap.instance().regionAt(texturePath);
+      queue.submit(
+          region, realX, realY, config.xScaling(), config.yScaling(), config.tintColor(), layer);
     }
   }
+
+  /** Draw all sprites that were submitted in this frame, see {@link RenderQueue#flush()}. */
+  public void flush() {
+    queue.flush();
+  }
 }
@@ -0,0 +1,233 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the sprites of a frame and draws them in one {@link Batch#begin()}/{@link Batch#end()}
+ * span.
+ *
+ * <p>The {@link Painter} submits a draw command for each sprite (see {@link #submit(Texture, float,
+ * float, float, float, int, int)}). {@link #flush()} sorts the commands by layer and then by
+ * texture, and draws them. The batch only has to send its vertices to the GPU if the texture
+ * changes, so a frame needs as many draw calls as it has texture switches instead of one per
+ * sprite. Commands with the same layer and texture are drawn in the order they were submitted.
+ *
+ * <p>The layer decides what is drawn on top: a higher layer is drawn later. See {@link #LEVEL},
+ * {@link #ENTITIES} and {@link #PLAYERS}.
+ *
+ * <p>The command objects are reused from frame to frame.
+ */
+public final class RenderQueue {
+  /** Layer of the tiles of the level. */
+  public static final int LEVEL = 0;
+
+  /** Layer of the entities. */
+  public static final int ENTITIES = 1;
+
+  /** Layer of the entities with a {@link core.components.PlayerComponent}. */
+  public static final int PLAYERS = 2;
+
+  private static final Comparator<Command> ORDER =
+      Comparator.<Command>comparingInt(command -> command.layer)
+          .thenComparingInt(command -> command.textureId);
+
+  private final Batch batch;
+  private final List<Command> pool = new ArrayList<>();
+  private final List<Command> commands = new ArrayList<>();
+  private final Map<Texture, Integer> textureIds = new IdentityHashMap<>();
+  private final Color color = new Color();
+  private long flushes = 0;
+  private int lastCommands = 0;
+  private int lastDrawCalls = 0;
+
+  /**
+   * Create a new render queue.
+   *
+   * @param batch the batch to draw the commands on
+   */
+  public RenderQueue(final Batch batch) {
+    this.batch = batch;
+  }
+
+  /**
+   * Submit the whole texture to be drawn in this frame.
+   *
+   * @param texture the texture to draw
+   * @param x x-position in the game world
+   * @param y y-position in the game world
+   * @param width width in the game world
+   * @param height height in the game world
+   * @param tintColor color to tint the texture with, as RGBA8888; -1 is white (no tint)
+   * @param layer the layer to draw the texture on
+   */
+  public void submit(
+      final Texture texture,
+      float x,
+      float y,
+      float width,
+      float height,
+      int tintColor,
+      int layer) {
+    // the v-coordinates are flipped, like in Batch#draw(Texture, float, float, float, float)
+    submit(texture, 0, 1, 1, 0, x, y, width, height, tintColor, layer);
+  }
+
+  /**
+   * Submit a texture region to be drawn in this frame.
+   *
+   * @param region the region to draw
+   * @param x x-position in the game world
+   * @param y y-position in the game world
+   * @param width width in the game world
+   * @param height height in the game world
+   * @param tintColor color to tint the region with, as RGBA8888; -1 is white (no tint)
+   * @param layer the layer to draw the region on
+   */
+  public void submit(
+      final TextureRegion region,
+      float x,
+      float y,
+      float width,
+      float height,
+      int tintColor,
+      int layer) {
+    submit(
+        region.getTexture(),
+        region.getU(),
+        region.getV2(),
+        region.getU2(),
+        region.getV(),
+        x,
+        y,
+        width,
+        height,
+        tintColor,
+        layer);
+  }
+
+  /**
+   * Draw all submitted commands in one begin/end span and clear the queue.
+   *
+   * <p>Does nothing if no command was submitted.
+   */
+  public void flush() {
+    lastCommands = commands.size();
+    if (commands.isEmpty()) {
+      lastDrawCalls = 0;
+      return;
+    }
+    commands.sort(ORDER);
+    int switches = 0;
+    int tint = 0;
+    Texture texture = null;
+    batch.begin();
+    for (int i = 0; i < commands.size(); i++) {
+      Command command = commands.get(i);
+      if (texture != command.texture) switches++;
+      texture = command.texture;
+      if (i == 0 || tint != command.tintColor) {
+        tint = command.tintColor;
+        Color.rgba8888ToColor(color, tint);
+        batch.setColor(color);
+      }
+      batch.draw(
+          command.texture,
+          command.x,
+          command.y,
+          command.width,
+          command.height,
+          command.u,
+          command.v,
+          command.u2,
+          command.v2);
+    }
+    batch.setColor(Color.WHITE);
+    batch.end();
+    flushes++;
+    lastDrawCalls = batch instanceof SpriteBatch spriteBatch ? spriteBatch.renderCalls : switches;
+    pool.addAll(commands);
+    commands.clear();
+  }
+
+  /**
+   * Get the number of flushes that drew at least one command.
+   *
+   * @return the number of flushes since the creation of this queue
+   */
+  public long flushes() {
+    return flushes;
+  }
+
+  /**
+   * Get the number of commands that were drawn by the last flush.
+   *
+   * @return the number of sprites of the last frame
+   */
+  public int lastCommands() {
+    return lastCommands;
+  }
+
+  /**
+   * Get the number of draw calls of the last flush.
+   *
+   * <p>For a {@link SpriteBatch} this is its {@link SpriteBatch#renderCalls}, for other batches the
+   * number of texture switches.
+   *
+   * @return the number of draw calls of the last frame
+   */
+  public int lastDrawCalls() {
+    return lastDrawCalls;
+  }
+
+  private void submit(
+      final Texture texture,
+      float u,
+      float v,
+      float u2,
+      float v2,
+      float x,
+      float y,
+      float width,
+      float height,
+      int tintColor,
+      int layer) {
+    Command command = pool.isEmpty() ? new Command() : pool.remove(pool.size() - 1);
+    command.texture = texture;
+    command.textureId = textureIds.computeIfAbsent(texture, t -> textureIds.size());
+    command.u = u;
+    command.v = v;
+    command.u2 = u2;
+    command.v2 = v2;
+    command.x = x;
+    command.y = y;
+    command.width = width;
+    command.height = height;
+    command.tintColor = tintColor;
+    command.layer = layer;
+    commands.add(command);
+  }
+
+  private static final class Command {
+    private Texture texture;
+    private int textureId;
+    private float u;
+    private float v;
+    private float u2;
+    private float v2;
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+    private int tintColor;
+    private int layer;
+  }
+}
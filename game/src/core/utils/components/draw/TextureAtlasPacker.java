@@ -0,0 +1,159 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPackerIO;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Packs the PNG assets into texture atlases.
+ *
+ * <p>This is a build step (see the {@code packTextures} task of the Gradle build), it runs without
+ * a window. Each asset directory is walked, and the images are grouped by their directory (see
+ * {@link #group(String)}). Each group is packed into one atlas file {@code <group>.atlas}. The page
+ * size is the smallest power of two (from {@link #MIN_PAGE_SIZE}) that fits the group on one page;
+ * larger groups get more pages of {@link #PAGE_SIZE}. The regions are named after the path of the
+ * image relative to the asset directory, e.g. {@code
+ * character/knight/idle_down/idle_down_knight_1.png}, so the {@link TextureMap} can find the region
+ * of each path that the game uses.
+ *
+ * <p>Images that are larger than a page are not packed; the game loads them as single textures.
+ */
+public final class TextureAtlasPacker {
+  /** Maximum width and height of an atlas page. */
+  public static final int PAGE_SIZE = 2048;
+
+  /** Minimum width and height of an atlas page. */
+  public static final int MIN_PAGE_SIZE = 128;
+
+  /** File extension of the atlas files. */
+  public static final String ATLAS_EXTENSION = ".atlas";
+
+  private static final Logger LOGGER = Logger.getLogger(TextureAtlasPacker.class.getSimpleName());
+  private static final int PADDING = 2;
+
+  private TextureAtlasPacker() {}
+
+  /**
+   * Pack the PNGs of the given asset directories.
+   *
+   * <p>If an image exists in more than one asset directory, the first directory wins, like in the
+   * resources of the build.
+   *
+   * @param args the output directory, followed by the asset directories
+   * @throws IOException if an asset can not be read or an atlas can not be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2)
+      throw new IllegalArgumentException(
+          "Usage: TextureAtlasPacker <output directory> <asset directory>...");
+    GdxNativesLoader.load();
+    Path output = Path.of(args[0]);
+    Map<String, Map<String, Path>> groups = new TreeMap<>();
+    for (int i = 1; i < args.length; i++) {
+      Path assets = Path.of(args[i]);
+      if (!Files.isDirectory(assets)) continue;
+      try (Stream<Path> files = Files.walk(assets)) {
+        for (Path file : files.filter(TextureAtlasPacker::isPng).sorted().toList()) {
+          String name = assets.relativize(file).toString().replace(File.separatorChar, '/');
+          groups.computeIfAbsent(group(name), k -> new TreeMap<>()).putIfAbsent(name, file);
+        }
+      }
+    }
+    Files.createDirectories(output);
+    try (Stream<Path> old = Files.list(output)) {
+      for (Path file : old.toList()) Files.delete(file);
+    }
+    int packed = 0;
+    for (Map.Entry<String, Map<String, Path>> group : groups.entrySet())
+      packed += pack(output, group.getKey(), group.getValue());
+    LOGGER.info("Packed " + packed + " images into " + groups.size() + " atlases.");
+  }
+
+  /**
+   * Get the group of the given asset path.
+   *
+   * <p>The group is the first directory of the path (e.g., {@code character} or {@code items}). The
+   * tiles are grouped by design and type, e.g. {@code dungeon/default/floor}.
+   *
+   * @param name path of the asset relative to the asset directory, separated by {@code /}
+   * @return the name of the group
+   */
+  public static String group(final String name) {
+    String[] parts = name.split("/");
+    if (parts.length == 1) return "assets";
+    int depth = parts[0].equals("dungeon") ? Math.min(3, parts.length - 1) : 1;
+    return String.join("/", List.of(parts).subList(0, depth));
+  }
+
+  /**
+   * Get the file name of the atlas of the given group.
+   *
+   * @param group the group of the assets, see {@link #group(String)}
+   * @return the name of the atlas file, without directory
+   */
+  public static String atlasFile(final String group) {
+    return group.replace('/', '-') + ATLAS_EXTENSION;
+  }
+
+  // returns the number of packed images
+  private static int pack(final Path output, final String group, final Map<String, Path> files)
+      throws IOException {
+    PixmapPacker packer = null;
+    int packed = 0;
+    for (int size = MIN_PAGE_SIZE; packer == null; size *= 2) {
+      packer =
+          new PixmapPacker(
+              size,
+              size,
+              Pixmap.Format.RGBA8888,
+              PADDING,
+              true,
+              new PixmapPacker.SkylineStrategy());
+      packed = 0;
+      for (Map.Entry<String, Path> file : files.entrySet()) {
+        Pixmap pixmap = new Pixmap(new FileHandle(file.getValue().toFile()));
+        try {
+          packer.pack(file.getKey(), pixmap);
+          packed++;
+        } catch (GdxRuntimeException e) {
+          // the image is larger than the page
+          if (size < PAGE_SIZE) break;
+          LOGGER.warning("Not packed: " + file.getKey() + " (" + e.getMessage() + ")");
+        } finally {
+          pixmap.dispose();
+        }
+      }
+      boolean fits = packed == files.size() && packer.getPages().size == 1;
+      if (!fits && size < PAGE_SIZE) {
+        packer.dispose();
+        packer = null;
+      }
+    }
+    if (packed > 0) {
+      PixmapPackerIO.SaveParameters parameters = new PixmapPackerIO.SaveParameters();
+      parameters.minFilter = Texture.TextureFilter.Nearest;
+      parameters.magFilter = Texture.TextureFilter.Nearest;
+      new PixmapPackerIO()
+          .save(new FileHandle(output.resolve(atlasFile(group)).toFile()), packer, parameters);
+    }
+    packer.dispose();
+    return packed;
+  }
+
+  private static boolean isPng(final Path file) {
+    return Files.isRegularFile(file) && file.toString().toLowerCase().endsWith(".png");
+  }
+}
@@ -1,8 +1,15 @@
 package core.utils.components.draw;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import core.game.PreRunConfiguration;
 import core.utils.components.path.IPath;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Maps Paths to libGDX {@link Texture}s, to reduce unnecessary loading of textures.
@@ -10,10 +17,21 @@ import java.util.HashMap;
  * <p>Use {@link #instance()} to get the only instance of the {@link TextureMap}, and use {@link
  * #textureAt(IPath)} to get the texture that is stored at the given path.
  *
+ * <p>Use {@link #regionAt(IPath)} to get the region of the texture to draw. If {@link
+ * PreRunConfiguration#textureAtlases()} is enabled, the region is looked up in the atlases that the
+ * build packed into {@link #ATLAS_DIRECTORY} (see {@link TextureAtlasPacker}), so many textures
+ * share one GL texture and the {@link RenderQueue} can draw them in one batch. The path strings are
+ * the same as for single textures. A path that is in no atlas is loaded as single texture.
+ *
  * @see Painter
  */
 public final class TextureMap extends HashMap<String, Texture> {
+  /** Directory of the texture atlases in the resources. */
+  public static final String ATLAS_DIRECTORY = "atlases/";
+
   private static final TextureMap INSTANCE = new TextureMap();
+  private final Map<String, TextureRegion> regions = new HashMap<>();
+  private final Map<String, Optional<TextureAtlas>> atlases = new HashMap<>();
 
   /**
    * Get the instance of the TextureMap.
@@ -43,4 +61,51 @@ public final class TextureMap extends HashMap<String, Texture> {
 
     return get(path.pathString());
   }
+
+  /**
+   * Get the region to draw for the given path.
+   *
+   * <p>The region is looked up in the texture atlases if {@link
+   * PreRunConfiguration#textureAtlases()} is enabled. Otherwise, or if the path is in no atlas, the
+   * region covers the whole texture at the path (see {@link #textureAt(IPath)}).
+   *
+   * @param path Path to the texture.
+   * @return The region of the texture at the given path.
+   */
+  public TextureRegion regionAt(final IPath path) {
+    TextureRegion region = regions.get(path.pathString());
+    if (region == null) {
+      if (PreRunConfiguration.textureAtlases()) region = atlasRegion(path.pathString());
+      if (region == null) region = new TextureRegion(textureAt(path));
+      regions.put(path.pathString(), region);
+    }
+    return region;
+  }
+
+  // the path can be relative to the assets, or a file path that ends with the asset path
+  private TextureRegion atlasRegion(final String path) {
+    String name = path.replace('\\', '/');
+    int start = 0;
+    while (true) {
+      String candidate = name.substring(start);
+      TextureAtlas atlas = atlas(TextureAtlasPacker.group(candidate));
+      TextureRegion region = atlas == null ? null : atlas.findRegion(candidate);
+      if (region != null) return region;
+      int slash = name.indexOf('/', start);
+      if (slash < 0) return null;
+      start = slash + 1;
+    }
+  }
+
+  private TextureAtlas atlas(final String group) {
+    return atlases
+        .computeIfAbsent(
+            group,
+            g -> {
+              FileHandle file =
+                  Gdx.files.internal(ATLAS_DIRECTORY + TextureAtlasPacker.atlasFile(g));
+              return file.exists() ? Optional.of(new TextureAtlas(file)) : Optional.empty();
+            })
+        .orElse(null);
+  }
 }
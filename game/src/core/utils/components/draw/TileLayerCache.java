@@ -0,0 +1,256 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
+import core.level.elements.tile.PitTile;
+import core.level.utils.Coordinate;
+import core.level.utils.LevelElement;
+import core.utils.components.path.IPath;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Keeps the static tiles of a level on the GPU, in chunks of {@link #CHUNK_SIZE} x {@link
+ * #CHUNK_SIZE} tiles.
+ *
+ * <p>Floors and walls rarely change, so they do not need to be sent to the GPU in each frame. Each
+ * chunk is recorded once into a {@link SpriteCache}; {@link #draw(OrthographicCamera)} only draws
+ * the chunks that are visible to the camera. The cost per frame depends on the number of visible
+ * chunks, not on the size of the level.
+ *
+ * <p>The cache is the tile listener of its level (see {@link TileLevel#tileListener}). If a tile
+ * changes (e.g., by {@link ILevel#changeTileElementType(Tile, LevelElement)} or by a new tint
+ * color), only its chunk is recorded again, the next time it is visible.
+ *
+ * <p>{@link DoorTile}s and {@link PitTile}s change their look without calling a setter of the tile
+ * (e.g., if a door of another level is opened), so they are not cached, see {@link
+ * #isCached(Tile)}. They have to be drawn in each frame.
+ *
+ * <p>Each chunk holds one sprite for each of its cells, so a chunk can always be recorded again in
+ * its place. Cells without a cached tile get an empty sprite.
+ */
+public final class TileLayerCache {
+  /** Width and height of a chunk in tiles. */
+  public static final int CHUNK_SIZE = 16;
+
+  // tiles can be drawn with an offset, and walls can be higher than one tile
+  private static final float MARGIN = 2f;
+
+  private final TileLevel level;
+  private final Tile[][] layout;
+  private final SpriteCache cache;
+  private final Function<IPath, TextureRegion> regions;
+  private final float xOffset;
+  private final float yOffset;
+  private final int columns;
+  private final int rows;
+  private final int[] ids;
+  private final boolean[] dirty;
+  private final Color color = new Color();
+  private TextureRegion filler = null;
+  private long rebuilds = 0;
+  private int lastChunks = 0;
+
+  /**
+   * Create a new cache for the given level and set it as tile listener of the level.
+   *
+   * <p>The chunks are recorded when they become visible the first time.
+   *
+   * @param level the level to draw
+   * @param cache the sprite cache to record the chunks into, with a size of at least {@link
+   *     #capacity(ILevel)}
+   * @param regions returns the region to draw for a texture path, e.g. {@link
+   *     TextureMap#regionAt(IPath)}
+   * @param xOffset offset of the tiles on the x-axis
+   * @param yOffset offset of the tiles on the y-axis
+   */
+  public TileLayerCache(
+      final TileLevel level,
+      final SpriteCache cache,
+      final Function<IPath, TextureRegion> regions,
+      float xOffset,
+      float yOffset) {
+    this.level = level;
+    this.layout = level.layout();
+    this.cache = cache;
+    this.regions = regions;
+    this.xOffset = xOffset;
+    this.yOffset = yOffset;
+    int height = layout.length;
+    int width = height == 0 ? 0 : layout[0].length;
+    columns = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    rows = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    ids = new int[columns * rows];
+    Arrays.fill(ids, -1);
+    dirty = new boolean[columns * rows];
+    Arrays.fill(dirty, true);
+    level.tileListener(this::invalidate);
+  }
+
+  /**
+   * Get the number of sprites that a {@link SpriteCache} for the given level must hold.
+   *
+   * @param level the level to draw
+   * @return the number of tiles of the level
+   */
+  public static int capacity(final ILevel level) {
+    Tile[][] layout = level.layout();
+    return layout.length == 0 ? 0 : layout.length * layout[0].length;
+  }
+
+  /**
+   * Check if the given tile is drawn from the cache.
+   *
+   * @param tile the tile to check
+   * @return false for {@link DoorTile}s and {@link PitTile}s, true for all other tiles
+   */
+  public static boolean isCached(final Tile tile) {
+    return !(tile instanceof DoorTile) && !(tile instanceof PitTile);
+  }
+
+  /**
+   * Check if this cache draws the given level.
+   *
+   * @param level the level to check
+   * @return true if this cache was created for the level and its current layout
+   */
+  public boolean isFor(final ILevel level) {
+    return this.level == level && level.layout() == layout;
+  }
+
+  /**
+   * Record the chunk of the given tile again, the next time it is visible.
+   *
+   * @param tile the changed tile
+   */
+  public void invalidate(final Tile tile) {
+    Coordinate coordinate = tile.coordinate();
+    if (coordinate.x < 0 || coordinate.y < 0) return;
+    int column = coordinate.x / CHUNK_SIZE;
+    int row = coordinate.y / CHUNK_SIZE;
+    if (column < columns && row < rows) dirty[row * columns + column] = true;
+  }
+
+  /**
+   * Draw the chunks that are visible to the given camera.
+   *
+   * <p>Changed chunks are recorded again before they are drawn.
+   *
+   * @param camera the camera of the game
+   */
+  public void draw(final OrthographicCamera camera) {
+    if (ids.length == 0) return;
+    float halfWidth = camera.viewportWidth * camera.zoom / 2 + MARGIN;
+    float halfHeight = camera.viewportHeight * camera.zoom / 2 + MARGIN;
+    int firstColumn = chunk(camera.position.x - halfWidth - xOffset, columns);
+    int lastColumn = chunk(camera.position.x + halfWidth - xOffset, columns);
+    int firstRow = chunk(camera.position.y - halfHeight - yOffset, rows);
+    int lastRow = chunk(camera.position.y + halfHeight - yOffset, rows);
+
+    // the sprite cache can not record while it draws
+    for (int row = firstRow; row <= lastRow; row++)
+      for (int column = firstColumn; column <= lastColumn; column++)
+        if (dirty[row * columns + column]) record(column, row);
+
+    lastChunks = 0;
+    cache.setProjectionMatrix(camera.combined);
+    // the sprite cache does not enable blending itself
+    if (Gdx.gl != null) {
+      Gdx.gl.glEnable(GL20.GL_BLEND);
+      Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+    cache.begin();
+    for (int row = firstRow; row <= lastRow; row++)
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        int id = ids[row * columns + column];
+        if (id < 0) continue;
+        cache.draw(id);
+        lastChunks++;
+      }
+    cache.end();
+    if (Gdx.gl != null) Gdx.gl.glDisable(GL20.GL_BLEND);
+  }
+
+  /**
+   * Get the number of chunks that were recorded since the creation of this cache.
+   *
+   * @return the number of recorded chunks, including the first recording of each chunk
+   */
+  public long rebuilds() {
+    return rebuilds;
+  }
+
+  /**
+   * Get the number of chunks that were drawn in the last {@link #draw(OrthographicCamera)}.
+   *
+   * @return the number of visible chunks
+   */
+  public int lastChunks() {
+    return lastChunks;
+  }
+
+  /** Remove this cache as tile listener of its level, and release the sprite cache. */
+  public void dispose() {
+    level.tileListener(null);
+    cache.dispose();
+  }
+
+  private static int chunk(float position, int count) {
+    int chunk = (int) Math.floor(position / CHUNK_SIZE);
+    return Math.max(0, Math.min(count - 1, chunk));
+  }
+
+  private void record(int column, int row) {
+    int index = row * columns + column;
+    dirty[index] = false;
+    int firstX = column * CHUNK_SIZE;
+    int firstY = row * CHUNK_SIZE;
+    int lastX = Math.min(firstX + CHUNK_SIZE, layout[0].length);
+    int lastY = Math.min(firstY + CHUNK_SIZE, layout.length);
+    if (filler == null) filler = firstRegion();
+    // nothing to draw on the whole level
+    if (filler == null) return;
+
+    if (ids[index] < 0) cache.beginCache();
+    else cache.beginCache(ids[index]);
+    // the empty sprites use the last region, so they do not switch the texture
+    TextureRegion last = filler;
+    for (int y = firstY; y < lastY; y++) {
+      for (int x = firstX; x < lastX; x++) {
+        Tile tile = layout[y][x];
+        if (isDrawn(tile)) {
+          last = regions.apply(tile.texturePath());
+          Color.rgba8888ToColor(color, tile.tintColor());
+          cache.setColor(color);
+          float height = (float) last.getRegionHeight() / last.getRegionWidth();
+          cache.add(last, x + xOffset, y + yOffset, 1, height);
+        } else {
+          cache.add(last, 0, 0, 0, 0);
+        }
+      }
+    }
+    ids[index] = cache.endCache();
+    rebuilds++;
+  }
+
+  private TextureRegion firstRegion() {
+    for (Tile[] tiles : layout)
+      for (Tile tile : tiles) if (isDrawn(tile)) return regions.apply(tile.texturePath());
+    return null;
+  }
+
+  private static boolean isDrawn(final Tile tile) {
+    return tile != null
+        && isCached(tile)
+        && tile.levelElement() != LevelElement.SKIP
+        && tile.visible();
+  }
+}
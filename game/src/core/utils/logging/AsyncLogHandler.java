@@ -0,0 +1,166 @@
+package core.utils.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that passes the log records to another handler on a background thread.
+ *
+ * <p>The logging thread (e.g., the render thread) only puts the record into a bounded buffer. A
+ * daemon thread takes the records in batches, passes them to the wrapped handler (which formats
+ * them and writes the file), and flushes the wrapped handler once per batch.
+ *
+ * <p>Logging never blocks. If the buffer is full, the record is dropped. The number of dropped
+ * records is available via {@link #dropped()}, and the writer thread logs a warning about the
+ * dropped records to the wrapped handler as soon as the buffer has space again.
+ *
+ * <p>{@link #flush()} waits until the records that were published before are written, and {@link
+ * #close()} writes all remaining records and closes the wrapped handler. The {@link
+ * java.util.logging.LogManager} closes the handlers of all loggers at shutdown.
+ */
+public final class AsyncLogHandler extends Handler {
+  /** Default number of records the buffer can hold. */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  private static final int BATCH_SIZE = 256;
+  private static final long FLUSH_TIMEOUT = 1_000;
+
+  private final Handler target;
+  private final BlockingQueue<LogRecord> buffer;
+  private final Thread writer;
+  private final AtomicLong dropped = new AtomicLong();
+  private final Object lock = new Object();
+  private long published = 0;
+  private long written = 0;
+  private long reported = 0;
+  private volatile boolean closed = false;
+
+  /**
+   * Create a new handler with the {@link #DEFAULT_CAPACITY} that writes to the given handler.
+   *
+   * @param target the handler that formats and writes the records
+   */
+  public AsyncLogHandler(final Handler target) {
+    this(target, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a new handler that writes to the given handler.
+   *
+   * <p>The level of this handler is taken from the given handler.
+   *
+   * @param target the handler that formats and writes the records
+   * @param capacity the number of records the buffer can hold
+   */
+  public AsyncLogHandler(final Handler target, int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("The capacity must be positive.");
+    this.target = target;
+    this.buffer = new ArrayBlockingQueue<>(capacity);
+    setLevel(target.getLevel());
+    writer = new Thread(this::write, "log-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @Override
+  public void publish(final LogRecord record) {
+    if (closed || !isLoggable(record)) return;
+    // the caller is looked up lazily from the stack, so it must be done on the logging thread
+    record.getSourceClassName();
+    synchronized (lock) {
+      if (buffer.offer(record)) published++;
+      else dropped.incrementAndGet();
+    }
+  }
+
+  /** Wait until the records that were published before are written, at most one second. */
+  @Override
+  public void flush() {
+    synchronized (lock) {
+      long until = published;
+      long deadline = java.lang.System.currentTimeMillis() + FLUSH_TIMEOUT;
+      while (written < until && writer.isAlive()) {
+        long wait = deadline - java.lang.System.currentTimeMillis();
+        if (wait <= 0) return;
+        try {
+          lock.wait(wait);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /** Write all remaining records and close the wrapped handler. */
+  @Override
+  public void close() {
+    if (closed) return;
+    closed = true;
+    writer.interrupt();
+    try {
+      writer.join(FLUSH_TIMEOUT);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    target.close();
+  }
+
+  /**
+   * Get the number of records that were dropped because the buffer was full.
+   *
+   * @return the number of dropped records since the creation of this handler
+   */
+  public long dropped() {
+    return dropped.get();
+  }
+
+  private void write() {
+    List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+    while (!closed || !buffer.isEmpty()) {
+      try {
+        LogRecord first = closed ? buffer.poll() : buffer.poll(1, TimeUnit.SECONDS);
+        if (first == null) continue;
+        batch.add(first);
+      } catch (InterruptedException e) {
+        // close() interrupts the writer, the remaining records are written in the next rounds
+        continue;
+      }
+      buffer.drainTo(batch, BATCH_SIZE - 1);
+      reportDropped();
+      for (LogRecord record : batch) {
+        try {
+          target.publish(record);
+        } catch (RuntimeException e) {
+          reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+      }
+      target.flush();
+      synchronized (lock) {
+        written += batch.size();
+        lock.notifyAll();
+      }
+      batch.clear();
+    }
+    reportDropped();
+    target.flush();
+  }
+
+  private void reportDropped() {
+    long count = dropped.get();
+    if (count == reported) return;
+    target.publish(
+        new LogRecord(
+            Level.WARNING,
+            (count - reported) + " log records were dropped, because the log buffer was full."));
+    reported = count;
+  }
+}
@@ -18,6 +18,9 @@ import java.util.logging.SimpleFormatter;
  *
  * <p>Will create a new Logfile and write the log messages into it. Disables the output of log
  * messages on the shell.
+ *
+ * <p>The log messages are written by an {@link AsyncLogHandler}, so that logging does not format
+ * strings or write the file on the thread that logs.
  */
 public final class LoggerConfig {
   private static Logger baseLogger;
@@ -64,6 +67,6 @@ public final class LoggerConfig {
     baseLogger.removeHandler(baseLogger.getHandlers()[0]);
 
     createCustomFileHandler();
-    baseLogger.addHandler(customFileHandler);
+    if (customFileHandler != null) baseLogger.addHandler(new AsyncLogHandler(customFileHandler));
   }
 }
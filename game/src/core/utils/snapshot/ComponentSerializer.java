@@ -0,0 +1,46 @@
+package core.utils.snapshot;
+
+import core.Component;
+import java.io.IOException;
+
+/**
+ * Writes a component into a {@link Snapshot} and reads it back.
+ *
+ * <p>Register a serializer for each component class that should be part of a snapshot, see {@link
+ * Snapshot#register(Class, ComponentSerializer)}. Components without a serializer are not saved.
+ *
+ * <p>Callbacks (e.g., the onDeath function of a health component) can not be saved. A serializer
+ * restores them with their default values.
+ *
+ * @param <C> Type of the component.
+ */
+public interface ComponentSerializer<C extends Component> {
+
+  /**
+   * Write the state of the given component.
+   *
+   * @param component the component to write
+   * @param out where to write the state
+   * @throws IOException if the state can not be written
+   */
+  void write(C component, SnapshotOutput out) throws IOException;
+
+  /**
+   * Create a component from the state written by {@link #write(Component, SnapshotOutput)}.
+   *
+   * @param in where to read the state
+   * @return the new component
+   * @throws IOException if the state can not be read
+   */
+  C read(SnapshotInput in) throws IOException;
+
+  /**
+   * Check if the given component can be written.
+   *
+   * @param component the component to check
+   * @return true if the component can be written, false if it should be skipped
+   */
+  default boolean supports(C component) {
+    return true;
+  }
+}
@@ -0,0 +1,515 @@
+package core.utils.snapshot;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.components.CameraComponent;
+import core.components.DrawComponent;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
+import core.level.elements.tile.ExitTile;
+import core.level.elements.tile.TileFactory;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Point;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * A compact binary snapshot of the current level and its entities.
+ *
+ * <p>{@link #write(OutputStream)} saves the layout of the {@link Game#currentLevel()} (the element,
+ * design, texture, visibility, tint and open state of each tile, and the start tile), the position
+ * of the hero, and all other entities of the level with their components. {@link
+ * #restore(InputStream)} creates the level and the entities again and loads them into the game.
+ *
+ * <p>Only components with a registered {@link ComponentSerializer} are saved, see {@link
+ * #register(Class, ComponentSerializer)}. Serializers for the {@link PositionComponent}, {@link
+ * VelocityComponent}, {@link DrawComponent} and {@link CameraComponent} are registered by default.
+ * Callbacks can not be saved, so a component with other than the default callbacks (e.g., a {@link
+ * VelocityComponent} with an own {@link VelocityComponent#onWallHit()}) can not be saved either,
+ * see {@link ComponentSerializer#supports}. An entity is only saved if all of its components can be
+ * saved (see {@link #isSerializable(Entity)}); other entities are skipped as a whole, so no entity
+ * is restored without some of its components. Entities without any component are not saved.
+ *
+ * <p>The hero itself is not saved, because its input callbacks can not be restored. The hero of the
+ * game is kept on restore and placed on the saved position.
+ *
+ * <p>All strings (entity names, component classes, design labels) and asset paths are stored once
+ * in a string table and referenced by index. The restored level is a {@link TileLevel}; logic of
+ * other level classes (e.g., the level handlers of the devDungeon) is not part of the snapshot.
+ * Restoring a {@link DrawComponent} reads the animation assets only once per path, all other
+ * components with the same path get a copy, see {@link DrawComponent#copy()}.
+ *
+ * <p>{@link #write(ILevel, Collection, OutputStream)} saves any level and any entities, it is used
+ * to hibernate the levels that are not active (see {@link core.game.LevelHibernation}).
+ */
+public final class Snapshot {
+  private static final Logger LOGGER = Logger.getLogger(Snapshot.class.getSimpleName());
+  private static final int MAGIC = 0x44534E50; // "DSNP"
+  private static final short VERSION = 1;
+  private static final int VISIBLE = 1;
+  private static final int OPEN = 2;
+  private static final String CLOSED_DOOR = "_closed.";
+  private static final Map<Class<? extends Component>, ComponentSerializer<?>> SERIALIZERS =
+      new ConcurrentHashMap<>();
+  private static final Map<String, Class<? extends Component>> CLASSES = new ConcurrentHashMap<>();
+  // the first DrawComponent of each path, the others are copies of it
+  private static final Map<String, DrawComponent> DRAW_PROTOTYPES = new ConcurrentHashMap<>();
+
+  static {
+    register(PositionComponent.class, new PositionSerializer());
+    register(VelocityComponent.class, new VelocitySerializer());
+    register(DrawComponent.class, new DrawSerializer());
+    register(
+        CameraComponent.class,
+        new ComponentSerializer<>() {
+          @Override
+          public void write(final CameraComponent component, final SnapshotOutput out) {}
+
+          @Override
+          public CameraComponent read(final SnapshotInput in) {
+            return new CameraComponent();
+          }
+        });
+  }
+
+  private Snapshot() {}
+
+  /**
+   * Register the serializer for the given component class.
+   *
+   * <p>A serializer that was registered for the same class before is replaced.
+   *
+   * @param klass Class of the component.
+   * @param serializer Writes and reads the components of the class.
+   * @param <C> Type of the component.
+   */
+  public static <C extends Component> void register(
+      final Class<C> klass, final ComponentSerializer<C> serializer) {
+    SERIALIZERS.put(klass, serializer);
+    CLASSES.put(klass.getName(), klass);
+  }
+
+  /**
+   * Check if components of the given class are saved.
+   *
+   * @param klass Class of the component.
+   * @return true if a serializer is registered for the class, false if not
+   */
+  public static boolean isSerializable(final Class<? extends Component> klass) {
+    return SERIALIZERS.containsKey(klass);
+  }
+
+  /**
+   * Check if the given entity is saved completely.
+   *
+   * @param entity the entity to check
+   * @return true if each component of the entity can be saved, false if the entity would be skipped
+   */
+  public static boolean isSerializable(final Entity entity) {
+    return entity.componentStream().allMatch(Snapshot::supports);
+  }
+
+  /**
+   * Save the current level and its entities.
+   *
+   * @return the snapshot
+   */
+  public static byte[] capture() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      write(bytes);
+    } catch (IOException e) {
+      // a ByteArrayOutputStream does not throw
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Save the current level and its entities into the given stream.
+   *
+   * @param out where to write the snapshot
+   * @throws IOException if the snapshot can not be written
+   */
+  public static void write(final OutputStream out) throws IOException {
+    ILevel level = Game.currentLevel();
+    if (level == null) throw new IllegalStateException("There is no level to save.");
+    List<Entity> entities =
+        Game.entityStream().filter(entity -> !entity.isPresent(PlayerComponent.class)).toList();
+    write(
+        out,
+        output -> {
+          writeLevel(level, output);
+          writeHero(output);
+          writeEntities(entities, output);
+        });
+  }
+
+  /**
+   * Save the given entities and the tiles of the given level into the given stream.
+   *
+   * <p>Other than {@link #write(OutputStream)}, the level does not have to be the current level,
+   * and the hero is not saved. Read the result with {@link #read(InputStream, TileLevel)}.
+   *
+   * @param level the level whose tiles are saved, or null to save only the entities
+   * @param entities the entities to save; entities that are not {@link #isSerializable(Entity)
+   *     serializable} are skipped
+   * @param out where to write the snapshot
+   * @throws IOException if the snapshot can not be written
+   */
+  public static void write(
+      final ILevel level, final Collection<Entity> entities, final OutputStream out)
+      throws IOException {
+    write(
+        out,
+        output -> {
+          output.writeBoolean(level != null);
+          if (level != null) writeLevel(level, output);
+          writeEntities(entities, output);
+        });
+  }
+
+  private static void write(final OutputStream out, final Body writer) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    SnapshotOutput output = new SnapshotOutput(body);
+    writer.write(output);
+    output.flush();
+
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeShort(VERSION);
+    data.writeInt(output.strings().size());
+    for (String string : output.strings()) data.writeUTF(string);
+    body.writeTo(data);
+    data.flush();
+  }
+
+  /**
+   * Read a snapshot without loading it into the game.
+   *
+   * @param in where to read the snapshot
+   * @return the level, the saved position of the hero and the entities of the snapshot; the
+   *     entities are not added to the game
+   * @throws IOException if the snapshot can not be read
+   */
+  public static World read(final InputStream in) throws IOException {
+    SnapshotInput input = input(in);
+    ILevel level = readLevel(input);
+    Point hero = input.readBoolean() ? input.readPoint() : null;
+    List<Entity> entities = readEntities(input);
+    return new World(level, Optional.ofNullable(hero), entities);
+  }
+
+  /**
+   * Read a snapshot that was written with {@link #write(ILevel, Collection, OutputStream)}.
+   *
+   * <p>If the snapshot contains tiles, they replace the tiles of the given level, see {@link
+   * TileLevel#restoreLayout(Tile[][])}. The entities are not added to the game.
+   *
+   * @param in where to read the snapshot
+   * @param level the level that gets the saved tiles, can be null if no tiles were saved
+   * @return the saved entities
+   * @throws IOException if the snapshot can not be read
+   */
+  public static List<Entity> read(final InputStream in, final TileLevel level) throws IOException {
+    SnapshotInput input = input(in);
+    if (input.readBoolean()) {
+      if (level == null) throw new IOException("There is no level for the saved tiles.");
+      level.restoreLayout(readLayout(input).tiles());
+    }
+    return readEntities(input);
+  }
+
+  private static SnapshotInput input(final InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC) throw new IOException("This is not a snapshot.");
+    short version = data.readShort();
+    if (version != VERSION) throw new IOException("Unsupported snapshot version " + version + ".");
+    int count = data.readInt();
+    List<String> strings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) strings.add(data.readUTF());
+    return new SnapshotInput(data.readAllBytes(), strings);
+  }
+
+  /**
+   * Load the given snapshot into the game.
+   *
+   * @param snapshot the snapshot, see {@link #capture()}
+   * @return the restored world
+   */
+  public static World restore(final byte[] snapshot) {
+    try {
+      return restore(new ByteArrayInputStream(snapshot));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Load a snapshot into the game.
+   *
+   * <p>The level of the snapshot becomes the current level (see {@link Game#currentLevel(ILevel)}),
+   * so the level load callbacks are triggered as for each other level. Then the hero is placed on
+   * its saved position and the entities are added to the game.
+   *
+   * @param in where to read the snapshot
+   * @return the restored world
+   * @throws IOException if the snapshot can not be read
+   */
+  public static World restore(final InputStream in) throws IOException {
+    World world = read(in);
+    Game.currentLevel(world.level());
+    world
+        .heroPosition()
+        .ifPresent(
+            position ->
+                Game.hero()
+                    .flatMap(hero -> hero.fetch(PositionComponent.class))
+                    .ifPresent(pc -> pc.position(position)));
+    world.entities().forEach(Game::add);
+    LOGGER.info("Restored a snapshot with " + world.entities().size() + " entities.");
+    return world;
+  }
+
+  private static void writeLevel(final ILevel level, final SnapshotOutput out) throws IOException {
+    Tile[][] layout = level.layout();
+    out.writeVarInt(layout.length);
+    out.writeVarInt(layout[0].length);
+    Coordinate start = level.startTile().coordinate();
+    out.writeVarInt(start.x);
+    out.writeVarInt(start.y);
+    for (Tile[] row : layout) {
+      for (Tile tile : row) {
+        out.writeByte(tile.levelElement().ordinal());
+        out.writeString(tile.designLabel().name());
+        // a closed door returns its closed texture, but is created with the open one
+        if (tile instanceof DoorTile)
+          out.writeString(tile.texturePath().pathString().replace(CLOSED_DOOR, "."));
+        else out.writePath(tile.texturePath());
+        int flags = tile.visible() ? VISIBLE : 0;
+        if (tile instanceof DoorTile door && door.isOpen()) flags |= OPEN;
+        if (tile instanceof ExitTile exit && exit.isOpen()) flags |= OPEN;
+        out.writeByte(flags);
+        out.writeInt(tile.tintColor());
+      }
+    }
+  }
+
+  private static ILevel readLevel(final SnapshotInput in) throws IOException {
+    Layout layout = readLayout(in);
+    TileLevel level = new TileLevel(layout.tiles());
+    level.startTile(level.tileAt(layout.start()));
+    return level;
+  }
+
+  private static Layout readLayout(final SnapshotInput in) throws IOException {
+    int height = in.readVarInt();
+    int width = in.readVarInt();
+    Coordinate start = new Coordinate(in.readVarInt(), in.readVarInt());
+    LevelElement[] elements = LevelElement.values();
+    Tile[][] tiles = new Tile[height][width];
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        LevelElement element = elements[in.readByte()];
+        DesignLabel label = DesignLabel.valueOf(in.readString());
+        Tile tile = TileFactory.createTile(in.readPath(), new Coordinate(x, y), element, label);
+        int flags = in.readByte();
+        tile.visible((flags & VISIBLE) != 0);
+        boolean open = (flags & OPEN) != 0;
+        if (tile instanceof DoorTile door) {
+          if (open) door.open();
+          else door.close();
+        } else if (tile instanceof ExitTile exit) {
+          if (open) exit.open();
+          else exit.close();
+        }
+        // after open and close, because the exit changes its tint
+        tile.tintColor(in.readInt());
+        tiles[y][x] = tile;
+      }
+    }
+    return new Layout(tiles, start);
+  }
+
+  private static void writeHero(final SnapshotOutput out) throws IOException {
+    Optional<PositionComponent> hero =
+        Game.hero().flatMap(entity -> entity.fetch(PositionComponent.class));
+    out.writeBoolean(hero.isPresent());
+    if (hero.isPresent()) out.writePoint(hero.get().position());
+  }
+
+  private static void writeEntities(final Collection<Entity> all, final SnapshotOutput out)
+      throws IOException {
+    List<Entity> entities = new ArrayList<>();
+    List<String> skipped = new ArrayList<>();
+    for (Entity entity : all) {
+      // an entity without some of its components would come back broken, e.g., without its AI
+      if (!isSerializable(entity)) skipped.add(entity.toString());
+      else if (entity.componentStream().findAny().isPresent()) entities.add(entity);
+    }
+
+    out.writeVarInt(entities.size());
+    for (Entity entity : entities) {
+      List<Component> components = entity.componentStream().toList();
+      out.writeString(entity.name());
+      out.writeVarInt(components.size());
+      for (Component component : components) {
+        out.writeString(component.getClass().getName());
+        write(component, out);
+      }
+    }
+    LOGGER.info("Saved " + entities.size() + " entities.");
+    if (!skipped.isEmpty())
+      LOGGER.warning(
+          skipped.size()
+              + " entities with components that can not be saved were skipped: "
+              + skipped);
+  }
+
+  private static List<Entity> readEntities(final SnapshotInput in) throws IOException {
+    int count = in.readVarInt();
+    List<Entity> entities = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Entity entity = new Entity(in.readString());
+      int components = in.readVarInt();
+      for (int c = 0; c < components; c++) {
+        String name = in.readString();
+        ComponentSerializer<?> serializer = SERIALIZERS.get(CLASSES.get(name));
+        if (serializer == null) throw new IOException("There is no serializer for " + name + ".");
+        entity.add(serializer.read(in));
+      }
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <C extends Component> boolean supports(final C component) {
+    ComponentSerializer<C> serializer =
+        (ComponentSerializer<C>) SERIALIZERS.get(component.getClass());
+    return serializer != null && serializer.supports(component);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <C extends Component> void write(final C component, final SnapshotOutput out)
+      throws IOException {
+    ((ComponentSerializer<C>) SERIALIZERS.get(component.getClass())).write(component, out);
+  }
+
+  /**
+   * The content of a snapshot.
+   *
+   * @param level the saved level
+   * @param heroPosition the saved position of the hero, empty if there was no hero
+   * @param entities the saved entities
+   */
+  public record World(ILevel level, Optional<Point> heroPosition, List<Entity> entities) {}
+
+  private record Layout(Tile[][] tiles, Coordinate start) {}
+
+  private interface Body {
+    void write(SnapshotOutput out) throws IOException;
+  }
+
+  private static final class PositionSerializer implements ComponentSerializer<PositionComponent> {
+    @Override
+    public void write(final PositionComponent component, final SnapshotOutput out)
+        throws IOException {
+      out.writePoint(component.position());
+    }
+
+    @Override
+    public PositionComponent read(final SnapshotInput in) throws IOException {
+      return new PositionComponent(in.readPoint());
+    }
+  }
+
+  private static final class VelocitySerializer implements ComponentSerializer<VelocityComponent> {
+    // the callback can not be saved
+    @Override
+    public boolean supports(final VelocityComponent component) {
+      return component.onWallHit() == VelocityComponent.DEFAULT_ON_WALL_HIT;
+    }
+
+    @Override
+    public void write(final VelocityComponent component, final SnapshotOutput out)
+        throws IOException {
+      out.writeFloat(component.xVelocity());
+      out.writeFloat(component.yVelocity());
+      out.writeFloat(component.currentXVelocity());
+      out.writeFloat(component.currentYVelocity());
+      out.writeBoolean(component.canEnterEmptyTiles());
+    }
+
+    @Override
+    public VelocityComponent read(final SnapshotInput in) throws IOException {
+      VelocityComponent component = new VelocityComponent(in.readFloat(), in.readFloat());
+      component.currentXVelocity(in.readFloat());
+      component.currentYVelocity(in.readFloat());
+      component.canEnterEmptyTiles(in.readBoolean());
+      return component;
+    }
+  }
+
+  private static final class DrawSerializer implements ComponentSerializer<DrawComponent> {
+    @Override
+    public boolean supports(final DrawComponent component) {
+      return component.path().isPresent();
+    }
+
+    @Override
+    public void write(final DrawComponent component, final SnapshotOutput out) throws IOException {
+      out.writePath(component.path().orElseThrow());
+      out.writeString(component.currentAnimationName().orElse(""));
+      out.writeInt(component.tintColor());
+      out.writeBoolean(component.isVisible());
+    }
+
+    @Override
+    public DrawComponent read(final SnapshotInput in) throws IOException {
+      IPath path = in.readPath();
+      DrawComponent component;
+      try {
+        component = DRAW_PROTOTYPES.computeIfAbsent(path.pathString(), Snapshot::load).copy();
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      String animation = in.readString();
+      if (!animation.isEmpty()) component.currentAnimation(animation);
+      component.tintColor(in.readInt());
+      component.setVisible(in.readBoolean());
+      return component;
+    }
+  }
+
+  private static DrawComponent load(final String path) {
+    try {
+      return new DrawComponent(new SimpleIPath(path));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
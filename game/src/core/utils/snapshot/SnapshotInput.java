@@ -0,0 +1,127 @@
+package core.utils.snapshot;
+
+import core.utils.Point;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * The input of a {@link ComponentSerializer}.
+ *
+ * <p>Each method reads a value written by the method of {@link SnapshotOutput} with the same name.
+ */
+public final class SnapshotInput {
+  // the whole body is read at once, reading each byte from a stream is slow
+  private final ByteBuffer in;
+  private final List<String> strings;
+  private final IPath[] paths;
+
+  SnapshotInput(final byte[] body, final List<String> strings) {
+    this.in = ByteBuffer.wrap(body);
+    this.strings = strings;
+    this.paths = new IPath[strings.size()];
+  }
+
+  /**
+   * Read a non-negative integer.
+   *
+   * @return the value
+   * @throws IOException if the value can not be read
+   */
+  public int readVarInt() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed variable-length integer.");
+  }
+
+  /**
+   * Read an integer.
+   *
+   * @return the value
+   * @throws IOException if the value can not be read
+   */
+  public int readInt() throws IOException {
+    int value = readVarInt();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Read a float.
+   *
+   * @return the value
+   * @throws IOException if the value can not be read
+   */
+  public float readFloat() throws IOException {
+    require(Float.BYTES);
+    return in.getFloat();
+  }
+
+  /**
+   * Read a boolean.
+   *
+   * @return the value
+   * @throws IOException if the value can not be read
+   */
+  public boolean readBoolean() throws IOException {
+    return readByte() != 0;
+  }
+
+  /**
+   * Read a byte.
+   *
+   * @return the value, between 0 and 255
+   * @throws IOException if the value can not be read
+   */
+  public int readByte() throws IOException {
+    require(Byte.BYTES);
+    return in.get() & 0xFF;
+  }
+
+  /**
+   * Read a string from the string table.
+   *
+   * @return the string
+   * @throws IOException if the value can not be read
+   */
+  public String readString() throws IOException {
+    int id = readVarInt();
+    if (id >= strings.size()) throw new IOException("Unknown string " + id + ".");
+    return strings.get(id);
+  }
+
+  /**
+   * Read an asset path from the string table.
+   *
+   * <p>Each distinct path is created once per snapshot.
+   *
+   * @return the path
+   * @throws IOException if the value can not be read
+   */
+  public IPath readPath() throws IOException {
+    int id = readVarInt();
+    if (id >= strings.size()) throw new IOException("Unknown string " + id + ".");
+    if (paths[id] == null) paths[id] = new SimpleIPath(strings.get(id));
+    return paths[id];
+  }
+
+  /**
+   * Read a point.
+   *
+   * @return a new point
+   * @throws IOException if the value can not be read
+   */
+  public Point readPoint() throws IOException {
+    return new Point(readFloat(), readFloat());
+  }
+
+  private void require(int bytes) throws EOFException {
+    if (in.remaining() < bytes) throw new EOFException("The snapshot ended unexpectedly.");
+  }
+}
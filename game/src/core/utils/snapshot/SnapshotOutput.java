@@ -0,0 +1,139 @@
+package core.utils.snapshot;
+
+import core.utils.Point;
+import core.utils.components.path.IPath;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The output of a {@link ComponentSerializer}.
+ *
+ * <p>Integers are written as variable-length numbers, so small values need one byte. Strings and
+ * asset paths are interned: each distinct string is stored once in the string table of the snapshot
+ * and referenced by its index.
+ */
+public final class SnapshotOutput {
+  private final DataOutputStream out;
+  private final Map<String, Integer> index = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+
+  SnapshotOutput(final OutputStream out) {
+    this.out = new DataOutputStream(out);
+  }
+
+  /**
+   * Write a non-negative integer.
+   *
+   * @param value the value to write, must not be negative
+   * @throws IOException if the value can not be written
+   */
+  public void writeVarInt(int value) throws IOException {
+    if (value < 0) throw new IllegalArgumentException("The value must not be negative: " + value);
+    writeUnsigned(value);
+  }
+
+  /**
+   * Write an integer, small negative values need few bytes as well.
+   *
+   * @param value the value to write
+   * @throws IOException if the value can not be written
+   */
+  public void writeInt(int value) throws IOException {
+    // zigzag: 0, -1, 1, -2, ... become 0, 1, 2, 3, ...
+    writeUnsigned((value << 1) ^ (value >> 31));
+  }
+
+  // LEB128: seven bits per byte, the highest bit marks that more bytes follow
+  private void writeUnsigned(int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  /**
+   * Write a float.
+   *
+   * @param value the value to write
+   * @throws IOException if the value can not be written
+   */
+  public void writeFloat(float value) throws IOException {
+    out.writeFloat(value);
+  }
+
+  /**
+   * Write a boolean.
+   *
+   * @param value the value to write
+   * @throws IOException if the value can not be written
+   */
+  public void writeBoolean(boolean value) throws IOException {
+    out.writeBoolean(value);
+  }
+
+  /**
+   * Write a byte.
+   *
+   * @param value the value to write
+   * @throws IOException if the value can not be written
+   */
+  public void writeByte(int value) throws IOException {
+    out.writeByte(value);
+  }
+
+  /**
+   * Write a string as reference into the string table.
+   *
+   * @param value the string to write
+   * @throws IOException if the value can not be written
+   */
+  public void writeString(final String value) throws IOException {
+    Integer id = index.get(value);
+    if (id == null) {
+      id = strings.size();
+      index.put(value, id);
+      strings.add(value);
+    }
+    writeVarInt(id);
+  }
+
+  /**
+   * Write an asset path as reference into the string table.
+   *
+   * @param path the path to write
+   * @throws IOException if the value can not be written
+   */
+  public void writePath(final IPath path) throws IOException {
+    writeString(path.pathString());
+  }
+
+  /**
+   * Write a point.
+   *
+   * @param point the point to write
+   * @throws IOException if the value can not be written
+   */
+  public void writePoint(final Point point) throws IOException {
+    out.writeFloat(point.x);
+    out.writeFloat(point.y);
+  }
+
+  /**
+   * Get the strings that were written, in the order of their indices.
+   *
+   * @return the string table
+   */
+  List<String> strings() {
+    return strings;
+  }
+
+  void flush() throws IOException {
+    out.flush();
+  }
+}
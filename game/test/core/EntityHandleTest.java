@@ -0,0 +1,136 @@
+package core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.utils.EntityTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link EntityHandle} and the {@link EntityTable} classes. */
+public class EntityHandleTest {
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+  }
+
+  /** WTF? . */
+  @Test
+  public void handleWhileInGame() {
+    Entity entity = new Entity();
+    assertFalse(entity.handle().isPresent());
+    assertEquals(-1, entity.index());
+
+    Game.add(entity);
+    EntityHandle handle = entity.handle().orElseThrow();
+    assertEquals(handle.index(), entity.index());
+    assertTrue(handle.isAlive());
+    assertSame(entity, handle.entity().orElseThrow());
+
+    Game.remove(entity);
+    assertFalse(entity.handle().isPresent());
+    assertFalse(handle.isAlive());
+    assertTrue(handle.entity().isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void indexIsRecycled() {
+    Entity first = new Entity();
+    Game.add(first);
+    EntityHandle stale = first.handle().orElseThrow();
+    Game.remove(first);
+
+    Entity second = new Entity();
+    Game.add(second);
+    EntityHandle handle = second.handle().orElseThrow();
+    assertEquals(stale.index(), handle.index());
+    assertEquals(stale.generation() + 1, handle.generation());
+    assertFalse(stale.isAlive());
+    assertSame(second, handle.entity().orElseThrow());
+  }
+
+  /** WTF? . */
+  @Test
+  public void handlesSurviveGrowth() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Entity entity = new Entity();
+      Game.add(entity);
+      entities.add(entity);
+    }
+    for (Entity entity : entities) {
+      EntityHandle handle = entity.handle().orElseThrow();
+      assertTrue(handle.isAlive());
+      assertSame(entity, handle.entity().orElseThrow());
+    }
+  }
+
+  /** WTF? . */
+  @Test(timeout = 5000)
+  public void readsDoNotLock() throws InterruptedException {
+    Entity entity = new Entity();
+    Game.add(entity);
+    EntityHandle handle = entity.handle().orElseThrow();
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+    Thread holder =
+        new Thread(
+            () -> {
+              synchronized (EntityHandle.class) {
+                locked.countDown();
+                try {
+                  done.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+            });
+    holder.start();
+    locked.await();
+    try {
+      // assign and release hold the lock, the reads do not wait for it
+      assertTrue(handle.isAlive());
+      assertSame(entity, handle.entity().orElseThrow());
+    } finally {
+      done.countDown();
+      holder.join();
+    }
+  }
+
+  /** WTF? . */
+  @Test
+  public void tableDropsStaleValues() {
+    EntityTable<String> table = new EntityTable<>();
+    Entity first = new Entity();
+    Game.add(first);
+    table.put(first, "first");
+    assertEquals("first", table.get(first));
+    Game.remove(first);
+    assertNull(table.get(first));
+
+    Entity second = new Entity();
+    Game.add(second);
+    assertFalse(first.handle().isPresent());
+    assertNull(table.get(second));
+    table.put(second, "second");
+    assertEquals("second", table.get(second));
+    assertEquals(1, table.size());
+    assertEquals("second", table.remove(second));
+    assertEquals(0, table.size());
+  }
+
+  /** WTF? . */
+  @Test(expected = IllegalArgumentException.class)
+  public void tableRejectsEntityNotInGame() {
+    new EntityTable<String>().put(new Entity(), "value");
+  }
+}
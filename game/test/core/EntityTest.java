@@ -1,8 +1,12 @@
 package core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import core.components.PositionComponent;
+import core.game.ComponentType;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -42,6 +46,20 @@ public class EntityTest {
     assertTrue(entity.fetch(testComponent.getClass()).isEmpty());
   }
 
+  /** WTF? . */
+  @Test
+  public void getComponentByType() {
+    PositionComponent pc = new PositionComponent();
+    ComponentType<PositionComponent> type = ComponentType.of(PositionComponent.class);
+    assertNull(entity.get(type));
+    entity.add(pc);
+    assertSame(pc, entity.get(type));
+    assertSame(type, ComponentType.of(PositionComponent.class));
+    entity.remove(PositionComponent.class);
+    assertNull(entity.get(type));
+    assertTrue(entity.fetch(PositionComponent.class).isEmpty());
+  }
+
   /** WTF? . */
   @Test
   public void compareToSameID() {
@@ -26,4 +26,15 @@ public class PositionComponentTest {
     positionComponent.position(newPoint);
     assertTrue(newPoint.equals(positionComponent.position()));
   }
+
+  /** WTF? . */
+  @Test
+  public void interpolatedPosition() {
+    assertTrue(position.equals(positionComponent.interpolatedPosition(0.5f)));
+    positionComponent.rememberPosition();
+    positionComponent.position(new Point(5, 4));
+    assertTrue(new Point(4, 3.5f).equals(positionComponent.interpolatedPosition(0.5f)));
+    assertTrue(position.equals(positionComponent.interpolatedPosition(0)));
+    assertTrue(new Point(5, 4).equals(positionComponent.interpolatedPosition(1)));
+  }
 }
@@ -0,0 +1,146 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link ChunkExecutor} class. */
+public class ChunkExecutorTest {
+  private static final int ENTITY_COUNT = 1_000;
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    ECSManagment.commandBuffer().playback();
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /** WTF? . */
+  @Test
+  public void everyEntityOnce() {
+    List<Entity> entities = spawn(ENTITY_COUNT);
+    Set<Entity> visited = ConcurrentHashMap.newKeySet();
+    AtomicInteger count = new AtomicInteger();
+    ChunkSystem system = new ChunkSystem();
+    system.action =
+        entity -> {
+          visited.add(entity);
+          count.incrementAndGet();
+        };
+    Game.add(system);
+    system.execute();
+    assertEquals(ENTITY_COUNT, count.get());
+    assertEquals(Set.copyOf(entities), visited);
+  }
+
+  /** WTF? . */
+  @Test
+  public void structuralChangesAfterChunks() {
+    spawn(ENTITY_COUNT);
+    AtomicInteger count = new AtomicInteger();
+    ChunkSystem system = new ChunkSystem();
+    system.action =
+        entity -> {
+          entity.remove(DummyComponent.class);
+          count.incrementAndGet();
+        };
+    Game.add(system);
+    system.execute();
+    // removing the components did not disturb the iteration
+    assertEquals(ENTITY_COUNT, count.get());
+    assertEquals(0, Game.entityStream(Set.of(DummyComponent.class)).count());
+    assertEquals(ENTITY_COUNT, Game.entityStream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void structuralChangesStayQueuedWhileRecording() {
+    spawn(ENTITY_COUNT);
+    ChunkSystem system = new ChunkSystem();
+    system.action = Game::remove;
+    Game.add(system);
+    ECSManagment.commandBuffer().record();
+    system.execute();
+    assertEquals(ENTITY_COUNT, ECSManagment.commandBuffer().size());
+    assertEquals(ENTITY_COUNT, Game.entityStream().count());
+    ECSManagment.commandBuffer().playback();
+    assertEquals(0, Game.entityStream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void deferredCallbacksOnCallingThreadInOrder() {
+    spawn(ENTITY_COUNT);
+    List<Entity> order = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    ChunkSystem system = new ChunkSystem();
+    system.action =
+        entity ->
+            ChunkExecutor.defer(
+                () -> {
+                  order.add(entity);
+                  threads.add(Thread.currentThread());
+                });
+    Game.add(system);
+    system.execute();
+    assertEquals(ENTITY_COUNT, order.size());
+    assertTrue(threads.stream().allMatch(thread -> thread == Thread.currentThread()));
+    // chunk order is the order of the entity stream
+    assertEquals(Game.entityStream(Set.of(DummyComponent.class)).toList(), order);
+  }
+
+  /** WTF? . */
+  @Test
+  public void deferOutsideChunkRunsImmediately() {
+    List<Thread> threads = new ArrayList<>();
+    ChunkExecutor.defer(() -> threads.add(Thread.currentThread()));
+    assertEquals(1, threads.size());
+    assertSame(Thread.currentThread(), threads.get(0));
+  }
+
+  /** WTF? . */
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidChunkSize() {
+    ChunkExecutor.forEachChunk(List.of(), 0, chunk -> {});
+  }
+
+  private static List<Entity> spawn(int count) {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Entity entity = new Entity();
+      entity.add(new DummyComponent());
+      Game.add(entity);
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  private static final class DummyComponent implements Component {}
+
+  private static final class ChunkSystem extends System {
+    private Consumer<Entity> action = entity -> {};
+
+    ChunkSystem() {
+      super(DummyComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      parallelForEach(16, action);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link EntityCommandBuffer} class. */
+public class EntityCommandBufferTest {
+  private final EntityCommandBuffer buffer = ECSManagment.commandBuffer();
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    buffer.playback();
+    Game.removeAllEntities();
+  }
+
+  /** WTF? . */
+  @Test
+  public void addIsDeferred() {
+    Entity entity = new Entity();
+    buffer.record();
+    Game.add(entity);
+    assertEquals(0, Game.entityStream().count());
+    assertEquals(1, buffer.size());
+    assertEquals(1, buffer.playback());
+    assertFalse(buffer.isRecording());
+    assertEquals(1, Game.entityStream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void removeIsDeferred() {
+    Entity entity = new Entity();
+    Game.add(entity);
+    buffer.record();
+    Game.remove(entity);
+    assertEquals(1, Game.entityStream().count());
+    buffer.playback();
+    assertEquals(0, Game.entityStream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void componentChangesAreDeferred() {
+    Entity entity = new Entity();
+    DummyComponent component = new DummyComponent();
+    Game.add(entity);
+    buffer.record();
+    entity.add(component);
+    // the entity can use the component, but the systems do not see it yet
+    assertSame(component, entity.fetch(DummyComponent.class).get());
+    assertEquals(0, Game.entityStream(Set.of(DummyComponent.class)).count());
+    buffer.playback();
+    assertEquals(1, Game.entityStream(Set.of(DummyComponent.class)).count());
+
+    buffer.record();
+    entity.remove(DummyComponent.class);
+    // the component is gone from the entity, but the systems still see it
+    assertFalse(entity.isPresent(DummyComponent.class));
+    assertEquals(1, Game.entityStream(Set.of(DummyComponent.class)).count());
+    buffer.playback();
+    assertEquals(0, Game.entityStream(Set.of(DummyComponent.class)).count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void removedComponentIsGoneBeforePlayback() {
+    Entity entity = new Entity();
+    entity.add(new DummyComponent());
+    Game.add(entity);
+    buffer.record();
+    entity.remove(DummyComponent.class);
+    // callers like the dialogs of the hero check if anything is left to close
+    assertTrue(entity.componentStream().findAny().isEmpty());
+    assertTrue(entity.fetch(DummyComponent.class).isEmpty());
+    buffer.playback();
+    assertTrue(entity.componentStream().findAny().isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void replacedComponentIsNotRemoved() {
+    Entity entity = new Entity();
+    entity.add(new DummyComponent());
+    Game.add(entity);
+    buffer.record();
+    entity.remove(DummyComponent.class);
+    DummyComponent replacement = new DummyComponent();
+    entity.add(replacement);
+    buffer.playback();
+    assertSame(replacement, entity.fetch(DummyComponent.class).get());
+  }
+
+  /** WTF? . */
+  @Test
+  public void removeDuringIteration() {
+    for (int i = 0; i < 10; i++) Game.add(new Entity());
+    buffer.record();
+    Game.entityStream().forEach(Game::remove);
+    assertEquals(10, Game.entityStream().count());
+    buffer.playback();
+    assertEquals(0, Game.entityStream().count());
+  }
+
+  private static class DummyComponent implements Component {}
+}
@@ -0,0 +1,201 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.System;
+import core.utils.EntitySystemMapper;
+import core.utils.components.Unique;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests for the {@link EntityStorage} class. */
+public class EntityStorageTest {
+  private final List<Entity> added = new ArrayList<>();
+  private final List<Entity> removed = new ArrayList<>();
+  private EntityStorage storage;
+  private EntitySystemMapper mapper;
+
+  /** WTF? . */
+  @Before
+  public void setup() {
+    storage = new EntityStorage();
+    mapper = storage.createMapper(Set.of(DummyComponent.class));
+    mapper.add(
+        new System(DummyComponent.class) {
+          {
+            onEntityAdd = added::add;
+            onEntityRemove = removed::add;
+          }
+
+          @Override
+          public void execute() {}
+        });
+  }
+
+  /** WTF? . */
+  @Test
+  public void addMatchingEntity() {
+    Entity entity = new Entity();
+    entity.add(new DummyComponent());
+    assertTrue(storage.add(entity));
+    assertFalse(storage.add(entity));
+    assertEquals(List.of(entity), mapper.stream().toList());
+    assertEquals(List.of(entity), added);
+  }
+
+  /** WTF? . */
+  @Test
+  public void addNotMatchingEntity() {
+    Entity entity = new Entity();
+    entity.add(new OtherComponent());
+    storage.add(entity);
+    assertEquals(0, mapper.stream().count());
+    assertEquals(1, storage.entityStream().count());
+    assertTrue(added.isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void updateMovesEntityBetweenArchetypes() {
+    Entity entity = new Entity();
+    storage.add(entity);
+    entity.add(new DummyComponent());
+    assertTrue(storage.update(entity));
+    assertEquals(List.of(entity), mapper.stream().toList());
+    assertEquals(List.of(entity), added);
+
+    entity.add(new OtherComponent());
+    storage.update(entity);
+    assertEquals(List.of(entity), mapper.stream().toList());
+    assertEquals(1, added.size());
+
+    entity.remove(DummyComponent.class);
+    storage.update(entity);
+    assertEquals(0, mapper.stream().count());
+    assertEquals(List.of(entity), removed);
+  }
+
+  /** WTF? . */
+  @Test
+  public void updateSingleComponent() {
+    Entity entity = new Entity();
+    storage.add(entity);
+    entity.add(new OtherComponent());
+    storage.update(entity, OtherComponent.class);
+    assertEquals(0, mapper.stream().count());
+
+    entity.add(new DummyComponent());
+    assertTrue(storage.update(entity, DummyComponent.class));
+    assertEquals(List.of(entity), mapper.stream().toList());
+    assertEquals(List.of(entity), added);
+
+    entity.remove(DummyComponent.class);
+    storage.update(entity, DummyComponent.class);
+    assertEquals(0, mapper.stream().count());
+    assertEquals(List.of(entity), removed);
+
+    // the cached neighbour archetype is used for the second transition
+    entity.add(new DummyComponent());
+    storage.update(entity, DummyComponent.class);
+    assertEquals(List.of(entity), mapper.stream().toList());
+    assertEquals(2, added.size());
+  }
+
+  /** WTF? . */
+  @Test
+  public void updateUnknownEntity() {
+    Entity entity = new Entity();
+    entity.add(new DummyComponent());
+    assertFalse(storage.update(entity));
+    assertEquals(0, mapper.stream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void removeKeepsOtherEntities() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Entity entity = new Entity();
+      entity.add(new DummyComponent());
+      storage.add(entity);
+      entities.add(entity);
+    }
+    assertTrue(storage.remove(entities.get(1)));
+    assertFalse(storage.remove(entities.get(1)));
+    entities.remove(1);
+    assertEquals(new HashSet<>(entities), new HashSet<>(mapper.stream().toList()));
+    assertEquals(4, storage.size());
+  }
+
+  /** WTF? . */
+  @Test
+  public void newMapperSeesExistingEntities() {
+    Entity entity = new Entity();
+    entity.add(new DummyComponent());
+    entity.add(new OtherComponent());
+    storage.add(entity);
+    EntitySystemMapper other = storage.createMapper(Set.of(OtherComponent.class));
+    assertEquals(List.of(entity), other.stream().toList());
+  }
+
+  /** WTF? . */
+  @Test
+  public void uniqueFollowsAddAndRemove() {
+    ComponentType<UniqueComponent> type = ComponentType.of(UniqueComponent.class);
+    assertTrue(type.isUnique());
+    assertEquals(Optional.empty(), storage.unique(type));
+
+    Entity entity = new Entity();
+    storage.add(entity);
+    entity.add(new UniqueComponent());
+    storage.update(entity, UniqueComponent.class);
+    assertEquals(Optional.of(entity), storage.unique(type));
+
+    entity.remove(UniqueComponent.class);
+    storage.update(entity);
+    assertEquals(Optional.empty(), storage.unique(type));
+
+    entity.add(new UniqueComponent());
+    storage.update(entity);
+    assertEquals(Optional.of(entity), storage.unique(type));
+    storage.remove(entity);
+    assertEquals(Optional.empty(), storage.unique(type));
+  }
+
+  /** WTF? . */
+  @Test
+  public void uniqueFallsBackToOtherHolder() {
+    ComponentType<UniqueComponent> type = ComponentType.of(UniqueComponent.class);
+    Entity first = new Entity();
+    first.add(new UniqueComponent());
+    Entity second = new Entity();
+    second.add(new UniqueComponent());
+    storage.add(first);
+    storage.add(second);
+    assertEquals(Optional.of(first), storage.unique(type));
+    storage.remove(first);
+    assertEquals(Optional.of(second), storage.unique(type));
+  }
+
+  /** WTF? . */
+  @Test(expected = IllegalArgumentException.class)
+  public void uniqueRejectsOtherComponents() {
+    storage.unique(ComponentType.of(DummyComponent.class));
+  }
+
+  private static class DummyComponent implements Component {}
+
+  @Unique
+  private static class UniqueComponent implements Component {}
+
+  private static class OtherComponent implements Component {}
+}
@@ -0,0 +1,131 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import core.Entity;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link EventBus} class. */
+public class EventBusTest {
+  private final List<EventBus.Subscription> subscriptions = new ArrayList<>();
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    subscriptions.forEach(EventBus.Subscription::cancel);
+    EventBus.clear();
+  }
+
+  /** WTF? . */
+  @Test
+  public void deliversOnDispatch() {
+    List<Integer> received = new ArrayList<>();
+    subscriptions.add(EventBus.subscribe(Plain.class, event -> received.add(event.value())));
+    for (int i = 0; i < 100; i++) EventBus.publish(new Plain(i));
+    assertTrue(received.isEmpty());
+    assertEquals(100, EventBus.pending());
+
+    EventBus.dispatch();
+    assertEquals(100, received.size());
+    for (int i = 0; i < 100; i++) assertEquals(i, (int) received.get(i));
+    assertEquals(0, EventBus.pending());
+  }
+
+  /** WTF? . */
+  @Test
+  public void filtersByEntity() {
+    Entity a = new Entity();
+    Entity b = new Entity();
+    List<Filtered> received = new ArrayList<>();
+    subscriptions.add(EventBus.subscribe(Filtered.class, a, received::add));
+    EventBus.publish(new Filtered(a));
+    EventBus.publish(new Filtered(b));
+    EventBus.dispatch();
+    assertEquals(List.of(new Filtered(a)), received);
+  }
+
+  /** WTF? . */
+  @Test
+  public void coalescesEventsOfOneEntity() {
+    EventBus.coalesce(Damage.class, (x, y) -> new Damage(x.entity(), x.amount() + y.amount()));
+    Entity a = new Entity();
+    Entity b = new Entity();
+    List<Damage> received = new ArrayList<>();
+    subscriptions.add(EventBus.subscribe(Damage.class, received::add));
+    EventBus.publish(new Damage(a, 1));
+    EventBus.publish(new Damage(b, 2));
+    EventBus.publish(new Damage(a, 3));
+    EventBus.dispatch();
+    assertEquals(List.of(new Damage(a, 4), new Damage(b, 2)), received);
+
+    // the merge is per dispatch
+    EventBus.publish(new Damage(a, 5));
+    EventBus.dispatch();
+    assertEquals(new Damage(a, 5), received.get(2));
+  }
+
+  /** WTF? . */
+  @Test
+  public void eventsOfConsumersWaitForNextDispatch() {
+    List<Integer> received = new ArrayList<>();
+    subscriptions.add(
+        EventBus.subscribe(
+            Chained.class,
+            event -> {
+              received.add(event.value());
+              EventBus.publish(new Chained(event.value() + 1));
+            }));
+    EventBus.publish(new Chained(0));
+    EventBus.dispatch();
+    assertEquals(List.of(0), received);
+    EventBus.dispatch();
+    assertEquals(List.of(0, 1), received);
+  }
+
+  /** WTF? . */
+  @Test
+  public void cancelStopsDelivery() {
+    List<Cancelled> received = new ArrayList<>();
+    EventBus.Subscription subscription = EventBus.subscribe(Cancelled.class, received::add);
+    subscription.cancel();
+    EventBus.publish(new Cancelled());
+    EventBus.dispatch();
+    assertTrue(received.isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void afterDispatchRunsAfterEvents() {
+    List<String> order = new ArrayList<>();
+    subscriptions.add(
+        EventBus.subscribe(
+            Plain.class,
+            event -> {
+              order.add("event " + event.value());
+              // queued during the dispatch, runs on the next one
+              EventBus.afterDispatch(() -> order.add("next"));
+            }));
+    EventBus.publish(new Plain(1));
+    EventBus.afterDispatch(() -> order.add("action"));
+    assertTrue(order.isEmpty());
+
+    EventBus.dispatch();
+    assertEquals(List.of("event 1", "action"), order);
+    EventBus.dispatch();
+    assertEquals(List.of("event 1", "action", "next"), order);
+  }
+
+  private record Plain(int value) {}
+
+  private record Filtered(Entity entity) implements EventBus.EntityEvent {}
+
+  private record Damage(Entity entity, int amount) implements EventBus.EntityEvent {}
+
+  private record Chained(int value) {}
+
+  private record Cancelled() {}
+}
@@ -0,0 +1,49 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/** Tests for the {@link FixedTimestep} class. */
+public class FixedTimestepTest {
+  private static final float DELTA = 0.0001f;
+
+  /** WTF? . */
+  @Test
+  public void accumulatesShortFrames() {
+    FixedTimestep timestep = new FixedTimestep(10);
+    assertEquals(0, timestep.advance(0.04f, 5));
+    assertEquals(0.4f, timestep.alpha(), DELTA);
+    assertEquals(0, timestep.advance(0.04f, 5));
+    assertEquals(1, timestep.advance(0.04f, 5));
+    assertEquals(0.2f, timestep.alpha(), DELTA);
+  }
+
+  /** WTF? . */
+  @Test
+  public void severalTicksInLongFrame() {
+    FixedTimestep timestep = new FixedTimestep(10);
+    assertEquals(3, timestep.advance(0.35f, 5));
+    assertEquals(0.5f, timestep.alpha(), DELTA);
+  }
+
+  /** WTF? . */
+  @Test
+  public void capDropsBacklog() {
+    FixedTimestep timestep = new FixedTimestep(10);
+    assertEquals(5, timestep.advance(2.05f, 5));
+    // the dropped time does not lead to more ticks in the next frame
+    assertEquals(0.5f, timestep.alpha(), DELTA);
+    assertEquals(0, timestep.advance(0.01f, 5));
+  }
+
+  /** WTF? . */
+  @Test
+  public void resetDropsProgress() {
+    FixedTimestep timestep = new FixedTimestep(10);
+    timestep.advance(0.05f, 5);
+    timestep.reset();
+    assertEquals(0f, timestep.alpha(), DELTA);
+    assertEquals(0, timestep.advance(0.05f, 5));
+  }
+}
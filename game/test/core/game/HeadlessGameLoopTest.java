@@ -0,0 +1,97 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import core.Game;
+import core.System;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link HeadlessGameLoop} class. */
+public class HeadlessGameLoopTest {
+  private final EntityStorage initialStorage = ECSManagment.activeEntityStorage();
+  private final AtomicInteger frames = new AtomicInteger();
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    PreRunConfiguration.userOnFrame(() -> {});
+    PreRunConfiguration.userOnSetup(() -> {});
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    Game.currentLevel(null);
+    ECSManagment.activeEntityStorage(initialStorage);
+  }
+
+  /** WTF? . */
+  @Test
+  public void stepsTickByTick() {
+    AtomicInteger setups = new AtomicInteger();
+    PreRunConfiguration.userOnSetup(setups::incrementAndGet);
+    PreRunConfiguration.userOnFrame(frames::incrementAndGet);
+    HeadlessGameLoop loop = new HeadlessGameLoop();
+    loop.step();
+    assertNotNull(Game.currentLevel());
+    loop.step(2);
+    assertEquals(1, setups.get());
+    assertEquals(3, frames.get());
+    assertEquals(3, loop.ticks());
+  }
+
+  /** WTF? . */
+  @Test
+  public void skipsRenderSystems() {
+    CountingSystem logic = new CountingSystem();
+    CountingSystem render = new RenderSystem();
+    Game.add(logic);
+    Game.add(render);
+    HeadlessGameLoop loop = new HeadlessGameLoop();
+    loop.step(2);
+    assertEquals(2, logic.executions);
+    assertEquals(0, render.executions);
+  }
+
+  /** WTF? . */
+  @Test
+  public void exitStopsRun() {
+    PreRunConfiguration.userOnFrame(
+        () -> {
+          if (frames.incrementAndGet() == 5) Game.exit();
+        });
+    HeadlessGameLoop.run(false);
+    assertEquals(5, frames.get());
+  }
+
+  /** WTF? . */
+  @Test
+  public void stepIsFixedTick() {
+    List<Boolean> fixed = new ArrayList<>();
+    PreRunConfiguration.userOnFrame(() -> fixed.add(PreRunConfiguration.fixedTimestep()));
+    assertFalse(PreRunConfiguration.fixedTimestep());
+    HeadlessGameLoop loop = new HeadlessGameLoop();
+    loop.step(2);
+    assertEquals(List.of(true, true), fixed);
+    assertFalse(PreRunConfiguration.fixedTimestep());
+  }
+
+  private static class CountingSystem extends System {
+    private int executions = 0;
+
+    @Override
+    public void execute() {
+      executions++;
+    }
+  }
+
+  // the game stores one system per class
+  private static final class RenderSystem extends CountingSystem {
+    RenderSystem() {
+      markAsRenderSystem();
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.level.TileLevel;
+import core.level.elements.tile.DoorTile;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.systems.LevelSystem;
+import core.utils.Point;
+import java.util.Objects;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/** Tests for the {@link LevelHibernation} class. */
+public class LevelHibernationTest {
+  private static final Coordinate DOOR = new Coordinate(2, 1);
+  private static final Coordinate DOORSTEP = new Coordinate(1, 1);
+  private final EntityStorage initialStorage = ECSManagment.activeEntityStorage();
+  private TileLevel first;
+  private TileLevel second;
+
+  /** WTF? . */
+  @Before
+  public void setup() {
+    first = level();
+    second = level();
+    DoorTile door = (DoorTile) first.tileAt(DOOR);
+    door.doorstep(first.tileAt(DOORSTEP));
+    ((DoorTile) second.tileAt(DOOR)).otherDoor(door);
+    Game.add(new LevelSystem(null, null, GameLoop::switchLevel));
+  }
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    PreRunConfiguration.hibernateAfterSwitches(0);
+    PreRunConfiguration.hibernateToDisk(false);
+    LevelHibernation.reset();
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    ECSManagment.levelStorageMap().keySet().removeIf(Objects::nonNull);
+    ECSManagment.activeEntityStorage(initialStorage);
+  }
+
+  /** WTF? . */
+  @Test
+  public void hibernateAndWake() {
+    Game.currentLevel(first);
+    Entity entity = new Entity("statue");
+    entity.add(new PositionComponent(1, 1));
+    Game.add(entity);
+    DoorTile door = (DoorTile) first.tileAt(DOOR);
+    Game.currentLevel(second);
+
+    assertTrue(LevelHibernation.hibernate(first));
+    assertTrue(LevelHibernation.isHibernated(first));
+    assertNull(first.layout());
+    assertFalse(ECSManagment.levelStorageMap().containsKey(first));
+    assertFalse(ECSManagment.contains(entity));
+    LevelHibernation.Stats stats = LevelHibernation.stats();
+    assertEquals(1, stats.liveLevels());
+    assertEquals(1, stats.hibernatedLevels());
+    assertEquals(1, stats.hibernatedEntities());
+    assertEquals(12, stats.hibernatedTiles());
+    assertTrue(stats.hibernatedBytes() > 0);
+
+    Game.currentLevel(first);
+    assertFalse(LevelHibernation.isHibernated(first));
+    assertNotNull(first.layout());
+    // the door of the other level is still connected
+    assertSame(door, first.tileAt(DOOR));
+    assertSame(first.tileAt(DOORSTEP), door.doorstep());
+    Entity restored = Game.entityStream().findFirst().orElseThrow();
+    assertNotSame(entity, restored);
+    assertEquals("statue", restored.name());
+    Point position = restored.fetch(PositionComponent.class).orElseThrow().position();
+    assertEquals(1, position.x, 0f);
+    assertEquals(1, position.y, 0f);
+  }
+
+  /** WTF? . */
+  @Test
+  public void keepLevelWithUnserializableEntities() {
+    Game.currentLevel(first);
+    Entity statue = new Entity();
+    statue.add(new PositionComponent(1, 1));
+    Game.add(statue);
+    Entity monster = new Entity();
+    monster.add(Mockito.mock(Component.class));
+    Game.add(monster);
+    Game.currentLevel(second);
+
+    assertTrue(LevelHibernation.hibernate(first));
+    assertNotNull(first.layout());
+    assertEquals(1, ECSManagment.levelStorageMap().get(first).size());
+    assertTrue(ECSManagment.contains(monster));
+    assertFalse(ECSManagment.contains(statue));
+
+    Game.currentLevel(first);
+    assertEquals(2, Game.entityStream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void keepEntitiesWithCallbacks() {
+    Game.currentLevel(first);
+    Entity walker = new Entity();
+    walker.add(new PositionComponent(1, 1));
+    walker.add(new VelocityComponent(1, 1));
+    Game.add(walker);
+    Entity projectile = new Entity();
+    projectile.add(new PositionComponent(1, 1));
+    projectile.add(new VelocityComponent(1, 1, Game::remove, false));
+    Game.add(projectile);
+    Game.currentLevel(second);
+
+    // the callback can not be saved, so the projectile stays live
+    assertTrue(LevelHibernation.hibernate(first));
+    assertTrue(ECSManagment.contains(projectile));
+    assertFalse(ECSManagment.contains(walker));
+    assertEquals(1, LevelHibernation.stats().hibernatedEntities());
+  }
+
+  /** WTF? . */
+  @Test
+  public void hibernateAfterSwitches() {
+    PreRunConfiguration.hibernateAfterSwitches(2);
+    PreRunConfiguration.hibernateToDisk(true);
+    TileLevel third = level();
+    Game.currentLevel(first);
+    Game.currentLevel(second);
+    assertFalse(LevelHibernation.isHibernated(first));
+    Game.currentLevel(third);
+    assertTrue(LevelHibernation.isHibernated(first));
+    assertFalse(LevelHibernation.isHibernated(second));
+
+    Game.currentLevel(first);
+    assertFalse(LevelHibernation.isHibernated(first));
+    assertTrue(LevelHibernation.isHibernated(second));
+    assertNotNull(first.layout());
+  }
+
+  private static TileLevel level() {
+    LevelElement[][] layout = {
+      {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
+      {LevelElement.WALL, LevelElement.FLOOR, LevelElement.DOOR, LevelElement.WALL},
+      {LevelElement.WALL, LevelElement.EXIT, LevelElement.WALL, LevelElement.WALL},
+    };
+    return new TileLevel(layout, DesignLabel.DEFAULT);
+  }
+}
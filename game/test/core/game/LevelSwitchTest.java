@@ -0,0 +1,152 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.systems.LevelSystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests for the level switch in {@link GameLoop#switchLevel()}. */
+public class LevelSwitchTest {
+  private final EntityStorage initialStorage = ECSManagment.activeEntityStorage();
+  private TileLevel first;
+  private TileLevel second;
+
+  /** WTF? . */
+  @Before
+  public void setup() {
+    first = level();
+    second = level();
+    Game.add(new LevelSystem(null, null, GameLoop::switchLevel));
+  }
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    ECSManagment.levelStorageMap().keySet().removeIf(Objects::nonNull);
+    ECSManagment.activeEntityStorage(initialStorage);
+  }
+
+  /** WTF? . */
+  @Test
+  public void perEntityCallbacksByDefault() {
+    CountingSystem system = new CountingSystem();
+    Game.add(system);
+    Game.currentLevel(first);
+    Game.add(entity());
+    Game.add(entity());
+    Game.currentLevel(second);
+    Game.add(entity());
+
+    assertEquals(2, system.removed);
+    assertEquals(3, system.added);
+    Game.currentLevel(first);
+    assertEquals(3, system.removed);
+    assertEquals(5, system.added);
+    assertEquals(2, system.entityStream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void bulkCallbacks() {
+    BulkSystem system = new BulkSystem();
+    Game.add(system);
+    Game.currentLevel(first);
+    Game.add(entity());
+    Game.add(entity());
+    Game.currentLevel(second);
+
+    // the first switch leaves the storage without level
+    assertEquals(List.of(0, 2), system.deactivated);
+    assertEquals(List.of(0, 0), system.activated);
+    Game.currentLevel(first);
+    assertEquals(List.of(0, 2, 0), system.deactivated);
+    assertEquals(List.of(0, 0, 2), system.activated);
+  }
+
+  /** WTF? . */
+  @Test
+  public void systemWithoutCallbacksIsNotInformed() {
+    BulkSystem bulk = new BulkSystem();
+    QuietSystem quiet = new QuietSystem();
+    assertTrue(bulk.observesLevelActivate());
+    assertFalse(quiet.observesLevelActivate());
+    assertFalse(quiet.observesLevelDeactivate());
+    Game.add(quiet);
+    Game.currentLevel(first);
+    Game.add(entity());
+    Game.currentLevel(second);
+    assertEquals(0, quiet.entityStream().count());
+    Game.currentLevel(first);
+    assertEquals(1, quiet.entityStream().count());
+  }
+
+  private static Entity entity() {
+    Entity entity = new Entity();
+    entity.add(new TestComponent());
+    return entity;
+  }
+
+  private static TileLevel level() {
+    LevelElement[][] layout = {
+      {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
+      {LevelElement.WALL, LevelElement.FLOOR, LevelElement.WALL},
+      {LevelElement.WALL, LevelElement.EXIT, LevelElement.WALL},
+    };
+    return new TileLevel(layout, DesignLabel.DEFAULT);
+  }
+
+  private static final class TestComponent implements Component {}
+
+  private static final class CountingSystem extends System {
+    private int added = 0;
+    private int removed = 0;
+
+    private CountingSystem() {
+      super(TestComponent.class);
+      onEntityAdd = entity -> added++;
+      onEntityRemove = entity -> removed++;
+    }
+
+    @Override
+    public void execute() {}
+  }
+
+  private static final class BulkSystem extends System {
+    private final List<Integer> activated = new ArrayList<>();
+    private final List<Integer> deactivated = new ArrayList<>();
+
+    private BulkSystem() {
+      super(TestComponent.class);
+      onLevelActivate = entities -> activated.add(entities.size());
+      onLevelDeactivate = entities -> deactivated.add(entities.size());
+    }
+
+    @Override
+    public void execute() {}
+  }
+
+  private static final class QuietSystem extends System {
+    private QuietSystem() {
+      super(TestComponent.class);
+    }
+
+    @Override
+    public void execute() {}
+  }
+}
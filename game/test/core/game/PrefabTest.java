@@ -0,0 +1,156 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link Prefab} class. */
+public class PrefabTest {
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+  }
+
+  /** WTF? . */
+  @Test
+  public void acquireCreatesTemplateComponents() {
+    Prefab prefab =
+        new Prefab("prefabTest.create").with(CounterComponent.class, CounterComponent::new);
+    Entity entity = prefab.acquire();
+    assertTrue(entity.isPresent(CounterComponent.class));
+    assertEquals("prefabTest.create", entity.name());
+    assertEquals(0, prefab.hits());
+    assertEquals(1, prefab.misses());
+  }
+
+  /** WTF? . */
+  @Test
+  public void removedEntityIsReused() {
+    Prefab prefab =
+        new Prefab("prefabTest.reuse")
+            .with(CounterComponent.class, CounterComponent::new, c -> c.value = 0);
+    Entity entity = prefab.acquire();
+    entity.fetch(CounterComponent.class).orElseThrow().value = 5;
+    entity.add(new OtherComponent());
+    Game.add(entity);
+    assertEquals(0, prefab.pooled());
+
+    Game.remove(entity);
+    // returned after the events of the removal are dispatched
+    assertEquals(0, prefab.pooled());
+    assertTrue(entity.isPresent(OtherComponent.class));
+    EventBus.dispatch();
+    assertEquals(1, prefab.pooled());
+    // components that are not part of the template are removed on release
+    assertFalse(entity.isPresent(OtherComponent.class));
+
+    Entity reused = prefab.acquire();
+    assertSame(entity, reused);
+    assertEquals(0, reused.fetch(CounterComponent.class).orElseThrow().value);
+    assertEquals(1, prefab.hits());
+    assertEquals(1, prefab.misses());
+  }
+
+  /** WTF? . */
+  @Test
+  public void removingTwiceReleasesOnce() {
+    Prefab prefab = new Prefab("prefabTest.twice");
+    Entity entity = prefab.acquire();
+    Game.add(entity);
+    Game.remove(entity);
+    Game.remove(entity);
+    EventBus.dispatch();
+    assertEquals(1, prefab.pooled());
+    assertSame(entity, prefab.acquire());
+    assertNotSame(entity, prefab.acquire());
+  }
+
+  /** WTF? . */
+  @Test
+  public void templateComponentIsCreatedAgain() {
+    Prefab prefab =
+        new Prefab("prefabTest.recreate").with(CounterComponent.class, CounterComponent::new);
+    Entity entity = prefab.acquire();
+    entity.remove(CounterComponent.class);
+    Game.add(entity);
+    Game.remove(entity);
+    EventBus.dispatch();
+    assertTrue(prefab.acquire().isPresent(CounterComponent.class));
+  }
+
+  /** WTF? . */
+  @Test
+  public void capacityLimitsPool() {
+    Prefab prefab = new Prefab("prefabTest.capacity", 1);
+    Entity a = prefab.acquire();
+    Entity b = prefab.acquire();
+    Game.add(a);
+    Game.add(b);
+    Game.remove(a);
+    Game.remove(b);
+    EventBus.dispatch();
+    assertEquals(1, prefab.pooled());
+  }
+
+  /** WTF? . */
+  @Test
+  public void consumersSeeRemovedEntity() {
+    Prefab prefab = new Prefab("prefabTest.events");
+    Entity entity = prefab.acquire();
+    entity.add(new OtherComponent());
+    Game.add(entity);
+    List<Boolean> seen = new ArrayList<>();
+    EventBus.Subscription subscription =
+        EventBus.subscribe(
+            Removed.class, event -> seen.add(event.entity().isPresent(OtherComponent.class)));
+    EventBus.publish(new Removed(entity));
+    Game.remove(entity);
+
+    EventBus.dispatch();
+    subscription.cancel();
+    assertEquals(List.of(true), seen);
+    assertFalse(entity.isPresent(OtherComponent.class));
+    assertEquals(1, prefab.pooled());
+  }
+
+  /** WTF? . */
+  @Test
+  public void addedAgainBeforeDispatch() {
+    Prefab prefab = new Prefab("prefabTest.again");
+    Entity entity = prefab.acquire();
+    Game.add(entity);
+    Game.remove(entity);
+    Game.add(entity);
+    EventBus.dispatch();
+    assertEquals(0, prefab.pooled());
+  }
+
+  /** WTF? . */
+  @Test
+  public void countersArePublished() {
+    Prefab prefab = new Prefab("prefabTest.counters");
+    Game.add(prefab.acquire());
+    assertEquals(Long.valueOf(0), SystemProfiler.counters().get("prefabTest.counters.hits"));
+    assertEquals(Long.valueOf(1), SystemProfiler.counters().get("prefabTest.counters.misses"));
+  }
+
+  private static final class CounterComponent implements Component {
+    private int value = 0;
+  }
+
+  private static final class OtherComponent implements Component {}
+
+  private record Removed(Entity entity) implements EventBus.EntityEvent {}
+}
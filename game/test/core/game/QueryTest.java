@@ -0,0 +1,91 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.utils.EntitySystemMapper;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link Query} class. */
+public class QueryTest {
+  private final EntityStorage initialStorage = ECSManagment.activeEntityStorage();
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    ECSManagment.activeEntityStorage(initialStorage);
+    Game.removeAllEntities();
+  }
+
+  /** WTF? . */
+  @Test
+  public void usesMapperOfActiveStorage() {
+    Query query = Query.of(DummyComponent.class);
+    assertSame(ECSManagment.mapper(Set.of(DummyComponent.class)), query.mapper());
+    assertSame(query.mapper(), query.mapper());
+  }
+
+  /** WTF? . */
+  @Test
+  public void streamsMatchingEntities() {
+    Query query = Query.of(DummyComponent.class);
+    Entity match = new Entity();
+    match.add(new DummyComponent());
+    Game.add(match);
+    Game.add(new Entity());
+    assertEquals(List.of(match), query.stream().toList());
+  }
+
+  /** WTF? . */
+  @Test
+  public void rebindsAfterStorageSwitch() {
+    Query query = Query.of(DummyComponent.class);
+    Entity entity = new Entity();
+    entity.add(new DummyComponent());
+    Game.add(entity);
+    EntitySystemMapper before = query.mapper();
+
+    ECSManagment.activeEntityStorage(new EntityStorage());
+    assertNotSame(before, query.mapper());
+    assertEquals(0, query.stream().count());
+
+    ECSManagment.activeEntityStorage(initialStorage);
+    assertSame(before, query.mapper());
+    assertEquals(1, query.stream().count());
+  }
+
+  /** WTF? . */
+  @Test
+  public void mapperHashCodeMatchesEquals() {
+    Set<Class<? extends Component>> rules = new HashSet<>();
+    rules.add(DummyComponent.class);
+    EntitySystemMapper a = new EntitySystemMapper(rules);
+    EntitySystemMapper b = new EntitySystemMapper(Set.of(DummyComponent.class));
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertEquals(rules.hashCode(), a.hashCode());
+    assertTrue(new HashSet<>(List.of(a)).contains(b));
+  }
+
+  /** WTF? . */
+  @Test
+  public void storageFindsMapperByFilter() {
+    EntityStorage storage = new EntityStorage();
+    EntitySystemMapper mapper = storage.mapper(Set.of(DummyComponent.class));
+    Set<Class<? extends Component>> rules = new HashSet<>();
+    rules.add(DummyComponent.class);
+    assertSame(mapper, storage.mapper(rules));
+    assertEquals(1, storage.mappers().count());
+  }
+
+  private static final class DummyComponent implements Component {}
+}
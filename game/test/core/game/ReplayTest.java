@@ -0,0 +1,173 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.Input;
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.utils.GameRandom;
+import core.utils.Point;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link Replay} and the {@link InputLog} classes. */
+public class ReplayTest {
+  private static final int BOTH = InputLog.PRESSED | InputLog.JUST_PRESSED;
+  private final EntityStorage initialStorage = ECSManagment.activeEntityStorage();
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    PreRunConfiguration.userOnSetup(() -> {});
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    Game.currentLevel(null);
+    ECSManagment.activeEntityStorage(initialStorage);
+    SystemProfiler.reset();
+  }
+
+  /** WTF? . */
+  @Test
+  public void logRoundTrip() throws IOException {
+    InputLog log = new InputLog(42, 30);
+    log.add(new InputLog.Frame(1, Map.of(), null));
+    log.add(new InputLog.Frame(2, Map.of(Input.Keys.ANY_KEY, BOTH, 300, 1), new Point(3, 4)));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    log.write(bytes);
+
+    InputLog read = InputLog.read(new ByteArrayInputStream(bytes.toByteArray()));
+    assertEquals(42, read.seed());
+    assertEquals(30, read.tickRate());
+    assertEquals(3, read.ticks());
+    assertEquals(2, read.frames().size());
+    assertTrue(read.frames().get(0).keys().isEmpty());
+    assertNull(read.frames().get(0).cursor());
+    InputLog.Frame frame = read.frames().get(1);
+    assertEquals(Map.of(Input.Keys.ANY_KEY, BOTH, 300, 1), frame.keys());
+    assertEquals(3, frame.cursor().x, 0f);
+    assertEquals(4, frame.cursor().y, 0f);
+  }
+
+  /** WTF? . */
+  @Test
+  public void replayIsDeterministic() {
+    InputLog log = new InputLog(7, 30);
+    for (int i = 0; i < 10; i++)
+      log.add(
+          new InputLog.Frame(
+              2, i % 4 == 1 ? Map.of(Input.Keys.SPACE, BOTH) : Map.of(), new Point(i, i)));
+
+    List<Integer> first = replay(log);
+    List<Integer> second = replay(log);
+    assertEquals(3, first.size());
+    assertEquals(first, second);
+    assertFalse(GameInput.replaying());
+  }
+
+  /** WTF? . */
+  @Test
+  public void replayMeasuresSystems() {
+    InputLog log = new InputLog(7, 30);
+    log.add(new InputLog.Frame(3, Map.of(), null));
+    List<SystemProfiler.Stats> stats = Replay.run(log);
+    SystemProfiler.Stats velocity =
+        stats.stream().filter(s -> s.name().equals("VelocitySystem")).findFirst().orElseThrow();
+    assertEquals(3, velocity.executions());
+    assertFalse(SystemProfiler.enabled());
+  }
+
+  /** WTF? . */
+  @Test
+  public void replayExecutesDeclaredSystemsSerially() {
+    InputLog log = new InputLog(7, 30);
+    for (int i = 0; i < 10; i++) log.add(new InputLog.Frame(2, Map.of(), null));
+    List<String> drawn = new ArrayList<>();
+    PreRunConfiguration.userOnSetup(
+        () -> {
+          Game.add(new RandomSystem("a", drawn, PositionComponent.class));
+          Game.add(new RandomSystem("b", drawn, VelocityComponent.class) {});
+        });
+    assertTrue(PreRunConfiguration.parallelSystems());
+
+    Replay.run(log);
+    List<String> first = new ArrayList<>(drawn);
+    cleanup();
+    drawn.clear();
+    PreRunConfiguration.userOnSetup(
+        () -> {
+          Game.add(new RandomSystem("a", drawn, PositionComponent.class));
+          Game.add(new RandomSystem("b", drawn, VelocityComponent.class) {});
+        });
+    Replay.run(log);
+
+    assertEquals(40, first.size());
+    assertEquals(first, drawn);
+    // all systems were executed on this thread
+    String thread = Thread.currentThread().getName();
+    assertTrue(drawn.stream().allMatch(entry -> entry.endsWith(thread)));
+    assertTrue(PreRunConfiguration.parallelSystems());
+  }
+
+  /** WTF? . */
+  @Test
+  public void recordExecutesSystemsSerially() {
+    boolean fixedTimestep = PreRunConfiguration.fixedTimestep();
+    GameInput.record(7);
+    assertFalse(PreRunConfiguration.parallelSystems());
+    GameInput.stopRecording();
+    assertTrue(PreRunConfiguration.parallelSystems());
+    PreRunConfiguration.fixedTimestep(fixedTimestep);
+  }
+
+  // draws a random number in each tick, two of them do not conflict
+  private static class RandomSystem extends System {
+    private final String name;
+    private final List<String> drawn;
+
+    private RandomSystem(
+        final String name, final List<String> drawn, final Class<? extends Component> reads) {
+      declareReads(reads);
+      this.name = name;
+      this.drawn = drawn;
+    }
+
+    @Override
+    public void execute() {
+      int value = GameRandom.shared().nextInt(1000);
+      synchronized (drawn) {
+        drawn.add(name + value + Thread.currentThread().getName());
+      }
+    }
+  }
+
+  // the hero draws a random number on each space key
+  private List<Integer> replay(final InputLog log) {
+    List<Integer> drawn = new ArrayList<>();
+    PreRunConfiguration.userOnSetup(
+        () -> {
+          Entity hero = new Entity("hero");
+          PlayerComponent pc = new PlayerComponent();
+          pc.registerCallback(
+              Input.Keys.SPACE, e -> drawn.add(GameRandom.shared().nextInt(1000)), false);
+          hero.add(pc);
+          Game.add(hero);
+        });
+    Replay.run(log);
+    cleanup();
+    return drawn;
+  }
+}
@@ -0,0 +1,115 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests for the {@link SystemProfiler} class. */
+public class SystemProfilerTest {
+
+  /** WTF? . */
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    SystemProfiler.enabled(false);
+    SystemProfiler.reset();
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /** WTF? . */
+  @Test
+  public void recordsSystemExecutions() {
+    SystemProfiler.enabled(true);
+    DummySystem system = new DummySystem();
+    Game.add(system);
+    for (int i = 0; i < 3; i++) {
+      Entity entity = new Entity();
+      entity.add(new DummyComponent());
+      Game.add(entity);
+    }
+    for (int i = 0; i < 10; i++) SystemProfiler.execute(system);
+
+    assertEquals(10, system.executions);
+    SystemProfiler.Stats stats = SystemProfiler.stats("DummySystem").orElseThrow();
+    assertEquals(10, stats.executions());
+    assertEquals(3, stats.entities());
+    assertTrue(stats.p50Millis() <= stats.p95Millis());
+    assertTrue(stats.p95Millis() <= stats.p99Millis());
+    assertTrue(stats.p99Millis() <= stats.maxMillis());
+  }
+
+  /** WTF? . */
+  @Test
+  public void disabledRecordsNothing() {
+    DummySystem system = new DummySystem();
+    SystemProfiler.execute(system);
+    SystemProfiler.time("section", () -> {});
+    assertEquals(1, system.executions);
+    assertTrue(SystemProfiler.stats().isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void recordsSections() {
+    SystemProfiler.enabled(true);
+    SystemProfiler.time("section", () -> {});
+    SystemProfiler.Stats stats = SystemProfiler.stats("section").orElseThrow();
+    assertEquals(1, stats.executions());
+    assertEquals(-1, stats.entities());
+    assertFalse(SystemProfiler.stats("other").isPresent());
+  }
+
+  /** WTF? . */
+  @Test
+  public void rollingWindow() {
+    SystemProfiler.enabled(true);
+    for (int i = 0; i < SystemProfiler.WINDOW + 5; i++) SystemProfiler.time("section", () -> {});
+    assertEquals(
+        SystemProfiler.WINDOW + 5, SystemProfiler.stats("section").orElseThrow().executions());
+  }
+
+  /** WTF? . */
+  @Test
+  public void writesCsv() throws IOException {
+    SystemProfiler.enabled(true);
+    SystemProfiler.time("first", () -> {});
+    SystemProfiler.time("second", () -> {});
+    Path csv = folder.getRoot().toPath().resolve("profile.csv");
+    SystemProfiler.writeCsv(csv);
+    List<String> lines = Files.readAllLines(csv);
+    assertEquals(3, lines.size());
+    assertTrue(lines.get(0).startsWith("name,executions,entities,total_ms,p50_ms"));
+    assertTrue(lines.stream().anyMatch(line -> line.startsWith("first,1,-1,")));
+  }
+
+  private static final class DummyComponent implements Component {}
+
+  private static final class DummySystem extends System {
+    private int executions = 0;
+
+    DummySystem() {
+      super(DummyComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      executions++;
+    }
+  }
+}
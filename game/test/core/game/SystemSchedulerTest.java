@@ -0,0 +1,159 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.System;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link SystemScheduler} class. */
+public class SystemSchedulerTest {
+  private final ForkJoinPool pool = new ForkJoinPool(2);
+  private final SystemScheduler scheduler = new SystemScheduler(pool);
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    pool.shutdownNow();
+  }
+
+  /** WTF? . */
+  @Test
+  public void undeclaredSystemsRunAlone() {
+    TestSystem a = new TestSystem();
+    TestSystem b = new TestSystem().reading(ComponentA.class);
+    TestSystem c = new TestSystem().reading(ComponentB.class);
+    TestSystem d = new TestSystem();
+    List<List<System>> stages = SystemScheduler.stages(List.of(a, b, c, d));
+    assertEquals(List.of(List.of(a), List.of(b, c), List.of(d)), stages);
+  }
+
+  /** WTF? . */
+  @Test
+  public void writesSeparateStages() {
+    TestSystem writer = new TestSystem().writing(ComponentA.class);
+    TestSystem reader = new TestSystem().reading(ComponentA.class);
+    TestSystem other = new TestSystem().writing(ComponentB.class);
+    TestSystem secondWriter = new TestSystem().writing(ComponentA.class);
+    List<List<System>> stages =
+        SystemScheduler.stages(List.of(writer, reader, other, secondWriter));
+    assertEquals(List.of(List.of(writer, other), List.of(reader), List.of(secondWriter)), stages);
+  }
+
+  /** WTF? . */
+  @Test
+  public void readersShareStage() {
+    TestSystem a = new TestSystem().reading(ComponentA.class, ComponentB.class);
+    TestSystem b = new TestSystem().reading(ComponentA.class);
+    assertEquals(List.of(List.of(a, b)), SystemScheduler.stages(List.of(a, b)));
+  }
+
+  /** WTF? . */
+  @Test
+  public void parallelExecutesAllAndPinsToCallingThread() {
+    List<System> executed = Collections.synchronizedList(new ArrayList<>());
+    AtomicReference<Thread> pinnedThread = new AtomicReference<>();
+    TestSystem pinned = new TestSystem().reading(ComponentA.class).pinned();
+    pinned.onExecute = () -> pinnedThread.set(Thread.currentThread());
+    TestSystem a = new TestSystem().reading(ComponentA.class);
+    TestSystem b = new TestSystem().writing(ComponentB.class);
+    a.log = executed;
+    b.log = executed;
+    pinned.log = executed;
+
+    scheduler.execute(List.of(pinned, a, b), () -> false);
+
+    assertEquals(3, executed.size());
+    assertTrue(executed.containsAll(List.of(pinned, a, b)));
+    assertSame(Thread.currentThread(), pinnedThread.get());
+  }
+
+  /** WTF? . */
+  @Test
+  public void serialKeepsOrder() {
+    List<System> executed = new ArrayList<>();
+    TestSystem a = new TestSystem().reading(ComponentA.class);
+    TestSystem b = new TestSystem().reading(ComponentB.class);
+    TestSystem c = new TestSystem();
+    a.log = executed;
+    b.log = executed;
+    c.log = executed;
+    scheduler.parallel(false);
+    scheduler.execute(List.of(a, b, c), () -> false);
+    assertEquals(List.of(a, b, c), executed);
+  }
+
+  /** WTF? . */
+  @Test
+  public void stopSkipsRemainingStages() {
+    List<System> executed = new ArrayList<>();
+    boolean[] stop = {false};
+    TestSystem a = new TestSystem();
+    TestSystem b = new TestSystem();
+    a.log = executed;
+    b.log = executed;
+    a.onExecute = () -> stop[0] = true;
+    scheduler.execute(List.of(a, b), () -> stop[0]);
+    assertEquals(List.of(a), executed);
+  }
+
+  /** WTF? . */
+  @Test
+  public void respectsExecuteEveryXFrames() {
+    List<System> executed = new ArrayList<>();
+    TestSystem a = new TestSystem(2);
+    a.log = executed;
+    scheduler.execute(List.of(a), () -> false);
+    assertEquals(0, executed.size());
+    scheduler.execute(List.of(a), () -> false);
+    assertEquals(1, executed.size());
+  }
+
+  private static final class ComponentA implements Component {}
+
+  private static final class ComponentB implements Component {}
+
+  private static final class TestSystem extends System {
+    private Runnable onExecute = () -> {};
+    private List<System> log = new ArrayList<>();
+
+    TestSystem(int executeEveryXFrames) {
+      super(executeEveryXFrames);
+    }
+
+    TestSystem() {
+      super();
+    }
+
+    @SafeVarargs
+    final TestSystem reading(Class<? extends Component>... klasses) {
+      declareReads(klasses);
+      return this;
+    }
+
+    @SafeVarargs
+    final TestSystem writing(Class<? extends Component>... klasses) {
+      declareWrites(klasses);
+      return this;
+    }
+
+    TestSystem pinned() {
+      pinToRenderThread();
+      return this;
+    }
+
+    @Override
+    public void execute() {
+      onExecute.run();
+      log.add(this);
+    }
+  }
+}
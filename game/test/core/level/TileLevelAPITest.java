@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.GdxNativesLoader;
 import core.Entity;
 import core.Game;
 import core.components.PlayerComponent;
@@ -27,6 +28,7 @@ import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
@@ -43,6 +45,12 @@ public class TileLevelAPITest {
 
   private MockedConstruction<Texture> textureMockedConstruction;
 
+  /** WTF? . */
+  @BeforeClass
+  public static void initGDX() {
+    GdxNativesLoader.load(); // the level system culls the tiles with the camera
+  }
+
   /** WTF? . */
   @Before
   public void setup() {
@@ -103,4 +103,25 @@ public class CameraSystemTest {
     float y = 100.0f;
     assertFalse(CameraSystem.isPointInFrustum(x, y));
   }
+
+  /** WTF? . */
+  @Test
+  public void visibleAreaFollowsCamera() {
+    Game.currentLevel(level);
+    Entity entity = new Entity();
+    entity.add(new PositionComponent(new Point(100, 100)));
+    entity.add(new CameraComponent());
+    Game.add(entity);
+
+    cameraSystem.execute();
+    assertTrue(CameraSystem.isPointInFrustum(100, 100));
+    assertFalse(CameraSystem.isPointInFrustum(3, 3));
+    assertTrue(CameraSystem.firstVisibleTileX() <= 100);
+    assertTrue(CameraSystem.lastVisibleTileX() >= 100);
+    assertTrue(CameraSystem.firstVisibleTileY() <= 100);
+    assertTrue(CameraSystem.lastVisibleTileY() >= 100);
+    // only the tiles around the camera
+    assertTrue(CameraSystem.firstVisibleTileX() > 3);
+    assertTrue(CameraSystem.firstVisibleTileY() > 3);
+  }
 }
@@ -0,0 +1,74 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests for the {@link AnimationRegistry} class. */
+public class AnimationRegistryTest {
+
+  private final IPath heroPath = new SimpleIPath("textures/test_hero");
+
+  /** WTF? . */
+  @Before
+  public void setup() {
+    AnimationRegistry.clear();
+  }
+
+  /** WTF? . */
+  @Test
+  public void framesOfEachSubdirectory() throws IOException {
+    Map<String, List<IPath>> frames = AnimationRegistry.frames(heroPath);
+    assertTrue(frames.containsKey("idle_left"));
+    assertTrue(frames.containsKey("run_right"));
+    List<IPath> run = frames.get("run_right");
+    assertEquals(4, run.size());
+    // sorted by name
+    assertTrue(run.get(0).pathString().endsWith("knight_m_run_anim_f0.png"));
+    assertTrue(run.get(3).pathString().endsWith("knight_m_run_anim_f3.png"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void rootIsIndexedOnce() throws IOException {
+    AnimationRegistry.frames(heroPath);
+    assertEquals(1, AnimationRegistry.roots());
+    // same path with a trailing slash, and the parent directory of the same root
+    assertSame(
+        AnimationRegistry.frames(heroPath),
+        AnimationRegistry.frames(new SimpleIPath("textures/test_hero/")));
+    AnimationRegistry.frames(new SimpleIPath("textures"));
+    assertEquals(1, AnimationRegistry.roots());
+  }
+
+  /** WTF? . */
+  @Test
+  public void animationsShareFramesButNotState() throws IOException {
+    Animation first = AnimationRegistry.animations(heroPath).get("run_right");
+    Animation second = AnimationRegistry.animations(heroPath).get("run_right");
+    assertNotSame(first, second);
+    assertEquals(first.animationFrames(), second.animationFrames());
+
+    for (int i = 0; i < first.duration() / 2; i++) first.nextAnimationTexturePath();
+    assertEquals(second.animationFrames().get(0), second.nextAnimationTexturePath());
+  }
+
+  /** WTF? . */
+  @Test
+  public void missingPath() {
+    assertThrows(
+        FileNotFoundException.class,
+        () -> AnimationRegistry.frames(new SimpleIPath("textures/does_not_exist")));
+  }
+}
@@ -0,0 +1,106 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/** Tests for the {@link RenderQueue} class. */
+public class RenderQueueTest {
+  private Batch batch;
+  private RenderQueue queue;
+  private Texture floor;
+  private Texture wall;
+  private Texture hero;
+
+  /** WTF? . */
+  @Before
+  public void setup() {
+    batch = mock(Batch.class);
+    queue = new RenderQueue(batch);
+    floor = mock(Texture.class);
+    wall = mock(Texture.class);
+    hero = mock(Texture.class);
+  }
+
+  /** WTF? . */
+  @Test
+  public void sortsByLayerThenTexture() {
+    queue.submit(hero, 5, 5, 1, 1, -1, RenderQueue.PLAYERS);
+    queue.submit(floor, 0, 0, 1, 1, -1, RenderQueue.LEVEL);
+    queue.submit(wall, 1, 0, 1, 1, -1, RenderQueue.LEVEL);
+    queue.submit(floor, 2, 0, 1, 1, -1, RenderQueue.LEVEL);
+    queue.submit(wall, 3, 0, 1, 1, -1, RenderQueue.ENTITIES);
+    queue.flush();
+
+    InOrder order = inOrder(batch);
+    order.verify(batch).begin();
+    order.verify(batch).draw(floor, 0, 0, 1, 1, 0, 1, 1, 0);
+    order.verify(batch).draw(floor, 2, 0, 1, 1, 0, 1, 1, 0);
+    order.verify(batch).draw(wall, 1, 0, 1, 1, 0, 1, 1, 0);
+    order.verify(batch).draw(wall, 3, 0, 1, 1, 0, 1, 1, 0);
+    order.verify(batch).draw(hero, 5, 5, 1, 1, 0, 1, 1, 0);
+    order.verify(batch).end();
+    verify(batch, times(1)).begin();
+    assertEquals(5, queue.lastCommands());
+    // floor, wall, wall on the next layer is the same texture, hero
+    assertEquals(3, queue.lastDrawCalls());
+    assertEquals(1, queue.flushes());
+  }
+
+  /** WTF? . */
+  @Test
+  public void flushClearsQueue() {
+    queue.submit(floor, 0, 0, 1, 1, -1, RenderQueue.LEVEL);
+    queue.flush();
+    queue.flush();
+
+    verify(batch, times(1)).begin();
+    verify(batch, times(1))
+        .draw(
+            eq(floor),
+            anyFloat(),
+            anyFloat(),
+            anyFloat(),
+            anyFloat(),
+            anyFloat(),
+            anyFloat(),
+            anyFloat(),
+            anyFloat());
+    assertEquals(0, queue.lastCommands());
+    assertEquals(1, queue.flushes());
+  }
+
+  /** WTF? . */
+  @Test
+  public void emptyQueueDoesNotBegin() {
+    queue.flush();
+    verify(batch, never()).begin();
+    verify(batch, never()).end();
+  }
+
+  /** WTF? . */
+  @Test
+  public void tintAndRegion() {
+    TextureRegion region = new TextureRegion(floor, 0.5f, 0f, 1f, 0.5f);
+    queue.submit(region, 0, 0, 1, 1, Color.rgba8888(Color.RED), RenderQueue.LEVEL);
+    queue.flush();
+
+    InOrder order = inOrder(batch);
+    order.verify(batch).setColor(Color.RED);
+    order.verify(batch).draw(floor, 0, 0, 1, 1, 0.5f, 0.5f, 1f, 0f);
+    order.verify(batch).setColor(Color.WHITE);
+  }
+}
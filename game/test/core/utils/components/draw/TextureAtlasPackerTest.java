@@ -0,0 +1,34 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/** Tests for the {@link TextureAtlasPacker} class. */
+public class TextureAtlasPackerTest {
+
+  /** WTF? . */
+  @Test
+  public void groupByFirstDirectory() {
+    assertEquals("character", TextureAtlasPacker.group("character/knight/idle/idle_knight_1.png"));
+    assertEquals("items", TextureAtlasPacker.group("items/book/spell_book.png"));
+    assertEquals("assets", TextureAtlasPacker.group("logo.png"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void groupTilesByDesignAndType() {
+    assertEquals(
+        "dungeon/default/floor", TextureAtlasPacker.group("dungeon/default/floor/floor_1.png"));
+    assertEquals("dungeon/ice/wall", TextureAtlasPacker.group("dungeon/ice/wall/wall_right.png"));
+    assertEquals("dungeon/default", TextureAtlasPacker.group("dungeon/default/empty.png"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void atlasFile() {
+    assertEquals(
+        "dungeon-default-floor.atlas", TextureAtlasPacker.atlasFile("dungeon/default/floor"));
+    assertEquals("character.atlas", TextureAtlasPacker.atlasFile("character"));
+  }
+}
@@ -0,0 +1,120 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/** Tests for the {@link TileLayerCache} class. */
+public class TileLayerCacheTest {
+  // 3 x 3 chunks
+  private static final int SIZE = 40;
+  private TileLevel level;
+  private SpriteCache spriteCache;
+  private TileLayerCache cache;
+  private OrthographicCamera camera;
+
+  /** WTF? . */
+  @BeforeClass
+  public static void initGDX() {
+    GdxNativesLoader.load(); // load natives for the camera in headless testing
+  }
+
+  /** WTF? . */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[SIZE][SIZE];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    layout[SIZE - 1][SIZE - 1] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    spriteCache = mock(SpriteCache.class);
+    when(spriteCache.endCache()).thenReturn(0, 1, 2, 3, 4, 5, 6, 7, 8);
+    TextureRegion region = mock(TextureRegion.class);
+    when(region.getRegionWidth()).thenReturn(16);
+    when(region.getRegionHeight()).thenReturn(16);
+    cache = new TileLayerCache(level, spriteCache, path -> region, 0, 0);
+    // shows the tiles from (0, 0) to (10, 10), in the first chunk
+    camera = new OrthographicCamera(10, 10);
+    camera.zoom = 1;
+    camera.position.set(5, 5, 0);
+  }
+
+  /** WTF? . */
+  @Test
+  public void drawsOnlyVisibleChunks() {
+    cache.draw(camera);
+    verify(spriteCache, times(1)).beginCache();
+    verify(spriteCache, times(TileLayerCache.CHUNK_SIZE * TileLayerCache.CHUNK_SIZE))
+        .add(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    verify(spriteCache, times(1)).draw(0);
+    assertEquals(1, cache.lastChunks());
+
+    // the chunk is not recorded again
+    cache.draw(camera);
+    verify(spriteCache, times(1)).beginCache();
+    verify(spriteCache, times(2)).draw(0);
+    assertEquals(1, cache.rebuilds());
+  }
+
+  /** WTF? . */
+  @Test
+  public void changedTileInvalidatesItsChunk() {
+    cache.draw(camera);
+    level.tileAt(new Coordinate(3, 3)).tintColor(0x22FF22FF);
+    // a tile that is not visible
+    level.tileAt(new Coordinate(35, 35)).tintColor(0x22FF22FF);
+    cache.draw(camera);
+
+    verify(spriteCache, times(1)).beginCache(0);
+    verify(spriteCache, never()).beginCache(1);
+    assertEquals(2, cache.rebuilds());
+
+    // the invisible chunk is recorded when it becomes visible
+    camera.position.set(35, 35, 0);
+    cache.draw(camera);
+    assertEquals(6, cache.rebuilds());
+  }
+
+  /** WTF? . */
+  @Test
+  public void changeTileElementType() {
+    cache.draw(camera);
+    level.changeTileElementType(level.tileAt(new Coordinate(2, 2)), LevelElement.WALL);
+    cache.draw(camera);
+    verify(spriteCache, times(1)).beginCache(0);
+  }
+
+  /** WTF? . */
+  @Test
+  public void disposeRemovesListener() {
+    assertTrue(cache.isFor(level));
+    cache.draw(camera);
+    cache.dispose();
+    level.tileAt(new Coordinate(3, 3)).tintColor(0x22FF22FF);
+    cache.draw(camera);
+    verify(spriteCache, never()).beginCache(anyInt());
+    verify(spriteCache).dispose();
+    LevelElement[][] other = {{LevelElement.FLOOR, LevelElement.EXIT}};
+    assertFalse(cache.isFor(new TileLevel(other, DesignLabel.DEFAULT)));
+  }
+}
@@ -0,0 +1,104 @@
+package core.utils.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.Test;
+
+/** Tests for the {@link AsyncLogHandler} class. */
+public class AsyncLogHandlerTest {
+
+  /** WTF? . */
+  @Test
+  public void writesInOrder() {
+    RecordingHandler target = new RecordingHandler(null);
+    AsyncLogHandler handler = new AsyncLogHandler(target);
+    for (int i = 0; i < 1000; i++) handler.publish(new LogRecord(Level.INFO, "message " + i));
+    handler.flush();
+
+    assertEquals(1000, target.records.size());
+    for (int i = 0; i < 1000; i++) assertEquals("message " + i, target.records.get(i).getMessage());
+    assertTrue(target.flushes > 0);
+    assertEquals(0, handler.dropped());
+    handler.close();
+    assertTrue(target.closed);
+  }
+
+  /** WTF? . */
+  @Test
+  public void dropsWhenFull() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingHandler target = new RecordingHandler(release);
+    target.blocked = blocked;
+    AsyncLogHandler handler = new AsyncLogHandler(target, 4);
+    // the writer takes the first record and waits in the target
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    blocked.await();
+    for (int i = 0; i < 10; i++) handler.publish(new LogRecord(Level.INFO, "message " + i));
+
+    assertEquals(6, handler.dropped());
+    release.countDown();
+    handler.close();
+    // the first record, the four buffered records and the warning about the dropped records
+    assertEquals(6, target.records.size());
+    assertTrue(
+        target.records.stream()
+            .anyMatch(
+                record ->
+                    record.getLevel() == Level.WARNING && record.getMessage().startsWith("6 ")));
+  }
+
+  /** WTF? . */
+  @Test
+  public void keepsLevelOfTarget() {
+    RecordingHandler target = new RecordingHandler(null);
+    target.setLevel(Level.WARNING);
+    AsyncLogHandler handler = new AsyncLogHandler(target);
+    handler.publish(new LogRecord(Level.INFO, "info"));
+    handler.publish(new LogRecord(Level.SEVERE, "severe"));
+    handler.close();
+
+    assertEquals(List.of("severe"), target.records.stream().map(LogRecord::getMessage).toList());
+  }
+
+  private static final class RecordingHandler extends Handler {
+    private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release;
+    private CountDownLatch blocked;
+    private volatile int flushes = 0;
+    private volatile boolean closed = false;
+
+    private RecordingHandler(final CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+      records.add(record);
+      if (blocked == null) return;
+      blocked.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void flush() {
+      flushes++;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package core.utils.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.ILevel;
+import core.level.elements.tile.ExitTile;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.systems.LevelSystem;
+import core.utils.Point;
+import core.utils.components.path.SimpleIPath;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+/** Tests for the {@link Snapshot} class. */
+public class SnapshotTest {
+
+  /** WTF? . */
+  @After
+  public void cleanup() {
+    Game.removeAllSystems();
+    Game.removeAllEntities();
+    Game.currentLevel(null);
+  }
+
+  /** WTF? . */
+  @Test
+  public void streamRoundTrip() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    SnapshotOutput out = new SnapshotOutput(bytes);
+    out.writeVarInt(0);
+    out.writeVarInt(300);
+    out.writeVarInt(Integer.MAX_VALUE);
+    out.writeInt(-1);
+    out.writeInt(Integer.MIN_VALUE);
+    out.writeFloat(1.5f);
+    out.writeBoolean(true);
+    out.writeString("monster");
+    out.writePath(new SimpleIPath("character/monster"));
+    out.writeString("monster");
+    out.writePoint(new Point(2, -3));
+    out.flush();
+    // the same string is stored once
+    assertEquals(List.of("monster", "character/monster"), out.strings());
+
+    SnapshotInput in = new SnapshotInput(bytes.toByteArray(), out.strings());
+    assertEquals(0, in.readVarInt());
+    assertEquals(300, in.readVarInt());
+    assertEquals(Integer.MAX_VALUE, in.readVarInt());
+    assertEquals(-1, in.readInt());
+    assertEquals(Integer.MIN_VALUE, in.readInt());
+    assertEquals(1.5f, in.readFloat(), 0f);
+    assertTrue(in.readBoolean());
+    assertEquals("monster", in.readString());
+    assertEquals("character/monster", in.readPath().pathString());
+    assertEquals("monster", in.readString());
+    Point point = in.readPoint();
+    assertEquals(2, point.x, 0f);
+    assertEquals(-3, point.y, 0f);
+  }
+
+  /** WTF? . */
+  @Test
+  public void levelAndEntitiesRoundTrip() throws IOException {
+    LevelElement[][] layout = {
+      {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
+      {LevelElement.WALL, LevelElement.FLOOR, LevelElement.EXIT, LevelElement.WALL},
+      {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
+    };
+    TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+    level.startTile(level.tileAt(new Coordinate(1, 1)));
+    level.tileAt(new Coordinate(0, 0)).tintColor(0x11223344);
+    level.tileAt(new Coordinate(3, 2)).visible(true);
+    ((ExitTile) level.tileAt(new Coordinate(2, 1))).open();
+    Game.add(new LevelSystem(null, null, () -> {}));
+    Game.currentLevel(level);
+
+    Entity entity = new Entity("moving");
+    entity.add(new PositionComponent(1.5f, 1.25f));
+    VelocityComponent vc = new VelocityComponent(2, 3);
+    vc.currentXVelocity(0.5f);
+    vc.canEnterEmptyTiles(true);
+    entity.add(vc);
+    Game.add(entity);
+    // without serializable components
+    Game.add(new Entity("empty"));
+
+    Snapshot.World world = Snapshot.read(new ByteArrayInputStream(Snapshot.capture()));
+
+    ILevel restored = world.level();
+    assertEquals(level.layout().length, restored.layout().length);
+    assertEquals(level.layout()[0].length, restored.layout()[0].length);
+    for (int y = 0; y < layout.length; y++) {
+      for (int x = 0; x < layout[0].length; x++) {
+        Tile expected = level.layout()[y][x];
+        Tile actual = restored.layout()[y][x];
+        assertSame(expected.levelElement(), actual.levelElement());
+        assertSame(expected.designLabel(), actual.designLabel());
+        assertEquals(expected.texturePath().pathString(), actual.texturePath().pathString());
+        assertEquals(expected.visible(), actual.visible());
+        assertEquals(expected.tintColor(), actual.tintColor());
+      }
+    }
+    assertEquals(new Coordinate(1, 1), restored.startTile().coordinate());
+    assertTrue(((ExitTile) restored.tileAt(new Coordinate(2, 1))).isOpen());
+    assertFalse(world.heroPosition().isPresent());
+
+    assertEquals(1, world.entities().size());
+    Entity copy = world.entities().get(0);
+    assertEquals("moving", copy.name());
+    Point position = copy.fetch(PositionComponent.class).orElseThrow().position();
+    assertEquals(1.5f, position.x, 0f);
+    assertEquals(1.25f, position.y, 0f);
+    VelocityComponent copiedVc = copy.fetch(VelocityComponent.class).orElseThrow();
+    assertEquals(2, copiedVc.xVelocity(), 0f);
+    assertEquals(3, copiedVc.yVelocity(), 0f);
+    assertEquals(0.5f, copiedVc.currentXVelocity(), 0f);
+    assertTrue(copiedVc.canEnterEmptyTiles());
+  }
+}